@@ -0,0 +1,89 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.JwtConfig;
+import com.example.demo.entity.User;
+import com.example.demo.util.JwtUtil;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 실행되는 JWT 검증: 캐시된 authenticate vs 매번 서명 검증
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtParser parser;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtConfig config = new JwtConfig();
+        inject(config, "secret", "MySecretKeyForJWTTokenGeneration12345678901234567890");
+        inject(config, "expiration", 86_400_000L);
+
+        jwtUtil = new JwtUtil();
+        inject(jwtUtil, "jwtConfig", config);
+        Method init = JwtUtil.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(jwtUtil);
+
+        parser = Jwts.parser().verifyWith(config.getSigningKey()).build();
+
+        tokens = new String[SyntheticData.EMPLOYEES];
+        for (int i = 0; i < tokens.length; i++) {
+            User user = new User();
+            user.setUserId((long) (i + 1));
+            user.setEmail("user" + i + "@example.com");
+            user.setRole(User.UserRole.employee);
+            tokens[i] = jwtUtil.generateToken(user);
+        }
+    }
+
+    @Benchmark
+    public void authenticateCached(Blackhole bh) {
+        bh.consume(jwtUtil.authenticate(nextToken()));
+    }
+
+    @Benchmark
+    public void parseAndVerifySignature(Blackhole bh) {
+        bh.consume(parser.parseSignedClaims(nextToken()).getPayload());
+    }
+
+    @Benchmark
+    public void validateToken(Blackhole bh) {
+        int i = next;
+        bh.consume(jwtUtil.validateToken(nextToken(), "user" + i + "@example.com"));
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return token;
+    }
+
+    private static void inject(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
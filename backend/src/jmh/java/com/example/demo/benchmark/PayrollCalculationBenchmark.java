@@ -0,0 +1,89 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.util.PayCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 월 급여 금액 계산: 기존 float 시간 * BigDecimal 방식 vs 정수 분/1/100원 고정소수점 방식
+// 직원 100명 기준 1회 계산
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollCalculationBenchmark {
+
+    private static final int EMPLOYEES = 100;
+    private static final BigDecimal MULTIPLIER = BigDecimal.valueOf(1.5);
+
+    private final PayCalculator calculator = new PayCalculator();
+    private final PayCalculator.PayAmounts amounts = new PayCalculator.PayAmounts();
+
+    private BigDecimal[] hourly;
+    private long[] hourlyMinor;
+    private long[][] minutes; // 직원별 {정규, 연장, 야간, 휴일}
+    private List<float[]> hours;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        hourly = new BigDecimal[EMPLOYEES];
+        hourlyMinor = new long[EMPLOYEES];
+        minutes = new long[EMPLOYEES][];
+        hours = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            hourly[i] = BigDecimal.valueOf(1_003_000 + random.nextInt(500_000), 2);
+            hourlyMinor[i] = PayCalculator.toMinor(hourly[i]);
+            minutes[i] = new long[]{
+                    120 * 60 + random.nextInt(60 * 60),
+                    random.nextInt(20 * 60),
+                    random.nextInt(40 * 60),
+                    random.nextInt(30 * 60)
+            };
+            float[] h = new float[4];
+            for (int k = 0; k < 4; k++) {
+                h[k] = minutes[i][k] / 60f;
+            }
+            hours.add(h);
+        }
+    }
+
+    // 변경 전 PayrollService.calculateForUser 의 금액 계산
+    @Benchmark
+    public void legacyFloatBigDecimal(Blackhole bh) {
+        for (int i = 0; i < EMPLOYEES; i++) {
+            float[] h = hours.get(i);
+            BigDecimal basePay = hourly[i].multiply(BigDecimal.valueOf(h[0]));
+            BigDecimal overtimePay = hourly[i].multiply(BigDecimal.valueOf(h[1])).multiply(MULTIPLIER);
+            BigDecimal nightPay = hourly[i].multiply(BigDecimal.valueOf(h[2])).multiply(MULTIPLIER);
+            BigDecimal holidayPay = hourly[i].multiply(BigDecimal.valueOf(h[3])).multiply(MULTIPLIER);
+            bh.consume(basePay.add(overtimePay).add(nightPay).add(holidayPay).setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole bh) {
+        for (int i = 0; i < EMPLOYEES; i++) {
+            long[] m = minutes[i];
+            calculator.calculate(hourlyMinor[i], -1, m[0], m[1], m[2], m[3], amounts);
+            bh.consume(amounts.getTotalPay());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.service.schedule.LocalSearchScheduleSolver;
+import com.example.demo.service.schedule.ScheduleProblem;
+import com.example.demo.service.schedule.ShiftIntervalIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 스케줄 생성 (AI 미사용 시 경로): 한 달 솔버 실행, 기존 근무 겹침 색인 생성/조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleBenchmark {
+
+    private static final int SLOT_MINUTES = 60;
+    private static final int SLOTS_PER_DAY = 16;
+
+    private final LocalSearchScheduleSolver solver = new LocalSearchScheduleSolver();
+    private ScheduleProblem problem;
+    private List<SyntheticData.Shift> shifts;
+    private ShiftIntervalIndex index;
+    private LocalDateTime[] candidates;
+
+    @Setup
+    public void setUp() {
+        problem = SyntheticData.monthProblem(SyntheticData.EMPLOYEES, 2L);
+        shifts = SyntheticData.shifts(SyntheticData.EMPLOYEES, SyntheticData.DAYS, 3L);
+        index = buildIndex();
+        Random random = new Random(4L);
+        candidates = new LocalDateTime[10_000];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = SyntheticData.START.plusDays(random.nextInt(SyntheticData.DAYS)).atTime(random.nextInt(20), 0);
+        }
+    }
+
+    @Benchmark
+    public void solveMonth(Blackhole bh) {
+        bh.consume(solver.solve(problem));
+    }
+
+    @Benchmark
+    public void buildBusyShiftIndex(Blackhole bh) {
+        bh.consume(buildIndex());
+    }
+
+    // buildProblem 의 타임별 가용 여부 확인: 직원 100명 x 31일 x 16타임
+    @Benchmark
+    public void maskBusySlotsForMonth(Blackhole bh) {
+        for (long userId = 1; userId <= SyntheticData.EMPLOYEES; userId++) {
+            for (int day = 0; day < 31; day++) {
+                LocalDateTime open = SyntheticData.START.plusDays(day).atTime(7, 0);
+                long mask = 0;
+                for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                    LocalDateTime slotStart = open.plusMinutes((long) slot * SLOT_MINUTES);
+                    if (!index.overlaps(userId, slotStart, slotStart.plusMinutes(SLOT_MINUTES))) {
+                        mask |= 1L << slot;
+                    }
+                }
+                bh.consume(mask);
+            }
+        }
+    }
+
+    // 후보 근무 1만 건의 겹침 확인 (직원을 돌아가며)
+    @Benchmark
+    public void checkTenThousandCandidates(Blackhole bh) {
+        int conflicts = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            long userId = i % SyntheticData.EMPLOYEES + 1;
+            if (index.overlaps(userId, candidates[i], candidates[i].plusHours(4))) {
+                conflicts++;
+            }
+        }
+        bh.consume(conflicts);
+    }
+
+    private ShiftIntervalIndex buildIndex() {
+        ShiftIntervalIndex.Builder builder = ShiftIntervalIndex.builder();
+        for (SyntheticData.Shift shift : shifts) {
+            builder.add(shift.userId, shift.start, shift.end);
+        }
+        return builder.build();
+    }
+}
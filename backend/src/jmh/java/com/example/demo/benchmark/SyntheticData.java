@@ -0,0 +1,83 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.service.schedule.ScheduleProblem;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 합성 데이터 (시드 고정, 실행마다 같은 데이터)
+// 기본 규모: 직원 100명 x 1년
+final class SyntheticData {
+
+    static final int EMPLOYEES = 100;
+    static final int DAYS = 365;
+    static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private SyntheticData() {
+    }
+
+    // 직원별 근무 (주 5일 안팎, 06:00~22:00 사이 시작, 3~10시간, 일부는 자정을 넘김)
+    static List<Shift> shifts(int employees, int days, long seed) {
+        Random random = new Random(seed);
+        List<Shift> shifts = new ArrayList<>(employees * days * 5 / 7);
+        for (int e = 0; e < employees; e++) {
+            long userId = e + 1;
+            for (int d = 0; d < days; d++) {
+                if (random.nextInt(7) < 2) continue;
+                LocalDate date = START.plusDays(d);
+                LocalDateTime in = date.atTime(6 + random.nextInt(17), random.nextInt(4) * 15);
+                LocalDateTime out = in.plusMinutes(180 + random.nextInt(7 * 60 + 1));
+                shifts.add(new Shift(userId, date, in, out));
+            }
+        }
+        return shifts;
+    }
+
+    // 한 달 스케줄 생성 문제 (07:00 부터 1시간 타임 16개, 역할 2개, 월요일 휴무)
+    static ScheduleProblem monthProblem(int employees, long seed) {
+        Random random = new Random(seed);
+        int days = 31;
+        int slots = 16;
+        ScheduleProblem problem = new ScheduleProblem(START, days, LocalTime.of(7, 0), 60, slots);
+        problem.setStaffRange(3, 6);
+        problem.setShiftRange(3, 8);
+        problem.setRestMinutes(11 * 60);
+        problem.addRole("manager", 1, 2);
+        problem.addRole("kitchen", 1, null);
+        for (int d = 0; d < days; d++) {
+            if (START.plusDays(d).getDayOfWeek() == DayOfWeek.MONDAY) {
+                problem.setWorkingDay(d, false);
+            }
+        }
+        String[] positions = {"manager", "kitchen", "hall", null};
+        for (int i = 0; i < employees; i++) {
+            int e = problem.addEmployee((long) (i + 1), positions[i % positions.length]);
+            for (int d = 0; d < days; d++) {
+                if (random.nextInt(10) < 3) continue;
+                int from = random.nextInt(slots / 2);
+                int to = Math.min(slots, from + 4 + random.nextInt(slots));
+                problem.setAvailability(e, d, ((1L << (to - from)) - 1) << from);
+            }
+        }
+        return problem;
+    }
+
+    static final class Shift {
+        final long userId;
+        final LocalDate date;
+        final LocalDateTime start;
+        final LocalDateTime end;
+
+        Shift(long userId, LocalDate date, LocalDateTime start, LocalDateTime end) {
+            this.userId = userId;
+            this.date = date;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
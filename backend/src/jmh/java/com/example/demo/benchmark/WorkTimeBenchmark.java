@@ -0,0 +1,54 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.util.WorkTimeCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 출퇴근 기록 한 건의 야간/휴일 분할 (AttendanceService.fillWorkSegments 의 계산 부분)
+// 직원 100명 x 1년 근무 전체를 한 번에 처리
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkTimeBenchmark {
+
+    private final WorkTimeCalculator calculator = new WorkTimeCalculator();
+    private List<SyntheticData.Shift> shifts;
+
+    @Setup
+    public void setUp() {
+        shifts = SyntheticData.shifts(SyntheticData.EMPLOYEES, SyntheticData.DAYS, 1L);
+    }
+
+    @Benchmark
+    public void splitDefaultWindow(Blackhole bh) {
+        for (SyntheticData.Shift shift : shifts) {
+            bh.consume(calculator.split(shift.start, shift.end));
+        }
+    }
+
+    // 근무지별 야간 구간 설정 (23:00~07:00)
+    @Benchmark
+    public void splitCustomWindow(Blackhole bh) {
+        LocalTime nightStart = LocalTime.of(23, 0);
+        LocalTime nightEnd = LocalTime.of(7, 0);
+        for (SyntheticData.Shift shift : shifts) {
+            bh.consume(calculator.split(shift.start, shift.end, nightStart, nightEnd, WorkTimeCalculator.DEFAULT_HOLIDAYS));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.entity.Attendance;
+import com.example.demo.entity.SchedulePreference;
+import com.example.demo.entity.SchedulePreferenceSlot;
+import com.example.demo.entity.TipPost;
+import com.example.demo.entity.User;
+import com.example.demo.entity.WorkInfo;
+import com.example.demo.entity.Workplace;
+import com.example.demo.repository.AttendanceRepository;
+import com.example.demo.repository.SchedulePreferenceRepository;
+import com.example.demo.repository.TipPostRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.WorkInfoRepository;
+import com.example.demo.repository.WorkplaceRepository;
+import com.example.demo.service.WorkHourRollupService;
+import com.example.demo.service.board.BoardSearchIndex;
+import com.example.demo.util.JwtUtil;
+import com.example.demo.util.WorkTimeCalculator;
+import org.springframework.context.ApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 근무지 N개 x 직원 M명 x K개월 출퇴근 기록 + 다음 달 근무 희망 시간 (+ --tips 개 꿀팁 게시글) 생성
+// 저장은 리포지토리 saveAll (시퀀스 ID + JDBC 배치), 근무 시간 집계는 마지막에 한 번에 재구성
+final class DataSeeder {
+
+    private static final int BATCH = 1000;
+
+    private final LoadTestConfig config;
+    private final UserRepository userRepository;
+    private final WorkplaceRepository workplaceRepository;
+    private final WorkInfoRepository workInfoRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final SchedulePreferenceRepository schedulePreferenceRepository;
+    private final TipPostRepository tipPostRepository;
+    private final WorkHourRollupService workHourRollupService;
+    private final BoardSearchIndex boardSearchIndex;
+    private final WorkTimeCalculator workTimeCalculator;
+    private final JwtUtil jwtUtil;
+
+    DataSeeder(LoadTestConfig config, ApplicationContext context) {
+        this.config = config;
+        this.userRepository = context.getBean(UserRepository.class);
+        this.workplaceRepository = context.getBean(WorkplaceRepository.class);
+        this.workInfoRepository = context.getBean(WorkInfoRepository.class);
+        this.attendanceRepository = context.getBean(AttendanceRepository.class);
+        this.schedulePreferenceRepository = context.getBean(SchedulePreferenceRepository.class);
+        this.tipPostRepository = context.getBean(TipPostRepository.class);
+        this.workHourRollupService = context.getBean(WorkHourRollupService.class);
+        this.boardSearchIndex = context.getBean(BoardSearchIndex.class);
+        this.workTimeCalculator = context.getBean(WorkTimeCalculator.class);
+        this.jwtUtil = context.getBean(JwtUtil.class);
+    }
+
+    SeedData seed() {
+        Random random = new Random(config.seed);
+        YearMonth current = YearMonth.now();
+        YearMonth firstMonth = current.minusMonths(config.months);
+        YearMonth targetMonth = current.plusMonths(1);
+
+        List<SeedData.SeededWorkplace> seeded = new ArrayList<>();
+        List<Attendance> attendances = new ArrayList<>(BATCH);
+        List<User> owners = new ArrayList<>();
+        long attendanceCount = 0;
+
+        for (int w = 0; w < config.workplaces; w++) {
+            User owner = userRepository.save(user("owner" + w, User.UserRole.owner));
+            owners.add(owner);
+            Workplace workplace = new Workplace();
+            workplace.setUser(owner);
+            workplace.setWorkName("loadtest-" + w);
+            workplace.setStatus(Workplace.WorkplaceStatus.active);
+            workplace = workplaceRepository.save(workplace);
+
+            List<User> employees = new ArrayList<>();
+            List<WorkInfo> infos = new ArrayList<>();
+            for (int e = 0; e < config.employeesPerWorkplace; e++) {
+                employees.add(user("employee" + w + "-" + e, User.UserRole.employee));
+            }
+            employees = userRepository.saveAll(employees);
+            for (User employee : employees) {
+                WorkInfo info = new WorkInfo();
+                info.setUser(employee);
+                info.setWorkplace(workplace);
+                info.setHourlyWage(BigDecimal.valueOf(10030 + random.nextInt(5000)));
+                infos.add(info);
+            }
+            workInfoRepository.saveAll(infos);
+
+            List<SeedData.SeededEmployee> seededEmployees = new ArrayList<>();
+            for (User employee : employees) {
+                seededEmployees.add(new SeedData.SeededEmployee(employee.getUserId(), jwtUtil.generateToken(employee)));
+                for (LocalDate day = firstMonth.atDay(1); day.isBefore(current.atDay(1)); day = day.plusDays(1)) {
+                    if (random.nextInt(7) < 2) continue;
+                    attendances.add(attendance(employee, workplace, day, random));
+                    if (attendances.size() == BATCH) {
+                        attendanceRepository.saveAll(attendances);
+                        attendanceCount += attendances.size();
+                        attendances.clear();
+                    }
+                }
+                schedulePreferenceRepository.save(preference(employee, workplace, targetMonth, random));
+            }
+            seeded.add(new SeedData.SeededWorkplace(
+                    workplace.getWorkplaceId(), jwtUtil.generateToken(owner), seededEmployees));
+        }
+        attendanceRepository.saveAll(attendances);
+        attendanceCount += attendances.size();
+
+        seedTips(owners, random);
+        // 리포지토리로 바로 넣은 게시글은 PostService 를 거치지 않으므로 검색 색인을 다시 만듦
+        boardSearchIndex.rebuild();
+
+        workHourRollupService.rebuild(firstMonth.atDay(1), current.atDay(1).minusDays(1));
+        return new SeedData(seeded, firstMonth, config.months, targetMonth, attendanceCount);
+    }
+
+    // 꿀팁 게시글 (본문은 목록 조회에서 읽지 않아야 하는 긴 텍스트)
+    private void seedTips(List<User> authors, Random random) {
+        String content = "꿀팁 본문 ".repeat(300);
+        List<TipPost> posts = new ArrayList<>(BATCH);
+        for (int i = 0; i < config.tips; i++) {
+            TipPost post = new TipPost();
+            post.setUser(authors.get(random.nextInt(authors.size())));
+            post.setTitle("loadtest tip " + i);
+            post.setContent(content);
+            post.setLikes(random.nextInt(50));
+            post.setDislikes(random.nextInt(5));
+            post.setViews(random.nextInt(1000));
+            posts.add(post);
+            if (posts.size() == BATCH) {
+                tipPostRepository.saveAll(posts);
+                posts.clear();
+            }
+        }
+        tipPostRepository.saveAll(posts);
+    }
+
+    private User user(String name, User.UserRole role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@loadtest.local");
+        user.setPassword("loadtest");
+        user.setRole(role);
+        return user;
+    }
+
+    // AttendanceService 와 같은 방식으로 근무/야간/휴일 시간 채움
+    private Attendance attendance(User employee, Workplace workplace, LocalDate day, Random random) {
+        LocalDateTime in = day.atTime(7 + random.nextInt(14), random.nextInt(4) * 15);
+        LocalDateTime out = in.plusMinutes(240 + random.nextInt(6 * 60));
+        WorkTimeCalculator.WorkSegments segments = workTimeCalculator.split(in, out);
+        long total = segments.getTotalMinutes();
+        int rest = total >= 8 * 60 ? 60 : total >= 4 * 60 ? 30 : 0;
+        long effective = total - rest;
+
+        Attendance attendance = new Attendance();
+        attendance.setUser(employee);
+        attendance.setWorkplace(workplace);
+        attendance.setWorkDate(day);
+        attendance.setCheckIn(in);
+        attendance.setCheckOut(out);
+        attendance.setRestMinutes(rest);
+        attendance.setWorkHours(effective / 60f);
+        attendance.setRegularHours(effective / 60f);
+        attendance.setOvertimeHours(0f);
+        attendance.setNightHours(segments.getNightMinutes() / 60f);
+        attendance.setHolidayHours(segments.getHolidayMinutes() * effective / total / 60f);
+        attendance.setApproved(true);
+        return attendance;
+    }
+
+    private SchedulePreference preference(User employee, Workplace workplace, YearMonth month, Random random) {
+        SchedulePreference preference = new SchedulePreference();
+        preference.setUser(employee);
+        preference.setWorkplace(workplace);
+        preference.setTargetMonth(month.atDay(1));
+        for (int d = 1; d <= month.lengthOfMonth(); d++) {
+            if (random.nextInt(10) < 3) continue;
+            SchedulePreferenceSlot slot = new SchedulePreferenceSlot();
+            slot.setWorkDate(month.atDay(d));
+            int startHour = 9 + random.nextInt(4) * 2;
+            slot.setStartTime(LocalTime.of(startHour, 0));
+            slot.setEndTime(LocalTime.of(Math.min(22, startHour + 6 + random.nextInt(3) * 2), 0));
+            preference.addSlot(slot);
+        }
+        return preference;
+    }
+}
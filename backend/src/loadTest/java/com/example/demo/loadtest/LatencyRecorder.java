@@ -0,0 +1,59 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 엔드포인트별 응답 시간(마이크로초) 기록, 종료 후 정렬해 백분위 계산
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long success;
+    private long clientErrors;
+    private long serverErrors;
+    private long failures;
+
+    synchronized void record(long micros, int status) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = micros;
+        if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        } else {
+            success++;
+        }
+    }
+
+    // 연결 실패, 타임아웃 등 응답을 받지 못한 경우
+    synchronized void fail() {
+        failures++;
+    }
+
+    synchronized Map<String, Object> summary(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", count);
+        result.put("success", success);
+        result.put("clientErrors", clientErrors);
+        result.put("serverErrors", serverErrors);
+        result.put("failures", failures);
+        result.put("throughputPerSec", count / elapsedSeconds);
+        result.put("p50Ms", percentile(sorted, 0.50) / 1000.0);
+        result.put("p90Ms", percentile(sorted, 0.90) / 1000.0);
+        result.put("p99Ms", percentile(sorted, 0.99) / 1000.0);
+        result.put("maxMs", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000.0);
+        return result;
+    }
+
+    // nearest-rank 백분위
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
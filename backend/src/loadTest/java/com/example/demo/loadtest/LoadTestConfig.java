@@ -0,0 +1,105 @@
+package com.example.demo.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 부하 테스트 설정 (--key=value 인자, 없으면 기본값)
+// 예: --workplaces=5 --employees=20 --months=3 --users=32 --duration=60 --db=h2
+//     --mix=checkIn:50,attendanceList:30,payroll:15,generate:5 --threads=platform|virtual
+//     --tips=5000 --mix=tipFeed:100 (게시글 수를 바꿔 가며 꿀팁 목록 p99 비교)
+//     --tips=5000 --mix=search:100 (게시판 검색)
+final class LoadTestConfig {
+
+    final int workplaces;
+    final int employeesPerWorkplace;
+    final int months;
+    final int tips;
+    final int virtualUsers;
+    final int durationSeconds;
+    final int warmupSeconds;
+    final Database database;
+    final Threads threads;
+    final Map<Endpoint, Integer> mix;
+    final String reportPath;
+    final long seed;
+
+    enum Database {
+        H2, MYSQL
+    }
+
+    // 서버 요청 처리 스레드 (PLATFORM: 톰캣 기본 스레드 풀, VIRTUAL: spring.threads.virtual.enabled)
+    enum Threads {
+        PLATFORM, VIRTUAL
+    }
+
+    enum Endpoint {
+        checkIn, attendanceList, payroll, generate, tipFeed, search
+    }
+
+    private LoadTestConfig(Map<String, String> args) {
+        this.workplaces = Integer.parseInt(args.getOrDefault("workplaces", "5"));
+        this.employeesPerWorkplace = Integer.parseInt(args.getOrDefault("employees", "20"));
+        this.months = Integer.parseInt(args.getOrDefault("months", "3"));
+        this.tips = Integer.parseInt(args.getOrDefault("tips", "0"));
+        this.virtualUsers = Integer.parseInt(args.getOrDefault("users", "32"));
+        this.durationSeconds = Integer.parseInt(args.getOrDefault("duration", "60"));
+        this.warmupSeconds = Integer.parseInt(args.getOrDefault("warmup", "10"));
+        this.database = Database.valueOf(args.getOrDefault("db", "h2").toUpperCase());
+        this.threads = Threads.valueOf(args.getOrDefault("threads", "platform").toUpperCase());
+        this.mix = parseMix(args.getOrDefault("mix", "checkIn:50,attendanceList:30,payroll:15,generate:5"));
+        // 스레드 모드별로 결과 파일을 나눠 두 실행을 나란히 비교할 수 있게 함
+        this.reportPath = args.getOrDefault("report",
+                "build/reports/loadtest/result-" + threads.name().toLowerCase() + ".json");
+        this.seed = Long.parseLong(args.getOrDefault("seed", "42"));
+        if (workplaces < 1 || employeesPerWorkplace < 1 || months < 1 || virtualUsers < 1 || durationSeconds < 1) {
+            throw new IllegalArgumentException("workplaces, employees, months, users, duration 은 1 이상이어야 합니다");
+        }
+    }
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return new LoadTestConfig(values);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] kv = part.trim().split(":");
+            int weight = Integer.parseInt(kv[1]);
+            if (weight > 0) {
+                mix.put(Endpoint.valueOf(kv[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 가중치가 1 이상인 엔드포인트가 있어야 합니다");
+        }
+        return mix;
+    }
+
+    // Spring Boot 실행 속성 (포트 자동 할당, SQL 로그 끔)
+    Map<String, Object> applicationProperties() {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("server.port", 0);
+        props.put("spring.jpa.show-sql", false);
+        props.put("spring.jpa.properties.hibernate.format_sql", false);
+        props.put("spring.h2.console.enabled", false);
+        props.put("schedule.ai.enabled", false);
+        props.put("logging.level.root", "WARN");
+        props.put("spring.threads.virtual.enabled", threads == Threads.VIRTUAL);
+        if (database == Database.MYSQL) {
+            // 오프라인 실행을 위해 H2 의 MySQL 호환 모드 + MySQL 방언 사용
+            props.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+            props.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.MySQLDialect");
+        } else {
+            props.put("spring.datasource.url", "jdbc:h2:mem:loadtest");
+        }
+        return props;
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// REST API 부하 테스트: 앱을 같은 JVM 에서 띄우고 시드 데이터 위에서 가상 사용자 트래픽을 보냄
+// 실행: ./gradlew loadTest -PloadTest.args="--users=64 --duration=120"
+public class LoadTestRunner {
+
+    private final LoadTestConfig config;
+    private final SeedData seed;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<LoadTestConfig.Endpoint, LatencyRecorder> recorders = new EnumMap<>(LoadTestConfig.Endpoint.class);
+    private final List<LoadTestConfig.Endpoint> weighted = new ArrayList<>();
+    private final int totalEmployees;
+
+    // 출근 요청마다 (직원, 날짜) 조합이 겹치지 않도록 순번으로 배정
+    private final AtomicLong checkInSequence = new AtomicLong();
+
+    private volatile boolean recording;
+
+    LoadTestRunner(LoadTestConfig config, SeedData seed, int port) {
+        this.config = config;
+        this.seed = seed;
+        this.baseUrl = "http://localhost:" + port;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, config.virtualUsers / 4)))
+                .build();
+        this.totalEmployees = seed.workplaces.size() * config.employeesPerWorkplace;
+        config.mix.forEach((endpoint, weight) -> {
+            recorders.put(endpoint, new LatencyRecorder());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .properties(config.applicationProperties())
+                .run();
+        int exitCode = 0;
+        try {
+            int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+            long seedStarted = System.nanoTime();
+            SeedData seed = new DataSeeder(config, context).seed();
+            System.out.printf("시드 완료: 근무지 %d, 직원 %d, 출퇴근 기록 %d건 (%d ms)%n",
+                    seed.workplaces.size(), seed.workplaces.size() * config.employeesPerWorkplace,
+                    seed.attendanceCount, (System.nanoTime() - seedStarted) / 1_000_000);
+
+            new LoadTestRunner(config, seed, port).run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    void run() throws Exception {
+        ExecutorService users = Executors.newFixedThreadPool(config.virtualUsers);
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+
+        for (int i = 0; i < config.virtualUsers; i++) {
+            users.submit(() -> {
+                while (System.nanoTime() < end) {
+                    recording = System.nanoTime() >= warmupEnd;
+                    LoadTestConfig.Endpoint endpoint = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                    send(endpoint);
+                }
+            });
+        }
+        users.shutdown();
+        users.awaitTermination(config.warmupSeconds + config.durationSeconds + 60L, TimeUnit.SECONDS);
+
+        report(config.durationSeconds);
+    }
+
+    private void send(LoadTestConfig.Endpoint endpoint) {
+        HttpRequest request = buildRequest(endpoint);
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (recording) {
+                recorders.get(endpoint).record((System.nanoTime() - started) / 1000, response.statusCode());
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            if (recording) {
+                recorders.get(endpoint).fail();
+            }
+        }
+    }
+
+    private HttpRequest buildRequest(LoadTestConfig.Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeedData.SeededWorkplace workplace = seed.workplaces.get(random.nextInt(seed.workplaces.size()));
+        switch (endpoint) {
+            case checkIn: {
+                long n = checkInSequence.getAndIncrement();
+                int index = (int) (n % totalEmployees);
+                SeedData.SeededWorkplace target = seed.workplaces.get(index / config.employeesPerWorkplace);
+                SeedData.SeededEmployee employee = target.employees.get(index % config.employeesPerWorkplace);
+                LocalDate workDate = LocalDate.now().plusDays(1 + n / totalEmployees);
+                return post("/api/attendance/check-in?workplaceId=" + target.workplaceId + "&workDate=" + workDate,
+                        employee.token, "");
+            }
+            case attendanceList:
+                return get("/api/attendance/workplace/" + workplace.workplaceId + "?size=50", workplace.ownerToken);
+            case payroll: {
+                YearMonth month = seed.firstMonth.plusMonths(random.nextInt(seed.months));
+                return post("/api/payroll/calculate", workplace.ownerToken, json(Map.of(
+                        "workplaceId", workplace.workplaceId,
+                        "year", month.getYear(),
+                        "month", month.getMonthValue())));
+            }
+            case generate: {
+                YearMonth month = seed.targetMonth;
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("workplaceId", workplace.workplaceId);
+                body.put("startDate", month.atDay(1).toString());
+                body.put("endDate", month.atEndOfMonth().toString());
+                body.put("openTime", "09:00");
+                body.put("closeTime", "22:00");
+                body.put("slotHours", 1);
+                body.put("minStaffPerSlot", 2);
+                body.put("maxStaffPerSlot", 4);
+                body.put("minShiftHours", 4);
+                body.put("maxShiftHours", 8);
+                body.put("restHours", 11);
+                body.put("overwriteExisting", true);
+                return post("/api/schedule/generate", workplace.ownerToken, json(body));
+            }
+            case tipFeed:
+                return get("/api/board/tip?size=20", workplace.ownerToken);
+            case search:
+                return get("/api/board/search?size=20&q=" + URLEncoder.encode("꿀팁 본문", StandardCharsets.UTF_8),
+                        workplace.ownerToken);
+            default:
+                throw new IllegalStateException("알 수 없는 엔드포인트: " + endpoint);
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void report(double elapsedSeconds) throws Exception {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n스레드: %s, DB: %s, 가상 사용자: %d%n", config.threads, config.database, config.virtualUsers);
+        System.out.printf("%-16s %9s %9s %9s %9s %9s %7s %7s%n",
+                "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "4xx", "5xx");
+        recorders.forEach((endpoint, recorder) -> {
+            Map<String, Object> summary = recorder.summary(elapsedSeconds);
+            endpoints.put(endpoint.name(), summary);
+            System.out.printf("%-16s %9d %9.1f %9.2f %9.2f %9.2f %7d %7d%n",
+                    endpoint, summary.get("requests"), summary.get("throughputPerSec"),
+                    summary.get("p50Ms"), summary.get("p99Ms"), summary.get("maxMs"),
+                    summary.get("clientErrors"), summary.get("serverErrors"));
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("database", config.database.name());
+        result.put("threads", config.threads.name());
+        result.put("workplaces", config.workplaces);
+        result.put("employeesPerWorkplace", config.employeesPerWorkplace);
+        result.put("months", config.months);
+        result.put("virtualUsers", config.virtualUsers);
+        result.put("durationSeconds", config.durationSeconds);
+        result.put("seededAttendances", seed.attendanceCount);
+        result.put("endpoints", endpoints);
+
+        File file = new File(config.reportPath);
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+        System.out.println("결과 저장: " + file.getAbsolutePath());
+    }
+}
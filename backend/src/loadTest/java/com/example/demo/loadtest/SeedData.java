@@ -0,0 +1,45 @@
+package com.example.demo.loadtest;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// 시드 결과: 요청 생성에 필요한 ID 와 토큰
+final class SeedData {
+
+    final List<SeededWorkplace> workplaces;
+    final YearMonth firstMonth;
+    final int months;
+    final YearMonth targetMonth;
+    final long attendanceCount;
+
+    SeedData(List<SeededWorkplace> workplaces, YearMonth firstMonth, int months, YearMonth targetMonth,
+             long attendanceCount) {
+        this.workplaces = workplaces;
+        this.firstMonth = firstMonth;
+        this.months = months;
+        this.targetMonth = targetMonth;
+        this.attendanceCount = attendanceCount;
+    }
+
+    static final class SeededWorkplace {
+        final Long workplaceId;
+        final String ownerToken;
+        final List<SeededEmployee> employees;
+
+        SeededWorkplace(Long workplaceId, String ownerToken, List<SeededEmployee> employees) {
+            this.workplaceId = workplaceId;
+            this.ownerToken = ownerToken;
+            this.employees = employees;
+        }
+    }
+
+    static final class SeededEmployee {
+        final Long userId;
+        final String token;
+
+        SeededEmployee(Long userId, String token) {
+            this.userId = userId;
+            this.token = token;
+        }
+    }
+}
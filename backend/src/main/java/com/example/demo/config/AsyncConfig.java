@@ -0,0 +1,63 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    @Value("${schedule.jobs.pool-size:2}")
+    private int poolSize;
+
+    @Value("${schedule.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${openai.max-concurrent-calls:4}")
+    private int aiChunkConcurrency;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 스케줄 생성 작업 전용 실행기
+    // 스레드 수와 대기열을 제한해 월말 동시 요청이 톰캣/DB 커넥션 풀을 잠식하지 않도록 함
+    // 대기열이 가득 차면 TaskRejectedException -> 컨트롤러에서 바쁨 응답
+    @Bean(name = "scheduleJobExecutor")
+    public ThreadPoolTaskExecutor scheduleJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("schedule-job-");
+        if (virtualThreads) {
+            // 동시 실행 수 제한은 그대로 두고 실행 스레드만 가상 스레드로 (OpenAI 대기 중 캐리어 스레드를 놓아줌)
+            executor.setThreadFactory(Thread.ofVirtual().name("schedule-job-", 0).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // AI 스케줄 주 단위 청크 요청 실행기 (동시 실행 수는 OpenAI 동시 호출 제한과 같게)
+    // 대기열이 가득 차면 요청한 스레드에서 직접 실행
+    @Bean(name = "aiChunkExecutor")
+    public ThreadPoolTaskExecutor aiChunkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aiChunkConcurrency);
+        executor.setMaxPoolSize(aiChunkConcurrency);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("ai-chunk-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("ai-chunk-", 0).factory());
+        }
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.config;
+
+import com.example.demo.util.AppMetrics;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 커넥션 동시 사용 수를 공정 세마포어로 제한하는 DataSource
+// 가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로, 커넥션 풀 앞에서 순서대로 기다리게 하고
+// acquireTimeoutMs 안에 못 얻으면 풀 대기(connection-timeout)까지 가지 않고 바로 실패
+// 세마포어 대기는 synchronized 가 아니라서 가상 스레드가 캐리어 스레드를 붙잡지 않음
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConcurrent, long acquireTimeoutMs) {
+        super(target);
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent 는 1 이상이어야 합니다");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        Metrics.gauge(AppMetrics.DATASOURCE_WAITING, permits, Semaphore::getQueueLength);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guarded(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guarded(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        Timer.Sample sample = AppMetrics.start();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 중단되었습니다");
+        }
+        AppMetrics.stop(sample, AppMetrics.DATASOURCE_ACQUIRE,
+                "outcome", acquired ? AppMetrics.SUCCESS : AppMetrics.FAILURE);
+        if (!acquired) {
+            throw new SQLTransientConnectionException("DB 커넥션 대기 시간(" + acquireTimeoutMs + "ms)을 초과했습니다");
+        }
+    }
+
+    // close() 가 처음 호출될 때 한 번만 허가를 반납
+    private Connection guarded(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    permits.release();
+                                }
+                            }
+                        default:
+                            try {
+                                return method.invoke(target, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.demo.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import retrofit2.Retrofit;
+
+import java.time.Duration;
 
 @Configuration
 public class OpenAIConfig {
@@ -11,12 +17,37 @@ public class OpenAIConfig {
     @Value("${openai.api.key:#{null}}")
     private String apiKey;
 
+    // 로컬 스텁 서버로 바꿔 끼울 수 있도록 주소를 설정으로 뺌
+    @Value("${openai.api.base-url:https://api.openai.com/}")
+    private String baseUrl;
+
+    @Value("${openai.api.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${openai.api.read-timeout-ms:20000}")
+    private long readTimeoutMs;
+
     @Bean
     public OpenAiService openAiService() {
         // API 키가 없으면 null 반환
         if (apiKey == null || apiKey.isEmpty()) {
             return null;
         }
-        return new OpenAiService(apiKey);
+        return create(apiKey, baseUrl, Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(readTimeoutMs));
+    }
+
+    // new OpenAiService(apiKey) 는 연결 타임아웃이 따로 없고 연결 실패 시 재시도까지 하므로
+    // 연결/읽기 타임아웃과 전체 호출 상한(연결 + 읽기)을 직접 지정한 클라이언트로 생성
+    public static OpenAiService create(String apiKey, String baseUrl, Duration connectTimeout, Duration readTimeout) {
+        ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+        OkHttpClient client = OpenAiService.defaultClient(apiKey, readTimeout).newBuilder()
+                .connectTimeout(connectTimeout)
+                .callTimeout(connectTimeout.plus(readTimeout))
+                .retryOnConnectionFailure(false)
+                .build();
+        Retrofit retrofit = OpenAiService.defaultRetrofit(client, mapper).newBuilder()
+                .baseUrl(baseUrl)
+                .build();
+        return new OpenAiService(retrofit.create(OpenAiApi.class), client.dispatcher().executorService());
     }
 }
@@ -1,7 +1,9 @@
 package com.example.demo.config;
 
 import com.example.demo.filter.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,6 +29,10 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // 관리(actuator) 전용 포트, 내부 주소에만 바인딩됨 (application.properties)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     // 비밀번호 인코더
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -51,6 +57,8 @@ public class SecurityConfig {
                 .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/api/test/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll() // 헬스 체크
+                .requestMatchers(this::isManagementPort).permitAll() // Prometheus 수집은 내부 관리 포트로만
                 .requestMatchers("/api/workplace/employee/**").permitAll()
                 .requestMatchers("/api/workplace/*/employees").permitAll()
                 .anyRequest().authenticated()
@@ -61,6 +69,10 @@ public class SecurityConfig {
         return http.build();
     }
 
+    private boolean isManagementPort(HttpServletRequest request) {
+        return managementPort > 0 && request.getLocalPort() == managementPort;
+    }
+
     // CORS 설정
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// 가상 스레드 모드에서만 DataSource 앞에 커넥션 동시 사용 제한을 붙임
+// (플랫폼 스레드 모드에서는 톰캣 스레드 수가 이미 동시 요청 수를 막고 있음)
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadDataSourceConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static + Environment 로 설정값을 읽음
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int maxConcurrent = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                long acquireTimeoutMs = environment.getProperty("app.datasource.acquire-timeout-ms", Long.class, 2000L);
+                return new ConnectionLimitingDataSource(dataSource, maxConcurrent, acquireTimeoutMs);
+            }
+        };
+    }
+}
@@ -2,14 +2,17 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.request.AttendanceCreateRequest;
 import com.example.demo.dto.response.AttendanceResponse;
+import com.example.demo.dto.response.CursorPageResponse;
+import com.example.demo.dto.response.WorkHourSummaryResponse;
 import com.example.demo.entity.Attendance;
 import com.example.demo.service.AttendanceService;
-import com.example.demo.util.JwtUtil;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.demo.service.WorkHourRollupService;
+import com.example.demo.util.JwtPrincipal;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -26,25 +29,23 @@ public class AttendanceController {
     private AttendanceService attendanceService;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private WorkHourRollupService workHourRollupService;
 
-    // 현재 사용자 ID 추출
-    private Long getUserIdFromToken(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.extractUserId(token);
+    // 현재 사용자 ID (JwtAuthenticationFilter 가 검증한 principal)
+    private Long getUserId(JwtPrincipal principal) {
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다");
         }
-        throw new RuntimeException("인증이 필요합니다");
+        return principal.getUserId();
     }
 
     // 알바생 출근 체크
     @PostMapping("/check-in")
     public ResponseEntity<?> checkIn(@RequestParam Long workplaceId,
                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate workDate,
-                                     HttpServletRequest request) {
+                                     @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
+            Long userId = getUserId(principal);
             Attendance attendance = attendanceService.checkIn(userId, workplaceId, workDate);
             
             Map<String, Object> response = new HashMap<>();
@@ -65,9 +66,9 @@ public class AttendanceController {
     @PostMapping("/check-out")
     public ResponseEntity<?> checkOut(@RequestParam Long workplaceId,
                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate workDate,
-                                      HttpServletRequest request) {
+                                      @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
+            Long userId = getUserId(principal);
             Attendance attendance = attendanceService.checkOut(userId, workplaceId, workDate);
             
             Map<String, Object> response = new HashMap<>();
@@ -129,9 +130,15 @@ public class AttendanceController {
 
     // 출퇴근 기록 조회 (근무지별)
     @GetMapping("/workplace/{workplaceId}")
-    public ResponseEntity<?> getAttendancesByWorkplace(@PathVariable Long workplaceId) {
+    public ResponseEntity<?> getAttendancesByWorkplace(
+            @PathVariable Long workplaceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
-            List<AttendanceResponse> attendances = attendanceService.getAttendancesByWorkplace(workplaceId);
+            CursorPageResponse<AttendanceResponse> attendances =
+                    attendanceService.getAttendancesByWorkplace(workplaceId, from, to, cursor, size);
             return ResponseEntity.ok(attendances);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -142,10 +149,16 @@ public class AttendanceController {
 
     // 출퇴근 기록 조회 (내 기록)
     @GetMapping("/my")
-    public ResponseEntity<?> getMyAttendances(HttpServletRequest request) {
+    public ResponseEntity<?> getMyAttendances(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
-            List<AttendanceResponse> attendances = attendanceService.getAttendancesByUser(userId);
+            Long userId = getUserId(principal);
+            CursorPageResponse<AttendanceResponse> attendances =
+                    attendanceService.getAttendancesByUser(userId, from, to, cursor, size);
             return ResponseEntity.ok(attendances);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -154,6 +167,25 @@ public class AttendanceController {
         }
     }
 
+    // 주간 근무 시간 (내 기록, 기본: 이번 주)
+    @GetMapping("/my/weekly-hours")
+    public ResponseEntity<?> getMyWeeklyHours(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal JwtPrincipal principal) {
+        try {
+            Long userId = getUserId(principal);
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end;
+            List<WorkHourSummaryResponse> weeks = workHourRollupService.getWeeklyByUser(userId, start, end);
+            return ResponseEntity.ok(weeks);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     // 출퇴근 기록 승인
     @PostMapping("/{attendanceId}/approve")
     public ResponseEntity<?> approveAttendance(@PathVariable Long attendanceId) {
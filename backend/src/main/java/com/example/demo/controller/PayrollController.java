@@ -2,12 +2,13 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.request.PayrollCalculateRequest;
 import com.example.demo.dto.response.PayrollResponse;
+import com.example.demo.dto.response.PayrollRunResponse;
 import com.example.demo.service.PayrollService;
-import com.example.demo.util.JwtUtil;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.demo.util.JwtPrincipal;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -21,23 +22,19 @@ public class PayrollController {
     @Autowired
     private PayrollService payrollService;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
-    private Long getUserIdFromToken(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.extractUserId(token);
+    // 현재 사용자 ID (JwtAuthenticationFilter 가 검증한 principal)
+    private Long getUserId(JwtPrincipal principal) {
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다");
         }
-        throw new RuntimeException("인증이 필요합니다");
+        return principal.getUserId();
     }
 
     // 급여 계산 (사장: 매장 단위 / 특정 직원 선택 가능)
     @PostMapping("/calculate")
     public ResponseEntity<?> calculate(@Valid @RequestBody PayrollCalculateRequest request) {
         try {
-            List<PayrollResponse> result = payrollService.calculateMonthly(request);
+            List<PayrollRunResponse> result = payrollService.calculateMonthly(request);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -82,9 +79,9 @@ public class PayrollController {
     @GetMapping("/my")
     public ResponseEntity<?> myPayrolls(@RequestParam int year,
                                         @RequestParam int month,
-                                        HttpServletRequest request) {
+                                        @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
+            Long userId = getUserId(principal);
             List<PayrollResponse> result = payrollService.findByUser(userId, year, month);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
@@ -4,13 +4,17 @@ import com.example.demo.dto.request.CommentCreateRequest;
 import com.example.demo.dto.request.PostCreateRequest;
 import com.example.demo.dto.request.PostUpdateRequest;
 import com.example.demo.dto.response.CommentResponse;
+import com.example.demo.dto.response.CursorPageResponse;
 import com.example.demo.dto.response.PostResponse;
+import com.example.demo.dto.response.PostSummaryResponse;
+import com.example.demo.dto.response.ReactionResponse;
+import com.example.demo.dto.response.SearchHitResponse;
 import com.example.demo.service.PostService;
-import com.example.demo.util.JwtUtil;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.demo.util.JwtPrincipal;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -24,23 +28,19 @@ public class PostController {
     @Autowired
     private PostService postService;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
-    private Long getUserIdFromToken(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.extractUserId(token);
+    // 현재 사용자 ID (JwtAuthenticationFilter 가 검증한 principal)
+    private Long getUserId(JwtPrincipal principal) {
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다");
         }
-        throw new RuntimeException("인증이 필요합니다");
+        return principal.getUserId();
     }
 
     // 꿀팁 게시판
     @PostMapping("/tip")
-    public ResponseEntity<?> createTip(@Valid @RequestBody PostCreateRequest request, HttpServletRequest http) {
+    public ResponseEntity<?> createTip(@Valid @RequestBody PostCreateRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             PostResponse res = postService.createTip(userId, request);
             return ResponseEntity.ok(res);
         } catch (Exception e) {
@@ -49,9 +49,9 @@ public class PostController {
     }
 
     @PutMapping("/tip/{postId}")
-    public ResponseEntity<?> updateTip(@PathVariable Long postId, @Valid @RequestBody PostUpdateRequest request, HttpServletRequest http) {
+    public ResponseEntity<?> updateTip(@PathVariable Long postId, @Valid @RequestBody PostUpdateRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             PostResponse res = postService.updateTip(postId, userId, request);
             return ResponseEntity.ok(res);
         } catch (Exception e) {
@@ -60,9 +60,9 @@ public class PostController {
     }
 
     @DeleteMapping("/tip/{postId}")
-    public ResponseEntity<?> deleteTip(@PathVariable Long postId, HttpServletRequest http) {
+    public ResponseEntity<?> deleteTip(@PathVariable Long postId, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             postService.deleteTip(postId, userId);
             return ResponseEntity.ok(Map.of("success", true));
         } catch (Exception e) {
@@ -70,10 +70,12 @@ public class PostController {
         }
     }
 
+    // 최신순 페이지 (본문 제외), 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
     @GetMapping("/tip")
-    public ResponseEntity<?> listTips() {
+    public ResponseEntity<?> listTips(@RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer size) {
         try {
-            List<PostResponse> res = postService.listTips();
+            CursorPageResponse<PostSummaryResponse> res = postService.getTipFeed(cursor, size);
             return ResponseEntity.ok(res);
         } catch (Exception e) {
             return error(e);
@@ -90,11 +92,34 @@ public class PostController {
         }
     }
 
+    // 좋아요/싫어요 (type=like|dislike, 사용자당 한 번, 다른 값을 보내면 바뀜)
+    @PutMapping("/tip/{postId}/reaction")
+    public ResponseEntity<?> react(@PathVariable Long postId, @RequestParam String type, @AuthenticationPrincipal JwtPrincipal principal) {
+        try {
+            Long userId = getUserId(principal);
+            ReactionResponse res = postService.react(postId, userId, type);
+            return ResponseEntity.ok(res);
+        } catch (Exception e) {
+            return error(e);
+        }
+    }
+
+    @DeleteMapping("/tip/{postId}/reaction")
+    public ResponseEntity<?> removeReaction(@PathVariable Long postId, @AuthenticationPrincipal JwtPrincipal principal) {
+        try {
+            Long userId = getUserId(principal);
+            ReactionResponse res = postService.removeReaction(postId, userId);
+            return ResponseEntity.ok(res);
+        } catch (Exception e) {
+            return error(e);
+        }
+    }
+
     // 후기 게시판
     @PostMapping("/review/{workplaceId}")
-    public ResponseEntity<?> createReview(@PathVariable Long workplaceId, @Valid @RequestBody PostCreateRequest request, HttpServletRequest http) {
+    public ResponseEntity<?> createReview(@PathVariable Long workplaceId, @Valid @RequestBody PostCreateRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             PostResponse res = postService.createReview(userId, workplaceId, request);
             return ResponseEntity.ok(res);
         } catch (Exception e) {
@@ -103,9 +128,9 @@ public class PostController {
     }
 
     @PutMapping("/review/{reviewId}")
-    public ResponseEntity<?> updateReview(@PathVariable Long reviewId, @Valid @RequestBody PostUpdateRequest request, HttpServletRequest http) {
+    public ResponseEntity<?> updateReview(@PathVariable Long reviewId, @Valid @RequestBody PostUpdateRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             PostResponse res = postService.updateReview(reviewId, userId, request);
             return ResponseEntity.ok(res);
         } catch (Exception e) {
@@ -114,9 +139,9 @@ public class PostController {
     }
 
     @DeleteMapping("/review/{reviewId}")
-    public ResponseEntity<?> deleteReview(@PathVariable Long reviewId, HttpServletRequest http) {
+    public ResponseEntity<?> deleteReview(@PathVariable Long reviewId, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             postService.deleteReview(reviewId, userId);
             return ResponseEntity.ok(Map.of("success", true));
         } catch (Exception e) {
@@ -144,11 +169,25 @@ public class PostController {
         }
     }
 
+    // 검색 (꿀팁·후기·댓글, 관련도 순), type=tip|review|comment 로 좁힐 수 있음, 다음 페이지는 nextCursor 를 cursor 로 전달
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam String q,
+                                    @RequestParam(required = false) String type,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(required = false) Integer size) {
+        try {
+            CursorPageResponse<SearchHitResponse> res = postService.search(q, type, cursor, size);
+            return ResponseEntity.ok(res);
+        } catch (Exception e) {
+            return error(e);
+        }
+    }
+
     // 댓글 (꿀팁 게시판)
     @PostMapping("/tip/{postId}/comment")
-    public ResponseEntity<?> createComment(@PathVariable Long postId, @Valid @RequestBody CommentCreateRequest request, HttpServletRequest http) {
+    public ResponseEntity<?> createComment(@PathVariable Long postId, @Valid @RequestBody CommentCreateRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             CommentResponse res = postService.createComment(userId, postId, request);
             return ResponseEntity.ok(res);
         } catch (Exception e) {
@@ -157,9 +196,9 @@ public class PostController {
     }
 
     @PutMapping("/tip/comment/{commentId}")
-    public ResponseEntity<?> updateComment(@PathVariable Long commentId, @Valid @RequestBody CommentCreateRequest request, HttpServletRequest http) {
+    public ResponseEntity<?> updateComment(@PathVariable Long commentId, @Valid @RequestBody CommentCreateRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             CommentResponse res = postService.updateComment(commentId, userId, request);
             return ResponseEntity.ok(res);
         } catch (Exception e) {
@@ -168,9 +207,9 @@ public class PostController {
     }
 
     @DeleteMapping("/tip/comment/{commentId}")
-    public ResponseEntity<?> deleteComment(@PathVariable Long commentId, HttpServletRequest http) {
+    public ResponseEntity<?> deleteComment(@PathVariable Long commentId, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(http);
+            Long userId = getUserId(principal);
             postService.deleteComment(commentId, userId);
             return ResponseEntity.ok(Map.of("success", true));
         } catch (Exception e) {
@@ -178,10 +217,13 @@ public class PostController {
         }
     }
 
+    // 작성순 페이지, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
     @GetMapping("/tip/{postId}/comment")
-    public ResponseEntity<?> listComments(@PathVariable Long postId) {
+    public ResponseEntity<?> listComments(@PathVariable Long postId,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer size) {
         try {
-            List<CommentResponse> res = postService.listComments(postId);
+            CursorPageResponse<CommentResponse> res = postService.listComments(postId, cursor, size);
             return ResponseEntity.ok(res);
         } catch (Exception e) {
             return error(e);
@@ -2,20 +2,29 @@ package com.example.demo.controller;
 
 import com.example.demo.dto.request.ScheduleGenerateRequest;
 import com.example.demo.dto.request.SchedulePreferenceRequest;
+import com.example.demo.dto.response.CursorPageResponse;
+import com.example.demo.dto.response.ScheduleResponse;
 import com.example.demo.entity.Schedule;
+import com.example.demo.service.ScheduleJobService;
 import com.example.demo.service.ScheduleService;
-import com.example.demo.util.JwtUtil;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.demo.service.schedule.ScheduleJob;
+import com.example.demo.util.JwtPrincipal;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/schedule")
@@ -25,23 +34,21 @@ public class ScheduleController {
     private ScheduleService scheduleService;
 
     @Autowired
-    private JwtUtil jwtUtil;
-
-    // 현재 사용자 ID 추출
-    private Long getUserIdFromToken(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.extractUserId(token);
+    private ScheduleJobService scheduleJobService;
+
+    // 현재 사용자 ID (JwtAuthenticationFilter 가 검증한 principal)
+    private Long getUserId(JwtPrincipal principal) {
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다");
         }
-        throw new RuntimeException("인증이 필요합니다");
+        return principal.getUserId();
     }
 
     // 알바생: 선호도 등록
     @PostMapping("/preference")
-    public ResponseEntity<?> savePreference(@Valid @RequestBody SchedulePreferenceRequest request, HttpServletRequest httpRequest) {
+    public ResponseEntity<?> savePreference(@Valid @RequestBody SchedulePreferenceRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(httpRequest);
+            Long userId = getUserId(principal);
             var saved = scheduleService.saveSchedulePreference(userId, request);
             
             Map<String, Object> response = new HashMap<>();
@@ -62,7 +69,9 @@ public class ScheduleController {
     @PostMapping("/generate")
     public ResponseEntity<?> generateSchedule(@Valid @RequestBody ScheduleGenerateRequest request) {
         try {
-            List<Schedule> schedules = scheduleService.generateOptimalSchedule(request);
+            List<ScheduleResponse> schedules = scheduleService.generateOptimalSchedule(request).stream()
+                    .map(scheduleService::toResponse)
+                    .collect(Collectors.toList());
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -78,6 +87,69 @@ public class ScheduleController {
         }
     }
 
+    // 사장: 비동기 스케줄 생성 작업 등록 (작업 ID 즉시 반환)
+    @PostMapping("/jobs")
+    public ResponseEntity<?> submitScheduleJob(@Valid @RequestBody ScheduleGenerateRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
+        try {
+            Long userId = getUserId(principal);
+            ScheduleJob job = scheduleJobService.submit(request, userId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "스케줄 생성 작업이 등록되었습니다");
+            response.put("job", scheduleJobService.toResponse(job));
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("success", "false");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    // 작업 상태 조회 (폴링)
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getScheduleJob(@PathVariable String jobId, @AuthenticationPrincipal JwtPrincipal principal) {
+        try {
+            Long userId = getUserId(principal);
+            ScheduleJob job = scheduleJobService.getJob(jobId, userId);
+            return ResponseEntity.ok(scheduleJobService.toResponse(job));
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    // 작업 상태 스트림 (SSE)
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScheduleJob(@PathVariable String jobId, @AuthenticationPrincipal JwtPrincipal principal) {
+        Long userId = getUserId(principal);
+        return scheduleJobService.subscribe(jobId, userId);
+    }
+
+    // 완료된 작업 결과 조회
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<?> getScheduleJobResult(@PathVariable String jobId, @AuthenticationPrincipal JwtPrincipal principal) {
+        try {
+            Long userId = getUserId(principal);
+            List<ScheduleResponse> schedules = scheduleJobService.getResult(jobId, userId);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "스케줄이 생성되었습니다");
+            response.put("schedules", schedules);
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("success", "false");
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     // 스케줄 수정
     @PutMapping("/{scheduleId}")
     public ResponseEntity<?> updateSchedule(
@@ -90,7 +162,7 @@ public class ScheduleController {
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("message", "스케줄이 수정되었습니다");
-            response.put("schedule", schedule);
+            response.put("schedule", scheduleService.toResponse(schedule));
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -122,9 +194,15 @@ public class ScheduleController {
 
     // 근무지 스케줄 조회
     @GetMapping("/workplace/{workplaceId}")
-    public ResponseEntity<?> getSchedulesByWorkplace(@PathVariable Long workplaceId) {
+    public ResponseEntity<?> getSchedulesByWorkplace(
+            @PathVariable Long workplaceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
-            List<Schedule> schedules = scheduleService.getSchedulesByWorkplace(workplaceId);
+            CursorPageResponse<ScheduleResponse> schedules =
+                    scheduleService.getSchedulesByWorkplace(workplaceId, from, to, cursor, size);
             return ResponseEntity.ok(schedules);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
@@ -135,10 +213,16 @@ public class ScheduleController {
 
     // 내 스케줄 조회
     @GetMapping("/my")
-    public ResponseEntity<?> getMySchedules(HttpServletRequest request) {
+    public ResponseEntity<?> getMySchedules(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
-            List<Schedule> schedules = scheduleService.getSchedulesByUser(userId);
+            Long userId = getUserId(principal);
+            CursorPageResponse<ScheduleResponse> schedules =
+                    scheduleService.getSchedulesByUser(userId, from, to, cursor, size);
             return ResponseEntity.ok(schedules);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
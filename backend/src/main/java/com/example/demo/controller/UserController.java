@@ -3,11 +3,10 @@ package com.example.demo.controller;
 import com.example.demo.dto.response.AuthResponse;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
-import com.example.demo.util.JwtUtil;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.demo.util.JwtPrincipal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,36 +20,25 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
     // 현재 로그인한 사용자 정보 조회
     @GetMapping("/me")
-    public ResponseEntity<?> getCurrentUser(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+    public ResponseEntity<?> getCurrentUser(@AuthenticationPrincipal JwtPrincipal principal) {
+        // 토큰 검증은 JwtAuthenticationFilter 에서 끝남
+        if (principal == null) {
             return ResponseEntity.status(401).body("토큰이 필요합니다");
         }
 
-        try {
-            String token = authHeader.substring(7);
-            String email = jwtUtil.extractEmail(token);
-            
-            Optional<User> userOpt = userRepository.findByEmail(email);
-            if (userOpt.isEmpty()) {
-                return ResponseEntity.status(404).body("사용자를 찾을 수 없습니다");
-            }
-
-            User user = userOpt.get();
-            return ResponseEntity.ok(new AuthResponse.UserInfo(
-                user.getUserId(),
-                user.getName(),
-                user.getEmail(),
-                user.getRole().name()
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.status(401).body("토큰이 유효하지 않습니다");
+        Optional<User> userOpt = userRepository.findById(principal.getUserId());
+        if (userOpt.isEmpty()) {
+            return ResponseEntity.status(404).body("사용자를 찾을 수 없습니다");
         }
+
+        User user = userOpt.get();
+        return ResponseEntity.ok(new AuthResponse.UserInfo(
+            user.getUserId(),
+            user.getName(),
+            user.getEmail(),
+            user.getRole().name()
+        ));
     }
 }
@@ -5,11 +5,11 @@ import com.example.demo.dto.response.WorkJoinRequestResponse;
 import com.example.demo.entity.WorkJoinRequest;
 import com.example.demo.entity.Workplace;
 import com.example.demo.service.WorkplaceService;
-import com.example.demo.util.JwtUtil;
-import jakarta.servlet.http.HttpServletRequest;
+import com.example.demo.util.JwtPrincipal;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -23,24 +23,19 @@ public class WorkplaceController {
     @Autowired
     private WorkplaceService workplaceService;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
-    // 현재 사용자 ID 추출
-    private Long getUserIdFromToken(HttpServletRequest request) {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            return jwtUtil.extractUserId(token);
+    // 현재 사용자 ID (JwtAuthenticationFilter 가 검증한 principal)
+    private Long getUserId(JwtPrincipal principal) {
+        if (principal == null) {
+            throw new RuntimeException("인증이 필요합니다");
         }
-        throw new RuntimeException("인증이 필요합니다");
+        return principal.getUserId();
     }
 
     // 근무지 생성
     @PostMapping
-    public ResponseEntity<?> createWorkplace(@Valid @RequestBody WorkplaceCreateRequest request, HttpServletRequest httpRequest) {
+    public ResponseEntity<?> createWorkplace(@Valid @RequestBody WorkplaceCreateRequest request, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(httpRequest);
+            Long userId = getUserId(principal);
             Workplace workplace = workplaceService.createWorkplace(userId, request);
             
             Map<String, Object> response = new HashMap<>();
@@ -59,9 +54,9 @@ public class WorkplaceController {
 
     // 근무지 가입 신청
     @PostMapping("/join")
-    public ResponseEntity<?> applyToWorkplace(@RequestParam Long workplaceId, HttpServletRequest request) {
+    public ResponseEntity<?> applyToWorkplace(@RequestParam Long workplaceId, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
+            Long userId = getUserId(principal);
             WorkJoinRequest joinRequest = workplaceService.applyToWorkplace(userId, workplaceId);
             
             Map<String, Object> response = new HashMap<>();
@@ -189,9 +184,9 @@ public class WorkplaceController {
 
     // 사용자의 근무지 목록 조회
     @GetMapping("/my")
-    public ResponseEntity<?> getMyWorkplaces(HttpServletRequest request) {
+    public ResponseEntity<?> getMyWorkplaces(@AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
+            Long userId = getUserId(principal);
             List<Workplace> workplaces = workplaceService.getWorkplacesByOwner(userId);
             return ResponseEntity.ok(workplaces);
         } catch (Exception e) {
@@ -216,10 +211,10 @@ public class WorkplaceController {
 
     // 근무지 상세 조회 (사장님용)
     @GetMapping("/{workplaceId}")
-    public ResponseEntity<?> getWorkplaceDetail(@PathVariable Long workplaceId, HttpServletRequest request) {
+    public ResponseEntity<?> getWorkplaceDetail(@PathVariable Long workplaceId, @AuthenticationPrincipal JwtPrincipal principal) {
         try {
             // 토큰에서 현재 사용자 ID 가져오기
-            Long userId = getUserIdFromToken(request);
+            Long userId = getUserId(principal);
 
             // 현재 유저가 owner인 근무지인지 확인하면서 조회
             Workplace workplace = workplaceService.getWorkplaceDetailForOwner(userId, workplaceId);
@@ -234,9 +229,9 @@ public class WorkplaceController {
 
     // 직원의 근무지 목록 조회
     @GetMapping("/employee/my")
-    public ResponseEntity<?> getMyEmployeeWorkplaces(HttpServletRequest request) {
+    public ResponseEntity<?> getMyEmployeeWorkplaces(@AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
+            Long userId = getUserId(principal);
             List<Workplace> workplaces = workplaceService.getWorkplacesByEmployee(userId);
             return ResponseEntity.ok(workplaces);
         } catch (Exception e) {
@@ -250,9 +245,9 @@ public class WorkplaceController {
     @GetMapping("/employee/{workplaceId}")
     public ResponseEntity<?> getWorkplaceDetailForEmployee(
             @PathVariable Long workplaceId,
-            HttpServletRequest request) {
+            @AuthenticationPrincipal JwtPrincipal principal) {
         try {
-            Long userId = getUserIdFromToken(request);
+            Long userId = getUserId(principal);
             Workplace workplace = workplaceService.getWorkplaceDetailForEmployee(userId, workplaceId);
             return ResponseEntity.ok(workplace);
         } catch (Exception e) {
@@ -59,6 +59,13 @@ public class ScheduleGenerateRequest {
     // 기존 스케줄 덮어쓰기 여부
     private boolean overwriteExisting = true;
 
+    // 덮어쓸 때 기존 스케줄 처리 방식 (DELETE: 삭제, CANCEL: cancelled 로 남김)
+    private OverwriteMode overwriteMode = OverwriteMode.DELETE;
+
+    public enum OverwriteMode {
+        DELETE, CANCEL
+    }
+
     @Getter
     @Setter
     public static class RoleRequirement {
@@ -4,6 +4,8 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalTime;
+
 @Getter
 @Setter
 public class WorkplaceCreateRequest {
@@ -14,4 +16,8 @@ public class WorkplaceCreateRequest {
 
     @NotBlank(message = "사업자등록번호는 필수입니다")
     private String regNumber;
+
+    // 야간 근무 구간 (선택, 미입력 시 22:00~06:00)
+    private LocalTime nightStartTime;
+    private LocalTime nightEndTime;
 }
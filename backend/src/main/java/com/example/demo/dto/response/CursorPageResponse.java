@@ -0,0 +1,18 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 커서(키셋) 기반 페이지 응답
+@Getter
+@Setter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달, 마지막 페이지면 null
+    private boolean hasNext;
+    private int size;
+}
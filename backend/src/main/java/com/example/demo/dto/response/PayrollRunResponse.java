@@ -0,0 +1,16 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class PayrollRunResponse {
+    private Long userId;
+    private String userName;
+    private String status; // CALCULATED, NO_DATA, FAILED
+    private String message;
+    private PayrollResponse payroll; // CALCULATED 일 때만 존재
+}
@@ -0,0 +1,29 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 게시판 목록용 요약 (본문 content 제외, comments: 댓글 수)
+@Getter
+@Setter
+@AllArgsConstructor
+public class PostSummaryResponse {
+    private Long postId;
+    private Long userId;
+    private String userName;
+    private String title;
+    private Integer likes;
+    private Integer dislikes;
+    private Integer views;
+    private LocalDateTime createdAt;
+    private Integer comments;
+
+    // 목록 조회 projection 용 (댓글 수는 페이지 단위로 따로 채움)
+    public PostSummaryResponse(Long postId, Long userId, String userName, String title,
+                               Integer likes, Integer dislikes, Integer views, LocalDateTime createdAt) {
+        this(postId, userId, userName, title, likes, dislikes, views, createdAt, 0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// 좋아요/싫어요 처리 결과 (reaction: 현재 사용자의 반응 like / dislike, 없으면 null)
+@Getter
+@Setter
+@AllArgsConstructor
+public class ReactionResponse {
+    private Long postId;
+    private String reaction;
+    private Integer likes;
+    private Integer dislikes;
+}
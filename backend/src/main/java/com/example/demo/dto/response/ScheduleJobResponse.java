@@ -0,0 +1,22 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ScheduleJobResponse {
+    private String jobId;
+    private Long workplaceId;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private String stage;  // PREPARING, PLANNING, PERSISTING, DONE
+    private int progress;  // 0 ~ 100
+    private String message;
+    private Integer scheduleCount; // COMPLETED 일 때만 존재
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
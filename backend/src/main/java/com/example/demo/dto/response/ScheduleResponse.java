@@ -0,0 +1,29 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ScheduleResponse {
+    private Long scheduleId;
+    private UserSummary user;
+    private Long workplaceId;
+    private String workplaceName;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String method;
+    private String status;
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    public static class UserSummary {
+        private Long userId;
+        private String name;
+    }
+}
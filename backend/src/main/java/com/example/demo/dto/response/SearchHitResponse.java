@@ -0,0 +1,22 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 게시판 검색 결과 한 건 (type: tip / review / comment, 관련도 순)
+// parentId: 꿀팁 게시글·댓글은 꿀팁 게시글 ID, 후기는 근무지 ID
+@Getter
+@Setter
+@AllArgsConstructor
+public class SearchHitResponse {
+    private String type;
+    private Long id;
+    private Long parentId;
+    private String title;
+    private String snippet;
+    private float score;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class WorkHourSummaryResponse {
+    private Long workplaceId;
+    private String workplaceName;
+    private LocalDate weekStart;
+    private Float workHours;
+    private Float nightHours;
+    private Float holidayHours;
+    private Float overtimeHours;
+    private Integer shiftCount;
+}
@@ -9,22 +9,27 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "attendances")
+@Table(name = "attendances", indexes = {
+        @Index(name = "idx_attendance_workplace_date", columnList = "workplace_id, work_date"),
+        @Index(name = "idx_attendance_user_date", columnList = "user_id, work_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Attendance {
+    // IDENTITY 는 INSERT 배치를 막으므로 pooled 시퀀스 사용 (50개씩 미리 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_seq")
+    @SequenceGenerator(name = "attendance_seq", sequenceName = "attendance_seq", allocationSize = 50)
     @Column(name = "attendance_id")
     private Long attendanceId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workplace_id", nullable = false)
     private Workplace workplace;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
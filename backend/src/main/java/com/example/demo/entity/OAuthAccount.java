@@ -19,7 +19,7 @@ public class OAuthAccount {
     @Column(name = "oauth_id")
     private Long oauthId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payrolls")
+@Table(name = "payrolls", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payroll_period", columnNames = {"workplace_id", "user_id", "start_date", "end_date"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,11 +23,11 @@ public class Payroll {
     @Column(name = "payroll_id")
     private Long payrollId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workplace_id", nullable = false)
     private Workplace workplace;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -1,5 +1,6 @@
 package com.example.demo.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,7 +9,10 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tip_posts")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "tip_posts", indexes = {
+        @Index(name = "idx_tip_post_created", columnList = "created_at, post_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +23,7 @@ public class TipPost {
     @Column(name = "post_id")
     private Long postId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -31,10 +35,15 @@ public class TipPost {
 
     private Integer files = 0;
 
+    // 카운터는 TipCounters 가 "likes = likes + ?" 로만 올림
+    // 엔티티 UPDATE 에 포함되면 읽은 뒤 반영된 카운트를 예전 값으로 덮어쓰므로 제외
+    @Column(updatable = false)
     private Integer likes = 0;
 
+    @Column(updatable = false)
     private Integer dislikes = 0;
 
+    @Column(updatable = false)
     private Integer views = 0;
 
     @Column(name = "created_at")
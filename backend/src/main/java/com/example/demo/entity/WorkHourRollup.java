@@ -0,0 +1,64 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import java.time.LocalDate;
+
+// 직원/근무지별 일간, 주간(ISO 주, 월요일 시작) 근무 시간 집계
+// 출퇴근 기록이 바뀔 때 증분 반영되고, 정산 작업이 원본 기록으로 주기적으로 재구성
+@Entity
+@Table(name = "work_hour_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollup_period", columnNames = {"workplace_id", "user_id", "period", "period_start"})
+}, indexes = {
+        @Index(name = "idx_rollup_user_period", columnList = "user_id, period, period_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkHourRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workplace_id", nullable = false)
+    private Workplace workplace;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Period period;
+
+    // DAY: 근무일, WEEK: 해당 주 월요일
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "work_minutes", nullable = false)
+    private Integer workMinutes = 0;
+
+    @Column(name = "night_minutes", nullable = false)
+    private Integer nightMinutes = 0;
+
+    @Column(name = "holiday_minutes", nullable = false)
+    private Integer holidayMinutes = 0;
+
+    // 주 40시간 초과분 (DAY 는 항상 0)
+    @Column(name = "overtime_minutes", nullable = false)
+    private Integer overtimeMinutes = 0;
+
+    // 퇴근까지 기록된 근무 수
+    @Column(name = "shift_count", nullable = false)
+    private Integer shiftCount = 0;
+
+    public enum Period {
+        DAY, WEEK
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.demo.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "workplaces")
 @Getter
 @Setter
@@ -19,7 +22,7 @@ public class Workplace {
     @Column(name = "workplace_id")
     private Long workplaceId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -36,6 +39,13 @@ public class Workplace {
     @Column(nullable = false)
     private WorkplaceStatus status;
 
+    // 야간 근무 구간 (null 이면 22:00~06:00)
+    @Column(name = "night_start_time")
+    private LocalTime nightStartTime;
+
+    @Column(name = "night_end_time")
+    private LocalTime nightEndTime;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -1,5 +1,7 @@
 package com.example.demo.filter;
 
+import com.example.demo.util.AppMetrics;
+import com.example.demo.util.JwtPrincipal;
 import com.example.demo.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -35,55 +37,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String uri = request.getRequestURI();
         String authHeader = request.getHeader("Authorization");
 
-        log.info("[JwtFilter] start, uri={}", uri);
-        log.info("[JwtFilter] Authorization header={}", authHeader);
+        // 요청마다 INFO 로그를 남기지 않고 결과별 카운터로 집계 (토큰 원문은 로그에 남기지 않음)
+        log.debug("[JwtFilter] start, uri={}", uri);
 
         // 토큰이 없으면 그냥 다음 필터로 넘김 (익명 요청 허용 구간 때문에)
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            log.info("[JwtFilter] No Bearer token, continue filterChain");
+            AppMetrics.count(AppMetrics.JWT_REQUESTS, "result", "no_token");
             chain.doFilter(request, response);
             return;
         }
 
         try {
             final String jwt = authHeader.substring(7);
-            final String email = jwtUtil.extractEmail(jwt);
-            final String role = jwtUtil.extractRole(jwt); // e.g. "owner"
-
-            log.info("[JwtFilter] token parsed. email={}, role={}", email, role);
-
-            // 아직 인증정보가 없고, 이메일이 있다면 토큰 검증
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                boolean valid = jwtUtil.validateToken(jwt, email);
-                log.info("[JwtFilter] validateToken result={}", valid);
-
-                if (valid) {
-                    // 토큰 안에 "owner" 라고 들어있으면 ROLE_OWNER 로 맞춰줌
-                    String roleName = (role == null ? "" : role.toUpperCase());
-                    SimpleGrantedAuthority authority =
-                            new SimpleGrantedAuthority("ROLE_" + roleName);
-
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    email,
-                                    null,
-                                    Collections.singletonList(authority)
-                            );
-
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    log.info("[JwtFilter] Authentication set for {}, authorities={}",
-                            email, authToken.getAuthorities());
-                } else {
-                    log.warn("[JwtFilter] Token validation failed for {}", email);
-                    // 토큰이 유효하지 않으면 401로 응답 (필요에 따라 메시지 수정 가능)
-                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid JWT token");
-                    return;
-                }
+
+            // 아직 인증정보가 없다면 토큰 검증 (서명 검증은 토큰당 한 번, 이후는 캐시)
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                JwtPrincipal principal = jwtUtil.authenticate(jwt);
+                log.debug("[JwtFilter] token verified. email={}, role={}", principal.getEmail(), principal.getRole());
+
+                // 토큰 안에 "owner" 라고 들어있으면 ROLE_OWNER 로 맞춰줌
+                String role = principal.getRole();
+                String roleName = (role == null ? "" : role.toUpperCase());
+                SimpleGrantedAuthority authority =
+                        new SimpleGrantedAuthority("ROLE_" + roleName);
+
+                // principal 에 userId/role 을 담아 컨트롤러에서 토큰을 다시 파싱하지 않도록 함
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(
+                                principal,
+                                null,
+                                Collections.singletonList(authority)
+                        );
+
+                authToken.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                );
+
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+                AppMetrics.count(AppMetrics.JWT_REQUESTS, "result", "authenticated");
             }
 
             // 정상적으로 통과
@@ -91,6 +82,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         } catch (Exception e) {
             // 여기로 들어오면 토큰 파싱/검증 중 예외가 난 것
+            AppMetrics.count(AppMetrics.JWT_REQUESTS, "result", "rejected");
             log.error("[JwtFilter] JWT 토큰 검증 중 예외 발생, uri=" + uri, e);
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "JWT validation error");
         }
@@ -1,7 +1,10 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Attendance;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -16,4 +19,38 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     Optional<Attendance> findByWorkplaceWorkplaceIdAndUserUserIdAndWorkDate(Long workplaceId, Long userId, LocalDate workDate);
     List<Attendance> findByWorkplaceWorkplaceIdAndWorkDateBetween(Long workplaceId, LocalDate startDate, LocalDate endDate);
     List<Attendance> findByUserUserIdAndWorkDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // 근무 시간 집계 재구성용: 퇴근까지 기록된 행만
+    @Query("select a from Attendance a where a.workDate between :startDate and :endDate " +
+            "and a.checkOut is not null and a.workHours is not null")
+    List<Attendance> findForRollup(@Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
+
+    // 키셋 페이지 조회 (최근 근무일 순): (workDate, attendanceId) 가 커서보다 앞선 행만
+    // from/to 가 null 이면 해당 경계 없음, cursorDate 가 null 이면 첫 페이지
+    @Query("select a from Attendance a join fetch a.user join fetch a.workplace " +
+            "where a.workplace.workplaceId = :workplaceId " +
+            "and (:from is null or a.workDate >= :from) and (:to is null or a.workDate <= :to) " +
+            "and (:cursorDate is null or a.workDate < :cursorDate " +
+            "or (a.workDate = :cursorDate and a.attendanceId < :cursorId)) " +
+            "order by a.workDate desc, a.attendanceId desc")
+    List<Attendance> findPageByWorkplace(@Param("workplaceId") Long workplaceId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to,
+                                         @Param("cursorDate") LocalDate cursorDate,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    @Query("select a from Attendance a join fetch a.user join fetch a.workplace " +
+            "where a.user.userId = :userId " +
+            "and (:from is null or a.workDate >= :from) and (:to is null or a.workDate <= :to) " +
+            "and (:cursorDate is null or a.workDate < :cursorDate " +
+            "or (a.workDate = :cursorDate and a.attendanceId < :cursorId)) " +
+            "order by a.workDate desc, a.attendanceId desc")
+    List<Attendance> findPageByUser(@Param("userId") Long userId,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("cursorDate") LocalDate cursorDate,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
 }
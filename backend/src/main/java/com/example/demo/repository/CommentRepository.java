@@ -1,14 +1,44 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.response.CommentResponse;
 import com.example.demo.entity.Comment;
-import com.example.demo.entity.TipPost;
+import com.example.demo.repository.projection.CommentCount;
+import com.example.demo.repository.projection.SearchDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByTipPostOrderByCreatedAtAsc(TipPost tipPost);
+    // 댓글 목록 (작성순 키셋 페이지): 작성자 이름까지 한 번의 조회로, 게시글 엔티티는 읽지 않음
+    // cursorTime 이 null 이면 첫 페이지
+    @Query("select new com.example.demo.dto.response.CommentResponse(" +
+            "c.commentId, c.tipPost.postId, u.userId, u.name, c.content, c.createdAt) " +
+            "from Comment c join c.user u " +
+            "where c.tipPost.postId = :postId " +
+            "and (:cursorTime is null or c.createdAt > :cursorTime " +
+            "or (c.createdAt = :cursorTime and c.commentId > :cursorId)) " +
+            "order by c.createdAt asc, c.commentId asc")
+    List<CommentResponse> findResponsePage(@Param("postId") Long postId,
+                                           @Param("cursorTime") LocalDateTime cursorTime,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    // 게시글별 댓글 수 (목록 한 페이지의 게시글을 한 번의 GROUP BY 로, 댓글이 없는 게시글은 결과에 없음)
+    @Query("select new com.example.demo.repository.projection.CommentCount(c.tipPost.postId, count(c)) " +
+            "from Comment c where c.tipPost.postId in :postIds group by c.tipPost.postId")
+    List<CommentCount> countByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // 검색 색인 생성용 (id 순 키셋 배치)
+    @Query("select new com.example.demo.repository.projection.SearchDocument(" +
+            "'comment', c.commentId, c.tipPost.postId, c.content, c.createdAt) " +
+            "from Comment c where c.commentId > :afterId order by c.commentId asc")
+    List<SearchDocument> findSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
 }
 
@@ -0,0 +1,69 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Payroll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+public class PayrollJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into payrolls (workplace_id, user_id, start_date, end_date, pay_type, work_days,
+                                  regular_hours, overtime_hours, night_hours, holiday_hours, total_hours,
+                                  base_pay, overtime_pay, night_pay, holiday_pay, total_pay,
+                                  calculated_at, finalized)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            update payrolls
+               set pay_type = ?, work_days = ?,
+                   regular_hours = ?, overtime_hours = ?, night_hours = ?, holiday_hours = ?, total_hours = ?,
+                   base_pay = ?, overtime_pay = ?, night_pay = ?, holiday_pay = ?, total_pay = ?,
+                   calculated_at = ?
+             where workplace_id = ? and user_id = ? and start_date = ? and end_date = ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 기존 기록은 UPDATE, 신규는 INSERT 로 나눠 각각 한 번의 배치로 전송
+    public void upsertAll(Collection<Payroll> payrolls, Set<Long> existingUserIds) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+
+        for (Payroll p : payrolls) {
+            Long userId = p.getUser().getUserId();
+            Long workplaceId = p.getWorkplace().getWorkplaceId();
+            if (existingUserIds.contains(userId)) {
+                updates.add(new Object[]{
+                        p.getPayType().name(), p.getWorkDays(),
+                        p.getRegularHours(), p.getOvertimeHours(), p.getNightHours(), p.getHolidayHours(), p.getTotalHours(),
+                        p.getBasePay(), p.getOvertimePay(), p.getNightPay(), p.getHolidayPay(), p.getTotalPay(),
+                        p.getCalculatedAt(),
+                        workplaceId, userId, p.getStartDate(), p.getEndDate()
+                });
+            } else {
+                inserts.add(new Object[]{
+                        workplaceId, userId, p.getStartDate(), p.getEndDate(), p.getPayType().name(), p.getWorkDays(),
+                        p.getRegularHours(), p.getOvertimeHours(), p.getNightHours(), p.getHolidayHours(), p.getTotalHours(),
+                        p.getBasePay(), p.getOvertimePay(), p.getNightPay(), p.getHolidayPay(), p.getTotalPay(),
+                        p.getCalculatedAt(), false
+                });
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+}
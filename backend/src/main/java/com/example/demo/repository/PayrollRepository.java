@@ -1,7 +1,10 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.response.PayrollResponse;
 import com.example.demo.entity.Payroll;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -13,5 +16,31 @@ public interface PayrollRepository extends JpaRepository<Payroll, Long> {
     Optional<Payroll> findByWorkplaceWorkplaceIdAndUserUserIdAndStartDateAndEndDate(Long workplaceId, Long userId, LocalDate startDate, LocalDate endDate);
     List<Payroll> findByWorkplaceWorkplaceIdAndStartDateAndEndDate(Long workplaceId, LocalDate startDate, LocalDate endDate);
     List<Payroll> findByUserUserIdAndStartDateAndEndDate(Long userId, LocalDate startDate, LocalDate endDate);
+
+    // 급여 목록 조회용 프로젝션 (연관 엔티티를 올리지 않음)
+    @Query("select new com.example.demo.dto.response.PayrollResponse(" +
+            "p.payrollId, p.user.userId, p.workplace.workplaceId, p.startDate, p.endDate, p.payType, p.workDays, " +
+            "p.regularHours, p.overtimeHours, p.nightHours, p.holidayHours, p.totalHours, " +
+            "p.basePay, p.overtimePay, p.nightPay, p.holidayPay, p.totalPay, p.finalized, p.calculatedAt, p.finalizedAt) " +
+            "from Payroll p where p.workplace.workplaceId = :workplaceId and p.startDate = :startDate and p.endDate = :endDate")
+    List<PayrollResponse> findResponsesByWorkplace(@Param("workplaceId") Long workplaceId,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+
+    @Query("select new com.example.demo.dto.response.PayrollResponse(" +
+            "p.payrollId, p.user.userId, p.workplace.workplaceId, p.startDate, p.endDate, p.payType, p.workDays, " +
+            "p.regularHours, p.overtimeHours, p.nightHours, p.holidayHours, p.totalHours, " +
+            "p.basePay, p.overtimePay, p.nightPay, p.holidayPay, p.totalPay, p.finalized, p.calculatedAt, p.finalizedAt) " +
+            "from Payroll p where p.user.userId = :userId and p.startDate = :startDate and p.endDate = :endDate")
+    List<PayrollResponse> findResponsesByUser(@Param("userId") Long userId,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    // 이미 급여 기록이 있는 직원 ID (엔티티를 올리지 않고 upsert 대상 구분)
+    @Query("select p.user.userId from Payroll p " +
+            "where p.workplace.workplaceId = :workplaceId and p.startDate = :startDate and p.endDate = :endDate")
+    List<Long> findUserIdsByPeriod(@Param("workplaceId") Long workplaceId,
+                                   @Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
 }
 
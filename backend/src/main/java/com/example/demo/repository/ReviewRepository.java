@@ -1,14 +1,25 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Review;
-import com.example.demo.entity.Workplace;
+import com.example.demo.repository.projection.SearchDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    List<Review> findByWorkplaceOrderByCreatedAtDesc(Workplace workplace);
+    @EntityGraph(attributePaths = "user")
+    List<Review> findByWorkplaceWorkplaceIdOrderByCreatedAtDesc(Long workplaceId);
+
+    // 검색 색인 생성용 (id 순 키셋 배치)
+    @Query("select new com.example.demo.repository.projection.SearchDocument(" +
+            "'review', r.reviewId, r.workplace.workplaceId, r.content, r.createdAt) " +
+            "from Review r where r.reviewId > :afterId order by r.reviewId asc")
+    List<SearchDocument> findSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
 }
 
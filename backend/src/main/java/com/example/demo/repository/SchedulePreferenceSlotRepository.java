@@ -1,7 +1,10 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.SchedulePreferenceSlot;
+import com.example.demo.repository.projection.PreferenceWindow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -9,6 +12,14 @@ import java.util.List;
 
 @Repository
 public interface SchedulePreferenceSlotRepository extends JpaRepository<SchedulePreferenceSlot, Long> {
-    List<SchedulePreferenceSlot> findByPreferenceWorkplaceWorkplaceIdAndWorkDateBetween(Long workplaceId, LocalDate startDate, LocalDate endDate);
-}
 
+    // 스케줄 생성용: 엔티티/연관 객체 없이 (userId, 날짜, 시작, 종료)만 조회
+    @Query("select new com.example.demo.repository.projection.PreferenceWindow(" +
+            "p.user.userId, s.workDate, s.startTime, s.endTime) " +
+            "from SchedulePreferenceSlot s join s.preference p " +
+            "where p.workplace.workplaceId = :workplaceId " +
+            "and s.workDate between :startDate and :endDate")
+    List<PreferenceWindow> findWindowsByWorkplaceAndWorkDateBetween(@Param("workplaceId") Long workplaceId,
+                                                                    @Param("startDate") LocalDate startDate,
+                                                                    @Param("endDate") LocalDate endDate);
+}
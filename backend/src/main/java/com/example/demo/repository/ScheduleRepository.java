@@ -1,11 +1,16 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Schedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,5 +19,58 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     List<Schedule> findByUserUserId(Long userId);
     List<Schedule> findByWorkplaceWorkplaceIdAndUserUserId(Long workplaceId, Long userId);
     List<Schedule> findByWorkplaceWorkplaceIdAndStartTimeBetween(Long workplaceId, LocalDateTime start, LocalDateTime end);
-    void deleteByWorkplaceWorkplaceIdAndStartTimeBetween(Long workplaceId, LocalDateTime start, LocalDateTime end);
+
+    // 재생성 덮어쓰기: 엔티티를 읽지 않고 단일 DELETE/UPDATE 로 처리 (구간은 [start, end))
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Schedule s where s.workplace.workplaceId = :workplaceId " +
+            "and s.startTime >= :start and s.startTime < :end")
+    int bulkDeleteByWorkplaceAndStartRange(@Param("workplaceId") Long workplaceId,
+                                           @Param("start") LocalDateTime start,
+                                           @Param("end") LocalDateTime end);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Schedule s set s.status = com.example.demo.entity.Schedule.ScheduleStatus.cancelled " +
+            "where s.workplace.workplaceId = :workplaceId and s.startTime >= :start and s.startTime < :end " +
+            "and s.status <> com.example.demo.entity.Schedule.ScheduleStatus.cancelled")
+    int bulkCancelByWorkplaceAndStartRange(@Param("workplaceId") Long workplaceId,
+                                           @Param("start") LocalDateTime start,
+                                           @Param("end") LocalDateTime end);
+
+    // 구간 [start, end) 와 겹치는 취소되지 않은 근무
+    // startTime 하한(earliestStart)을 함께 걸어 (user_id, start_time) 인덱스 범위만 읽도록 함
+    @Query("select s from Schedule s where s.user.userId in :userIds " +
+            "and s.status <> com.example.demo.entity.Schedule.ScheduleStatus.cancelled " +
+            "and s.startTime > :earliestStart and s.startTime < :end and s.endTime > :start")
+    List<Schedule> findActiveOverlappingForUsers(@Param("userIds") Collection<Long> userIds,
+                                                 @Param("earliestStart") LocalDateTime earliestStart,
+                                                 @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+
+    // 키셋 페이지 조회 (시작 시간 순): (startTime, scheduleId) 가 커서보다 뒤인 행만
+    // from/to 가 null 이면 해당 경계 없음, cursorTime 이 null 이면 첫 페이지
+    @Query("select s from Schedule s join fetch s.user join fetch s.workplace " +
+            "where s.workplace.workplaceId = :workplaceId " +
+            "and (:from is null or s.startTime >= :from) and (:to is null or s.startTime < :to) " +
+            "and (:cursorTime is null or s.startTime > :cursorTime " +
+            "or (s.startTime = :cursorTime and s.scheduleId > :cursorId)) " +
+            "order by s.startTime asc, s.scheduleId asc")
+    List<Schedule> findPageByWorkplace(@Param("workplaceId") Long workplaceId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("cursorTime") LocalDateTime cursorTime,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
+    @Query("select s from Schedule s join fetch s.user join fetch s.workplace " +
+            "where s.user.userId = :userId " +
+            "and (:from is null or s.startTime >= :from) and (:to is null or s.startTime < :to) " +
+            "and (:cursorTime is null or s.startTime > :cursorTime " +
+            "or (s.startTime = :cursorTime and s.scheduleId > :cursorId)) " +
+            "order by s.startTime asc, s.scheduleId asc")
+    List<Schedule> findPageByUser(@Param("userId") Long userId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  @Param("cursorTime") LocalDateTime cursorTime,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
 }
@@ -0,0 +1,29 @@
+package com.example.demo.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class TipPostJdbcRepository {
+
+    private static final String ADD_COUNTS_SQL =
+            "update tip_posts set views = views + ?, likes = likes + ?, dislikes = dislikes + ? where post_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 게시글별 카운터 변경분 {views, likes, dislikes} 을 한 번의 배치로 반영 (읽고 쓰지 않고 DB 에서 더함)
+    public void addCounts(Map<Long, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[]{delta[0], delta[1], delta[2], postId}));
+        jdbcTemplate.batchUpdate(ADD_COUNTS_SQL, args);
+    }
+}
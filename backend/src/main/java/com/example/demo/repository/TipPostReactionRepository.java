@@ -0,0 +1,32 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.TipPostReaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TipPostReactionRepository extends JpaRepository<TipPostReaction, Long> {
+
+    @Query("select r from TipPostReaction r where r.tipPost.postId = :postId and r.user.userId = :userId")
+    Optional<TipPostReaction> findByPostAndUser(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 조건부 변경/삭제: 읽은 뒤 다른 요청이 먼저 바꿨으면 0 건 (카운터를 두 번 반영하지 않도록)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TipPostReaction r set r.type = :to where r.reactionId = :reactionId and r.type = :from")
+    int changeType(@Param("reactionId") Long reactionId,
+                   @Param("from") TipPostReaction.Type from,
+                   @Param("to") TipPostReaction.Type to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TipPostReaction r where r.reactionId = :reactionId and r.type = :type")
+    int deleteIfType(@Param("reactionId") Long reactionId, @Param("type") TipPostReaction.Type type);
+
+    @Modifying
+    @Query("delete from TipPostReaction r where r.tipPost.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
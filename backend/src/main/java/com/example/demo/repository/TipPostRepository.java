@@ -1,13 +1,35 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.response.PostSummaryResponse;
 import com.example.demo.entity.TipPost;
+import com.example.demo.repository.projection.SearchDocument;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface TipPostRepository extends JpaRepository<TipPost, Long> {
-    List<TipPost> findAllByOrderByCreatedAtDesc();
-}
 
+    // 최신순 키셋 페이지: (createdAt, postId) 가 커서보다 앞인 행만, 본문(content) 은 읽지 않음
+    // cursorTime 이 null 이면 첫 페이지
+    @Query("select new com.example.demo.dto.response.PostSummaryResponse(" +
+            "p.postId, u.userId, u.name, p.title, p.likes, p.dislikes, p.views, p.createdAt) " +
+            "from TipPost p join p.user u " +
+            "where :cursorTime is null or p.createdAt < :cursorTime " +
+            "or (p.createdAt = :cursorTime and p.postId < :cursorId) " +
+            "order by p.createdAt desc, p.postId desc")
+    List<PostSummaryResponse> findSummaryPage(@Param("cursorTime") LocalDateTime cursorTime,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    // 검색 색인 생성용 (id 순 키셋 배치)
+    @Query("select new com.example.demo.repository.projection.SearchDocument(" +
+            "'tip', p.postId, p.postId, p.title, p.content, p.createdAt) " +
+            "from TipPost p where p.postId > :afterId order by p.postId asc")
+    List<SearchDocument> findSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
+}
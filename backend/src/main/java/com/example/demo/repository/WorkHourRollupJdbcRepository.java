@@ -0,0 +1,100 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.WorkHourRollup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class WorkHourRollupJdbcRepository {
+
+    // MySQL: 행이 없으면 만들고 있으면 더하는 한 문장 (같은 기간을 동시에 처음 기록해도 유니크 제약 충돌 없이 합쳐짐)
+    // 초과 근무는 갱신 전 work_minutes 로 계산해야 하므로 SET 절 맨 앞에 둠 (MySQL 은 SET 절을 왼쪽부터 적용)
+    private static final String UPSERT_MYSQL = """
+            insert into work_hour_rollups (workplace_id, user_id, period, period_start,
+                                           work_minutes, night_minutes, holiday_minutes, overtime_minutes, shift_count)
+            values (?, ?, ?, ?, ?, ?, ?, ?, 1)
+            on duplicate key update
+                overtime_minutes = case when work_minutes + ? > ? then work_minutes + ? - ? else 0 end,
+                work_minutes = work_minutes + ?,
+                night_minutes = night_minutes + ?,
+                holiday_minutes = holiday_minutes + ?,
+                shift_count = shift_count + 1
+            """;
+
+    // H2 (로컬 실행, 테스트): 표준 MERGE, SET 절은 모두 갱신 전 값을 읽음
+    private static final String UPSERT_H2 = """
+            merge into work_hour_rollups t
+            using (select cast(? as bigint) workplace_id, cast(? as bigint) user_id,
+                          cast(? as varchar(10)) period, cast(? as date) period_start) s
+               on t.workplace_id = s.workplace_id and t.user_id = s.user_id
+              and t.period = s.period and t.period_start = s.period_start
+            when matched then update set
+                overtime_minutes = case when t.work_minutes + ? > ? then t.work_minutes + ? - ? else 0 end,
+                work_minutes = t.work_minutes + ?,
+                night_minutes = t.night_minutes + ?,
+                holiday_minutes = t.holiday_minutes + ?,
+                shift_count = t.shift_count + 1
+            when not matched then insert (workplace_id, user_id, period, period_start,
+                                          work_minutes, night_minutes, holiday_minutes, overtime_minutes, shift_count)
+                values (s.workplace_id, s.user_id, s.period, s.period_start, ?, ?, ?, ?, 1)
+            """;
+
+    private static final String INSERT_SQL = """
+            insert into work_hour_rollups (workplace_id, user_id, period, period_start,
+                                           work_minutes, night_minutes, holiday_minutes, overtime_minutes, shift_count)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean mysql;
+
+    // 근무 한 건을 집계 행에 더함 (행이 없으면 생성)
+    public void upsert(Long workplaceId, Long userId, WorkHourRollup.Period period, LocalDate periodStart,
+                       int work, int night, int holiday, int overtimeThreshold) {
+        int overtime = Math.max(0, work - overtimeThreshold);
+        if (isMySql()) {
+            jdbcTemplate.update(UPSERT_MYSQL,
+                    workplaceId, userId, period.name(), periodStart, work, night, holiday, overtime,
+                    work, overtimeThreshold, work, overtimeThreshold, work, night, holiday);
+        } else {
+            jdbcTemplate.update(UPSERT_H2,
+                    workplaceId, userId, period.name(), periodStart,
+                    work, overtimeThreshold, work, overtimeThreshold, work, night, holiday,
+                    work, night, holiday, overtime);
+        }
+    }
+
+    // 재구성: 새로 계산한 집계 행을 한 번의 배치로 삽입
+    public void insertAll(Collection<WorkHourRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(rollups.size());
+        for (WorkHourRollup r : rollups) {
+            args.add(new Object[]{
+                    r.getWorkplace().getWorkplaceId(), r.getUser().getUserId(), r.getPeriod().name(), r.getPeriodStart(),
+                    r.getWorkMinutes(), r.getNightMinutes(), r.getHolidayMinutes(), r.getOvertimeMinutes(), r.getShiftCount()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    private boolean isMySql() {
+        Boolean cached = mysql;
+        if (cached == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            cached = product != null && product.toLowerCase().contains("mysql");
+            mysql = cached;
+        }
+        return cached;
+    }
+}
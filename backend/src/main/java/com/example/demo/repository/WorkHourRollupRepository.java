@@ -0,0 +1,62 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.WorkHourRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface WorkHourRollupRepository extends JpaRepository<WorkHourRollup, Long> {
+
+    // 기존 집계 행에 증분을 더함 (행이 없으면 0 반환, 새 행 생성은 WorkHourRollupJdbcRepository.upsert)
+    // 초과 근무는 갱신 전 workMinutes 로 계산해야 하므로 SET 절 맨 앞에 둠
+    // (MySQL 은 SET 절을 왼쪽부터 적용하며 앞에서 바뀐 값을 뒤에서 읽음)
+    @Modifying(flushAutomatically = true)
+    @Query("update WorkHourRollup r set " +
+            "r.overtimeMinutes = case when r.workMinutes + :work > :overtimeThreshold " +
+            "then r.workMinutes + :work - :overtimeThreshold else 0 end, " +
+            "r.workMinutes = r.workMinutes + :work, " +
+            "r.nightMinutes = r.nightMinutes + :night, " +
+            "r.holidayMinutes = r.holidayMinutes + :holiday, " +
+            "r.shiftCount = r.shiftCount + :shifts " +
+            "where r.workplace.workplaceId = :workplaceId and r.user.userId = :userId " +
+            "and r.period = :period and r.periodStart = :periodStart")
+    int addDelta(@Param("workplaceId") Long workplaceId,
+                 @Param("userId") Long userId,
+                 @Param("period") WorkHourRollup.Period period,
+                 @Param("periodStart") LocalDate periodStart,
+                 @Param("work") int work,
+                 @Param("night") int night,
+                 @Param("holiday") int holiday,
+                 @Param("shifts") int shifts,
+                 @Param("overtimeThreshold") int overtimeThreshold);
+
+    // 급여/대시보드 조회: userId 가 null 이면 근무지 전체
+    @Query("select r from WorkHourRollup r " +
+            "where r.workplace.workplaceId = :workplaceId and (:userId is null or r.user.userId = :userId) " +
+            "and r.period = :period and r.periodStart between :from and :to " +
+            "order by r.periodStart asc")
+    List<WorkHourRollup> findByWorkplaceAndPeriod(@Param("workplaceId") Long workplaceId,
+                                                  @Param("userId") Long userId,
+                                                  @Param("period") WorkHourRollup.Period period,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to);
+
+    @Query("select r from WorkHourRollup r join fetch r.workplace " +
+            "where r.user.userId = :userId and r.period = :period and r.periodStart between :from and :to " +
+            "order by r.periodStart asc, r.rollupId asc")
+    List<WorkHourRollup> findByUserAndPeriod(@Param("userId") Long userId,
+                                             @Param("period") WorkHourRollup.Period period,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    // 재구성: 기간 내 집계 행 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from WorkHourRollup r where r.periodStart between :from and :to")
+    int deleteByPeriodStartBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
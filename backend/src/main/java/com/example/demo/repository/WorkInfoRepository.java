@@ -1,7 +1,10 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.WorkInfo;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,7 +12,11 @@ import java.util.Optional;
 
 @Repository
 public interface WorkInfoRepository extends JpaRepository<WorkInfo, Long> {
+    @EntityGraph(attributePaths = {"user", "workplace", "workplace.user"})
     List<WorkInfo> findByWorkplaceWorkplaceId(Long workplaceId);
     List<WorkInfo> findByUserUserId(Long userId);
     Optional<WorkInfo> findByUserUserIdAndWorkplaceWorkplaceId(Long userId, Long workplaceId);
+
+    @Query("select w from WorkInfo w join fetch w.user where w.workplace.workplaceId = :workplaceId")
+    List<WorkInfo> findWithUserByWorkplaceId(@Param("workplaceId") Long workplaceId);
 }
@@ -1,7 +1,10 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.response.WorkJoinRequestResponse;
 import com.example.demo.entity.WorkJoinRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,10 @@ public interface WorkJoinRequestRepository extends JpaRepository<WorkJoinRequest
     List<WorkJoinRequest> findByWorkplaceWorkplaceId(Long workplaceId);
     List<WorkJoinRequest> findByUserUserId(Long userId);
     Optional<WorkJoinRequest> findByUserUserIdAndWorkplaceWorkplaceId(Long userId, Long workplaceId);
+
+    // 가입 신청 목록: 신청자/근무지 이름까지 한 번의 조회로
+    @Query("select new com.example.demo.dto.response.WorkJoinRequestResponse(" +
+            "r.requestId, u.userId, u.name, w.workplaceId, w.workName, cast(r.status as string), r.appliedAt, r.respondedAt) " +
+            "from WorkJoinRequest r join r.user u join r.workplace w where w.workplaceId = :workplaceId")
+    List<WorkJoinRequestResponse> findResponsesByWorkplaceId(@Param("workplaceId") Long workplaceId);
 }
@@ -1,12 +1,25 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Workplace;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface WorkplaceRepository extends JpaRepository<Workplace, Long> {
+    @EntityGraph(attributePaths = "user")
     List<Workplace> findByUserUserId(Long userId);
+
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Workplace> findAll();
+
+    // 직원으로 등록된 근무지 (사장 정보 포함)
+    @Query("select wp from Workplace wp join fetch wp.user " +
+            "where wp.workplaceId in (select w.workplace.workplaceId from WorkInfo w where w.user.userId = :userId)")
+    List<Workplace> findByEmployeeUserId(@Param("userId") Long userId);
 }
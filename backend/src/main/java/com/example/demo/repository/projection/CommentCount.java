@@ -0,0 +1,20 @@
+package com.example.demo.repository.projection;
+
+// 게시글별 댓글 수 (GROUP BY 조회 결과)
+public class CommentCount {
+    private final Long postId;
+    private final Long count;
+
+    public CommentCount(Long postId, Long count) {
+        this.postId = postId;
+        this.count = count;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+}
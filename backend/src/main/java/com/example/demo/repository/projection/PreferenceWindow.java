@@ -0,0 +1,35 @@
+package com.example.demo.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 근무 희망 시간 한 구간 (선호 슬롯 조회 결과, 엔티티 대신 필요한 값만)
+public class PreferenceWindow {
+    private final Long userId;
+    private final LocalDate date;
+    private final LocalTime start;
+    private final LocalTime end;
+
+    public PreferenceWindow(Long userId, LocalDate date, LocalTime start, LocalTime end) {
+        this.userId = userId;
+        this.date = date;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getStart() {
+        return start;
+    }
+
+    public LocalTime getEnd() {
+        return end;
+    }
+}
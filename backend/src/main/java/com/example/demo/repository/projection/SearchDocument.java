@@ -0,0 +1,57 @@
+package com.example.demo.repository.projection;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 대상 한 건 (꿀팁 게시글 / 후기 / 댓글, 엔티티 대신 색인에 필요한 값만)
+// parentId: 꿀팁 게시글·댓글은 꿀팁 게시글 ID, 후기는 근무지 ID (검색 결과에서 열 화면)
+public class SearchDocument {
+
+    public static final String TIP = "tip";
+    public static final String REVIEW = "review";
+    public static final String COMMENT = "comment";
+
+    private final String type;
+    private final Long id;
+    private final Long parentId;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+
+    public SearchDocument(String type, Long id, Long parentId, String title, String content, LocalDateTime createdAt) {
+        this.type = type;
+        this.id = id;
+        this.parentId = parentId;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    // 제목이 없는 후기·댓글
+    public SearchDocument(String type, Long id, Long parentId, String content, LocalDateTime createdAt) {
+        this(type, id, parentId, null, content, createdAt);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -2,21 +2,27 @@ package com.example.demo.service;
 
 import com.example.demo.dto.request.AttendanceCreateRequest;
 import com.example.demo.dto.response.AttendanceResponse;
+import com.example.demo.dto.response.CursorPageResponse;
 import com.example.demo.entity.Attendance;
 import com.example.demo.entity.User;
 import com.example.demo.entity.Workplace;
 import com.example.demo.repository.AttendanceRepository;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.repository.WorkplaceRepository;
+import com.example.demo.util.AppMetrics;
+import com.example.demo.util.KeysetCursor;
+import com.example.demo.util.WorkTimeCalculator;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,9 +37,19 @@ public class AttendanceService {
     @Autowired
     private WorkplaceRepository workplaceRepository;
 
+    @Autowired
+    private WorkTimeCalculator workTimeCalculator;
+
+    @Autowired
+    private WorkHourRollupService workHourRollupService;
+
     // 알바생 출근 체크
     @Transactional
     public Attendance checkIn(Long userId, Long workplaceId, LocalDate workDate) {
+        return timed("in", () -> doCheckIn(userId, workplaceId, workDate));
+    }
+
+    private Attendance doCheckIn(Long userId, Long workplaceId, LocalDate workDate) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
 
@@ -68,6 +84,10 @@ public class AttendanceService {
     // 알바생 퇴근 체크
     @Transactional
     public Attendance checkOut(Long userId, Long workplaceId, LocalDate workDate) {
+        return timed("out", () -> doCheckOut(userId, workplaceId, workDate));
+    }
+
+    private Attendance doCheckOut(Long userId, Long workplaceId, LocalDate workDate) {
         LocalDate date = (workDate != null) ? workDate : LocalDate.now();
 
         Attendance attendance = attendanceRepository
@@ -86,7 +106,9 @@ public class AttendanceService {
 
         fillWorkSegments(attendance);
 
-        return attendanceRepository.save(attendance);
+        Attendance saved = attendanceRepository.save(attendance);
+        workHourRollupService.apply(null, WorkHourRollupService.Contribution.of(saved));
+        return saved;
     }
 
     // 사장: 출퇴근 기록 생성
@@ -115,7 +137,9 @@ public class AttendanceService {
 
         fillWorkSegments(attendance);
 
-        return attendanceRepository.save(attendance);
+        Attendance saved = attendanceRepository.save(attendance);
+        workHourRollupService.apply(null, WorkHourRollupService.Contribution.of(saved));
+        return saved;
     }
 
     // 사장: 출퇴근 기록 수정
@@ -124,40 +148,64 @@ public class AttendanceService {
         Attendance attendance = attendanceRepository.findById(attendanceId)
                 .orElseThrow(() -> new RuntimeException("출퇴근 기록을 찾을 수 없습니다"));
 
+        // 집계에서 뺄 수정 전 기여분
+        WorkHourRollupService.Contribution before = WorkHourRollupService.Contribution.of(attendance);
+
         attendance.setCheckIn(checkIn);
         attendance.setCheckOut(checkOut);
         attendance.setApproved(true);
 
         fillWorkSegments(attendance);
 
-        return attendanceRepository.save(attendance);
+        Attendance saved = attendanceRepository.save(attendance);
+        workHourRollupService.apply(before, WorkHourRollupService.Contribution.of(saved));
+        return saved;
     }
 
-    // 출퇴근 기록 조회 (근무지별)
-    public List<AttendanceResponse> getAttendancesByWorkplace(Long workplaceId) {
-        List<Attendance> attendances = attendanceRepository.findByWorkplaceWorkplaceId(workplaceId);
-        
-        return attendances.stream()
-                .map(att -> new AttendanceResponse(
-                        att.getAttendanceId(),
-                        att.getUser().getUserId(),
-                        att.getUser().getName(),
-                        att.getWorkplace().getWorkplaceId(),
-                        att.getWorkplace().getWorkName(),
-                        att.getWorkDate(),
-                        att.getCheckIn(),
-                        att.getCheckOut(),
-                        att.getWorkHours(),
-                        att.getApproved()
-                ))
-                .collect(Collectors.toList());
+    // 출퇴근 기록 조회 (근무지별, 최근 근무일 순 키셋 페이지)
+    public CursorPageResponse<AttendanceResponse> getAttendancesByWorkplace(Long workplaceId, LocalDate from, LocalDate to,
+                                                                             String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        checkRange(from, to);
+        KeysetCursor after = decodeCursor(cursor);
+
+        List<Attendance> rows = attendanceRepository.findPageByWorkplace(workplaceId, from, to,
+                after != null ? after.getDate() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
     }
 
-    // 출퇴근 기록 조회 (사용자별)
-    public List<AttendanceResponse> getAttendancesByUser(Long userId) {
-        List<Attendance> attendances = attendanceRepository.findByUserUserId(userId);
-        
-        return attendances.stream()
+    // 출퇴근 기록 조회 (사용자별, 최근 근무일 순 키셋 페이지)
+    public CursorPageResponse<AttendanceResponse> getAttendancesByUser(Long userId, LocalDate from, LocalDate to,
+                                                                        String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        checkRange(from, to);
+        KeysetCursor after = decodeCursor(cursor);
+
+        List<Attendance> rows = attendanceRepository.findPageByUser(userId, from, to,
+                after != null ? after.getDate() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
+    }
+
+    // from/to 는 생략 가능 (생략한 쪽은 경계 없이 조회)
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new RuntimeException("조회 종료일은 시작일 이후여야 합니다");
+        }
+    }
+
+    // 첫 페이지는 커서 없음 (커서 조건 없이 조회)
+    private KeysetCursor decodeCursor(String cursor) {
+        return cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
+    }
+
+    // pageSize + 1 건을 읽어 다음 페이지 존재 여부 판단
+    private CursorPageResponse<AttendanceResponse> toPage(List<Attendance> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Attendance> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<AttendanceResponse> content = page.stream()
                 .map(att -> new AttendanceResponse(
                         att.getAttendanceId(),
                         att.getUser().getUserId(),
@@ -171,6 +219,13 @@ public class AttendanceService {
                         att.getApproved()
                 ))
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            Attendance last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getWorkDate(), last.getAttendanceId());
+        }
+        return new CursorPageResponse<>(content, nextCursor, hasNext, content.size());
     }
 
     // 출퇴근 기록 승인
@@ -183,6 +238,19 @@ public class AttendanceService {
         return attendanceRepository.save(attendance);
     }
 
+    // 출퇴근 처리 시간 (action: in/out, outcome: success/failure)
+    private Attendance timed(String action, Supplier<Attendance> body) {
+        Timer.Sample sample = AppMetrics.start();
+        String outcome = AppMetrics.FAILURE;
+        try {
+            Attendance result = body.get();
+            outcome = AppMetrics.SUCCESS;
+            return result;
+        } finally {
+            AppMetrics.stop(sample, AppMetrics.ATTENDANCE_CHECK, "action", action, "outcome", outcome);
+        }
+    }
+
     private void fillWorkSegments(Attendance attendance) {
         if (attendance.getCheckIn() == null || attendance.getCheckOut() == null) {
             return;
@@ -194,16 +262,25 @@ public class AttendanceService {
             throw new RuntimeException("퇴근 시간이 출근 시간보다 빠릅니다");
         }
 
-        long totalMinutes = ChronoUnit.MINUTES.between(in, out);
+        Workplace workplace = attendance.getWorkplace();
+        LocalTime nightStart = workplace.getNightStartTime() != null
+                ? workplace.getNightStartTime() : WorkTimeCalculator.DEFAULT_NIGHT_START;
+        LocalTime nightEnd = workplace.getNightEndTime() != null
+                ? workplace.getNightEndTime() : WorkTimeCalculator.DEFAULT_NIGHT_END;
+
+        WorkTimeCalculator.WorkSegments segments = workTimeCalculator.split(
+                in, out, nightStart, nightEnd, WorkTimeCalculator.DEFAULT_HOLIDAYS);
+
+        long totalMinutes = segments.getTotalMinutes();
         int restMinutes = calculateRestMinutes(totalMinutes);
         long effectiveMinutes = Math.max(0, totalMinutes - restMinutes);
 
-        float totalHours = totalMinutes / 60f;
-        float effectiveHours = effectiveMinutes / 60f;
+        // 휴게 시간은 휴일 구간에도 같은 비율로 차감
+        long holidayMinutes = totalMinutes == 0 ? 0 : segments.getHolidayMinutes() * effectiveMinutes / totalMinutes;
 
-        boolean isHoliday = in.getDayOfWeek() == java.time.DayOfWeek.SUNDAY;
-        float nightHours = calculateNightHours(in, out);
-        float holidayHours = isHoliday ? effectiveHours : 0f;
+        float effectiveHours = effectiveMinutes / 60f;
+        float nightHours = segments.getNightMinutes() / 60f;
+        float holidayHours = holidayMinutes / 60f;
 
         attendance.setRestMinutes(restMinutes);
         attendance.setWorkHours(effectiveHours);
@@ -218,17 +295,4 @@ public class AttendanceService {
         if (totalMinutes >= 4 * 60) return 30;
         return 0;
     }
-
-    private float calculateNightHours(LocalDateTime in, LocalDateTime out) {
-        LocalDateTime cursor = in;
-        long nightMinutes = 0;
-        while (cursor.isBefore(out)) {
-            LocalDateTime next = cursor.plusMinutes(1);
-            LocalTime t = cursor.toLocalTime();
-            boolean isNight = !t.isBefore(LocalTime.of(22, 0)) || t.isBefore(LocalTime.of(6, 0));
-            if (isNight) nightMinutes++;
-            cursor = next;
-        }
-        return nightMinutes / 60f;
-    }
 }
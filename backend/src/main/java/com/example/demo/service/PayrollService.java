@@ -2,41 +2,43 @@ package com.example.demo.service;
 
 import com.example.demo.dto.request.PayrollCalculateRequest;
 import com.example.demo.dto.response.PayrollResponse;
-import com.example.demo.entity.Attendance;
+import com.example.demo.dto.response.PayrollRunResponse;
 import com.example.demo.entity.Payroll;
+import com.example.demo.entity.User;
 import com.example.demo.entity.WorkInfo;
 import com.example.demo.entity.Workplace;
-import com.example.demo.repository.AttendanceRepository;
+import com.example.demo.repository.PayrollJdbcRepository;
 import com.example.demo.repository.PayrollRepository;
 import com.example.demo.repository.WorkInfoRepository;
 import com.example.demo.repository.WorkplaceRepository;
+import com.example.demo.util.AppMetrics;
+import com.example.demo.util.PayCalculator;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
-import java.time.temporal.IsoFields;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 public class PayrollService {
 
-    private static final BigDecimal MULTIPLIER = BigDecimal.valueOf(1.5);
-
     @Autowired
     private PayrollRepository payrollRepository;
 
     @Autowired
-    private AttendanceRepository attendanceRepository;
+    private PayrollJdbcRepository payrollJdbcRepository;
+
+    @Autowired
+    private WorkHourRollupService workHourRollupService;
 
     @Autowired
     private WorkInfoRepository workInfoRepository;
@@ -44,29 +46,85 @@ public class PayrollService {
     @Autowired
     private WorkplaceRepository workplaceRepository;
 
+    @Autowired
+    private PayCalculator payCalculator;
+
+    // 매장 단위 월 급여 일괄 계산
+    // 근무 시간은 일/주 집계에서 한 번에 읽고, 급여 기록은 배치로 upsert
     @Transactional
-    public List<PayrollResponse> calculateMonthly(PayrollCalculateRequest request) {
+    public List<PayrollRunResponse> calculateMonthly(PayrollCalculateRequest request) {
+        Timer.Sample sample = AppMetrics.start();
+        String outcome = AppMetrics.FAILURE;
+        int[] employees = {0};
+        try {
+            List<PayrollRunResponse> results = doCalculateMonthly(request, employees);
+            outcome = AppMetrics.SUCCESS;
+            return results;
+        } finally {
+            AppMetrics.stop(sample, AppMetrics.PAYROLL_RUN,
+                    "tier", AppMetrics.tier(employees[0]), "outcome", outcome);
+        }
+    }
+
+    private List<PayrollRunResponse> doCalculateMonthly(PayrollCalculateRequest request, int[] employeeCount) {
         LocalDate start = LocalDate.of(request.getYear(), request.getMonth(), 1);
         LocalDate end = start.with(TemporalAdjusters.lastDayOfMonth());
+        Long workplaceId = request.getWorkplaceId();
 
-        Workplace workplace = workplaceRepository.findById(request.getWorkplaceId())
+        Workplace workplace = workplaceRepository.findById(workplaceId)
                 .orElseThrow(() -> new RuntimeException("근무지를 찾을 수 없습니다"));
 
         List<WorkInfo> targets;
         if (request.getUserId() != null) {
-            WorkInfo info = workInfoRepository.findByUserUserIdAndWorkplaceWorkplaceId(request.getUserId(), request.getWorkplaceId())
+            WorkInfo info = workInfoRepository.findByUserUserIdAndWorkplaceWorkplaceId(request.getUserId(), workplaceId)
                     .orElseThrow(() -> new RuntimeException("직원 정보를 찾을 수 없습니다"));
             targets = List.of(info);
         } else {
-            targets = workInfoRepository.findByWorkplaceWorkplaceId(request.getWorkplaceId());
+            targets = workInfoRepository.findWithUserByWorkplaceId(workplaceId);
         }
+        employeeCount[0] = targets.size();
+
+        // 출퇴근 원본 대신 일/주 집계를 읽음 (조회량이 근무 건수가 아니라 주 수에 비례)
+        Map<Long, WorkHourRollupService.MonthlyHours> hoursByUser =
+                workHourRollupService.summarize(workplaceId, request.getUserId(), start, end);
 
-        List<PayrollResponse> responses = new ArrayList<>();
+        Map<Long, PayrollRunResponse> results = new LinkedHashMap<>();
+        List<Payroll> calculated = new ArrayList<>();
+        PayCalculator.PayAmounts amounts = new PayCalculator.PayAmounts();
         for (WorkInfo info : targets) {
-            Payroll payroll = calculateForUser(info, workplace, start, end);
-            responses.add(toResponse(payroll));
+            User user = info.getUser();
+            WorkHourRollupService.MonthlyHours hours = hoursByUser.get(user.getUserId());
+            if (hours == null) {
+                AppMetrics.count(AppMetrics.PAYROLL_EMPLOYEE + ".skipped", "reason", "no_data");
+                results.put(user.getUserId(), new PayrollRunResponse(
+                        user.getUserId(), user.getName(), "NO_DATA", "해당 기간 출퇴근 기록이 없습니다", null));
+                continue;
+            }
+            Timer.Sample employeeSample = AppMetrics.start();
+            try {
+                calculated.add(calculateForUser(info, workplace, hours, start, end, amounts));
+                AppMetrics.stop(employeeSample, AppMetrics.PAYROLL_EMPLOYEE, "outcome", AppMetrics.SUCCESS);
+                results.put(user.getUserId(), new PayrollRunResponse(
+                        user.getUserId(), user.getName(), "CALCULATED", null, null));
+            } catch (RuntimeException e) {
+                AppMetrics.stop(employeeSample, AppMetrics.PAYROLL_EMPLOYEE, "outcome", AppMetrics.FAILURE);
+                results.put(user.getUserId(), new PayrollRunResponse(
+                        user.getUserId(), user.getName(), "FAILED", e.getMessage(), null));
+            }
         }
-        return responses;
+
+        if (!calculated.isEmpty()) {
+            Set<Long> existingUserIds = new HashSet<>(payrollRepository.findUserIdsByPeriod(workplaceId, start, end));
+            payrollJdbcRepository.upsertAll(calculated, existingUserIds);
+
+            for (Payroll saved : payrollRepository.findByWorkplaceWorkplaceIdAndStartDateAndEndDate(workplaceId, start, end)) {
+                PayrollRunResponse result = results.get(saved.getUser().getUserId());
+                if (result != null && "CALCULATED".equals(result.getStatus())) {
+                    result.setPayroll(toResponse(saved));
+                }
+            }
+        }
+        return new ArrayList<>(results.values());
     }
 
     @Transactional
@@ -81,92 +139,46 @@ public class PayrollService {
     public List<PayrollResponse> findByWorkplace(Long workplaceId, int year, int month) {
         LocalDate start = LocalDate.of(year, month, 1);
         LocalDate end = start.with(TemporalAdjusters.lastDayOfMonth());
-        return payrollRepository.findByWorkplaceWorkplaceIdAndStartDateAndEndDate(workplaceId, start, end)
-                .stream().map(this::toResponse).toList();
+        return payrollRepository.findResponsesByWorkplace(workplaceId, start, end);
     }
 
     public List<PayrollResponse> findByUser(Long userId, int year, int month) {
         LocalDate start = LocalDate.of(year, month, 1);
         LocalDate end = start.with(TemporalAdjusters.lastDayOfMonth());
-        return payrollRepository.findByUserUserIdAndStartDateAndEndDate(userId, start, end)
-                .stream().map(this::toResponse).toList();
+        return payrollRepository.findResponsesByUser(userId, start, end);
     }
 
-    private Payroll calculateForUser(WorkInfo workInfo, Workplace workplace, LocalDate start, LocalDate end) {
-        List<Attendance> attendances = attendanceRepository
-                .findByUserUserIdAndWorkDateBetween(workInfo.getUser().getUserId(), start, end);
-
-        if (attendances.isEmpty()) {
-            throw new RuntimeException("해당 기간 출퇴근 기록이 없습니다");
-        }
-
-        float totalHours = (float) attendances.stream()
-                .mapToDouble(att -> att.getWorkHours() != null ? att.getWorkHours() : 0d)
-                .sum();
-
-        Map<LocalDate, Float> dailyHours = attendances.stream()
-                .collect(Collectors.toMap(
-                        Attendance::getWorkDate,
-                        att -> att.getWorkHours() != null ? att.getWorkHours() : 0f
-                ));
-
-        float nightHours = sum(attendances.stream().map(Attendance::getNightHours).toList());
-        float holidayHours = sum(attendances.stream().map(Attendance::getHolidayHours).toList());
-
-        float overtimeHours = calculateWeeklyOvertime(attendances);
-        float regularHours = Math.max(0f, totalHours - overtimeHours);
+    // 한 직원의 월 급여 계산 (DB 접근 없음, 저장은 호출 측에서 일괄 처리)
+    // 금액은 정수 분과 1/100원 단위로 계산하고 BigDecimal 변환은 저장 직전에 한 번만
+    private Payroll calculateForUser(WorkInfo workInfo, Workplace workplace, WorkHourRollupService.MonthlyHours hours,
+                                     LocalDate start, LocalDate end, PayCalculator.PayAmounts amounts) {
+        long overtimeMinutes = hours.getOvertimeMinutes();
+        long regularMinutes = Math.max(0, hours.getWorkMinutes() - overtimeMinutes);
 
-        int workDays = (int) attendances.stream().filter(a -> a.getCheckOut() != null).count();
-
-        BigDecimal hourly = resolveHourly(workInfo);
         Payroll.PayType payType = resolvePayType(workInfo);
-        BigDecimal basePay = resolveBasePay(payType, workInfo, regularHours, hourly);
-        BigDecimal overtimePay = hourly.multiply(BigDecimal.valueOf(overtimeHours)).multiply(MULTIPLIER);
-        BigDecimal nightPay = hourly.multiply(BigDecimal.valueOf(nightHours)).multiply(MULTIPLIER);
-        BigDecimal holidayPay = hourly.multiply(BigDecimal.valueOf(holidayHours)).multiply(MULTIPLIER);
-        BigDecimal totalPay = basePay.add(overtimePay).add(nightPay).add(holidayPay);
-
-        Payroll payroll = payrollRepository
-                .findByWorkplaceWorkplaceIdAndUserUserIdAndStartDateAndEndDate(workplace.getWorkplaceId(), workInfo.getUser().getUserId(), start, end)
-                .orElseGet(Payroll::new);
+        long hourlyMinor = resolveHourlyMinor(workInfo);
+        payCalculator.calculate(hourlyMinor, resolveFixedBaseMinor(payType, workInfo),
+                regularMinutes, overtimeMinutes, hours.getNightMinutes(), hours.getHolidayMinutes(), amounts);
 
+        Payroll payroll = new Payroll();
         payroll.setWorkplace(workplace);
         payroll.setUser(workInfo.getUser());
         payroll.setStartDate(start);
         payroll.setEndDate(end);
         payroll.setPayType(payType);
-        payroll.setWorkDays(workDays);
-        payroll.setRegularHours(regularHours);
-        payroll.setOvertimeHours(overtimeHours);
-        payroll.setNightHours(nightHours);
-        payroll.setHolidayHours(holidayHours);
-        payroll.setTotalHours(totalHours);
-        payroll.setBasePay(basePay);
-        payroll.setOvertimePay(overtimePay);
-        payroll.setNightPay(nightPay);
-        payroll.setHolidayPay(holidayPay);
-        payroll.setTotalPay(totalPay.setScale(2, RoundingMode.HALF_UP));
+        payroll.setWorkDays(hours.getShiftCount());
+        payroll.setRegularHours(regularMinutes / 60f);
+        payroll.setOvertimeHours(overtimeMinutes / 60f);
+        payroll.setNightHours(hours.getNightMinutes() / 60f);
+        payroll.setHolidayHours(hours.getHolidayMinutes() / 60f);
+        payroll.setTotalHours(hours.getWorkMinutes() / 60f);
+        payroll.setBasePay(PayCalculator.toDecimal(amounts.getBasePay()));
+        payroll.setOvertimePay(PayCalculator.toDecimal(amounts.getOvertimePay()));
+        payroll.setNightPay(PayCalculator.toDecimal(amounts.getNightPay()));
+        payroll.setHolidayPay(PayCalculator.toDecimal(amounts.getHolidayPay()));
+        payroll.setTotalPay(PayCalculator.toDecimal(amounts.getTotalPay()));
         payroll.setCalculatedAt(LocalDateTime.now());
-        if (payroll.getFinalized() == null) {
-            payroll.setFinalized(false);
-        }
-        return payrollRepository.save(payroll);
-    }
-
-    private float calculateWeeklyOvertime(List<Attendance> attendances) {
-        Map<Integer, Double> weekHours = attendances.stream()
-                .collect(Collectors.groupingBy(
-                        att -> weekKey(att.getWorkDate()),
-                        Collectors.summingDouble(att -> att.getWorkHours() != null ? att.getWorkHours() : 0d)
-                ));
-        return (float) weekHours.values().stream()
-                .mapToDouble(h -> Math.max(0, h - 40d))
-                .sum();
-    }
-
-    private int weekKey(LocalDate date) {
-        LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        return monday.getYear() * 100 + monday.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+        return payroll;
     }
 
     private Payroll.PayType resolvePayType(WorkInfo info) {
@@ -180,30 +192,27 @@ public class PayrollService {
         };
     }
 
-    private BigDecimal resolveHourly(WorkInfo info) {
-        if (info.getHourlyWage() != null) return info.getHourlyWage();
+    private long resolveHourlyMinor(WorkInfo info) {
+        if (info.getHourlyWage() != null) return PayCalculator.toMinor(info.getHourlyWage());
         if (info.getWeeklyWage() != null) {
-            return info.getWeeklyWage().divide(BigDecimal.valueOf(40), 2, RoundingMode.HALF_UP);
+            return payCalculator.hourlyFromWeekly(PayCalculator.toMinor(info.getWeeklyWage()));
         }
         if (info.getMonthlyWage() != null) {
-            // 대략 주40h*4.345주
-            return info.getMonthlyWage().divide(BigDecimal.valueOf(40 * 4.345), 2, RoundingMode.HALF_UP);
+            // 주40h*4.345주
+            return payCalculator.hourlyFromMonthly(PayCalculator.toMinor(info.getMonthlyWage()));
         }
         throw new RuntimeException("시급 정보를 찾을 수 없습니다");
     }
 
-    private BigDecimal resolveBasePay(Payroll.PayType payType, WorkInfo info, float regularHours, BigDecimal hourly) {
+    // 주급/월급제의 고정 기본급 (없으면 -1: 정규 근무 시간 * 시급)
+    private long resolveFixedBaseMinor(Payroll.PayType payType, WorkInfo info) {
         return switch (payType) {
-            case HOURLY -> hourly.multiply(BigDecimal.valueOf(regularHours));
-            case WEEKLY -> Optional.ofNullable(info.getWeeklyWage()).orElse(hourly.multiply(BigDecimal.valueOf(regularHours)));
-            case MONTHLY -> Optional.ofNullable(info.getMonthlyWage()).orElse(hourly.multiply(BigDecimal.valueOf(regularHours)));
+            case HOURLY -> -1;
+            case WEEKLY -> info.getWeeklyWage() != null ? PayCalculator.toMinor(info.getWeeklyWage()) : -1;
+            case MONTHLY -> info.getMonthlyWage() != null ? PayCalculator.toMinor(info.getMonthlyWage()) : -1;
         };
     }
 
-    private float sum(List<Float> floats) {
-        return (float) floats.stream().filter(f -> f != null).mapToDouble(Float::doubleValue).sum();
-    }
-
     private PayrollResponse toResponse(Payroll payroll) {
         return new PayrollResponse(
                 payroll.getPayrollId(),
@@ -4,22 +4,40 @@ import com.example.demo.dto.request.CommentCreateRequest;
 import com.example.demo.dto.request.PostCreateRequest;
 import com.example.demo.dto.request.PostUpdateRequest;
 import com.example.demo.dto.response.CommentResponse;
+import com.example.demo.dto.response.CursorPageResponse;
 import com.example.demo.dto.response.PostResponse;
+import com.example.demo.dto.response.PostSummaryResponse;
+import com.example.demo.dto.response.ReactionResponse;
+import com.example.demo.dto.response.SearchHitResponse;
 import com.example.demo.entity.Comment;
 import com.example.demo.entity.Review;
 import com.example.demo.entity.TipPost;
+import com.example.demo.entity.TipPostReaction;
 import com.example.demo.entity.User;
 import com.example.demo.entity.Workplace;
 import com.example.demo.repository.CommentRepository;
 import com.example.demo.repository.ReviewRepository;
+import com.example.demo.repository.TipPostReactionRepository;
 import com.example.demo.repository.TipPostRepository;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.repository.WorkplaceRepository;
+import com.example.demo.repository.projection.CommentCount;
+import com.example.demo.repository.projection.SearchDocument;
+import com.example.demo.service.board.TipFeedCache;
+import com.example.demo.service.board.BoardSearchIndex;
+import com.example.demo.service.board.TipCounters;
+import com.example.demo.util.AppMetrics;
+import com.example.demo.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,6 +53,14 @@ public class PostService {
     private UserRepository userRepository;
     @Autowired
     private WorkplaceRepository workplaceRepository;
+    @Autowired
+    private TipFeedCache tipFeedCache;
+    @Autowired
+    private TipCounters tipCounters;
+    @Autowired
+    private TipPostReactionRepository tipPostReactionRepository;
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
 
     // 꿀팁 게시글 CRUD
     @Transactional
@@ -47,7 +73,10 @@ public class PostService {
         post.setLikes(0);
         post.setDislikes(0);
         post.setViews(0);
-        return toResponse(tipPostRepository.save(post), "tip", null);
+        post = tipPostRepository.save(post);
+        tipFeedCache.invalidateAfterCommit();
+        boardSearchIndex.indexAfterCommit(toSearchDocument(post));
+        return toResponse(post, "tip", null);
     }
 
     @Transactional
@@ -58,7 +87,10 @@ public class PostService {
         }
         post.setTitle(request.getTitle());
         post.setContent(request.getContent());
-        return toResponse(tipPostRepository.save(post), "tip", null);
+        post = tipPostRepository.save(post);
+        tipFeedCache.invalidateAfterCommit();
+        boardSearchIndex.indexAfterCommit(toSearchDocument(post));
+        return toResponse(post, "tip", null);
     }
 
     @Transactional
@@ -67,23 +99,146 @@ public class PostService {
         if (!post.getUser().getUserId().equals(userId)) {
             throw new RuntimeException("삭제 권한이 없습니다");
         }
+        tipPostReactionRepository.deleteByPostId(postId);
         tipPostRepository.delete(post);
+        tipFeedCache.invalidateAfterCommit();
+        boardSearchIndex.deletePostAfterCommit(postId);
     }
 
+    // 꿀팁 목록 (최신순 키셋 페이지, 본문 없이 요약만), 앞쪽 몇 페이지는 캐시에서
     @Transactional(readOnly = true)
-    public List<PostResponse> listTips() {
-        return tipPostRepository.findAllByOrderByCreatedAtDesc()
+    public CursorPageResponse<PostSummaryResponse> getTipFeed(String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        String requested = cursor != null && !cursor.isBlank() ? cursor : null;
+        CursorPageResponse<PostSummaryResponse> cached = tipFeedCache.get(requested, pageSize);
+        if (cached != null) {
+            AppMetrics.count(AppMetrics.TIP_FEED_CACHE, "result", "hit");
+            return cached;
+        }
+        AppMetrics.count(AppMetrics.TIP_FEED_CACHE, "result", "miss");
+
+        long version = tipFeedCache.version();
+        // 첫 페이지는 커서 조건 없이 조회
+        LocalDateTime cursorTime = null;
+        Long cursorId = null;
+        if (requested != null) {
+            KeysetCursor after = KeysetCursor.decode(requested);
+            cursorTime = after.getDateTime();
+            cursorId = after.getId();
+        }
+        List<PostSummaryResponse> rows = tipPostRepository.findSummaryPage(
+                cursorTime, cursorId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostSummaryResponse> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+        fillCommentCounts(content);
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryResponse last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getPostId());
+        }
+        CursorPageResponse<PostSummaryResponse> page = new CursorPageResponse<>(content, nextCursor, hasNext, content.size());
+        tipFeedCache.put(version, requested, pageSize, page);
+        return page;
+    }
+
+    // 페이지의 게시글 댓글 수를 한 번의 조회로 (게시글마다 count 하지 않음)
+    private void fillCommentCounts(List<PostSummaryResponse> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> counts = commentRepository.countByPostIdIn(
+                        posts.stream().map(PostSummaryResponse::getPostId).toList())
                 .stream()
-                .map(p -> toResponse(p, "tip", null))
-                .collect(Collectors.toList());
+                .collect(Collectors.toMap(CommentCount::getPostId, CommentCount::getCount));
+        for (PostSummaryResponse post : posts) {
+            post.setComments(counts.getOrDefault(post.getPostId(), 0L).intValue());
+        }
     }
 
+    // 조회수는 TipCounters 에만 올리고 주기적으로 한 번에 반영 (조회 경로에서 행 쓰기 없음)
     @Transactional(readOnly = true)
     public PostResponse getTip(Long postId) {
         TipPost post = tipPostRepository.findById(postId).orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다"));
-        post.setViews(post.getViews() + 1);
-        tipPostRepository.save(post);
-        return toResponse(post, "tip", null);
+        tipCounters.addView(postId);
+        PostResponse response = toResponse(post, "tip", null);
+        response.setViews(post.getViews() + (int) tipCounters.pendingViews(postId));
+        response.setLikes(post.getLikes() + (int) tipCounters.pendingLikes(postId));
+        response.setDislikes(post.getDislikes() + (int) tipCounters.pendingDislikes(postId));
+        return response;
+    }
+
+    // 좋아요/싫어요: (게시글, 사용자) 유니크 반응 행으로 중복을 막고, 카운터는 커밋 후 TipCounters 로 모아 반영
+    // 같은 반응을 다시 보내면 변화 없음, 다른 반응을 보내면 바꿈
+    @Transactional
+    public ReactionResponse react(Long postId, Long userId, String type) {
+        TipPostReaction.Type reactionType = parseReaction(type);
+        TipPost post = tipPostRepository.findById(postId).orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다"));
+        Optional<TipPostReaction> existing = tipPostReactionRepository.findByPostAndUser(postId, userId);
+        long likes = 0;
+        long dislikes = 0;
+        if (existing.isEmpty()) {
+            User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+            TipPostReaction reaction = new TipPostReaction();
+            reaction.setTipPost(post);
+            reaction.setUser(user);
+            reaction.setType(reactionType);
+            try {
+                // 같은 사용자의 동시 요청은 유니크 제약에 걸려 한 건만 들어감 (롤백된 쪽은 카운터에 반영되지 않음)
+                tipPostReactionRepository.saveAndFlush(reaction);
+            } catch (DataIntegrityViolationException e) {
+                throw new RuntimeException("이미 처리 중인 반응이 있습니다. 잠시 후 다시 시도해 주세요");
+            }
+            likes = reactionType == TipPostReaction.Type.like ? 1 : 0;
+            dislikes = reactionType == TipPostReaction.Type.dislike ? 1 : 0;
+        } else if (existing.get().getType() != reactionType) {
+            TipPostReaction.Type from = existing.get().getType();
+            // 읽은 뒤 다른 요청이 먼저 바꿨으면 0 건: 그 요청이 카운터를 반영하므로 여기서는 반영하지 않음
+            if (tipPostReactionRepository.changeType(existing.get().getReactionId(), from, reactionType) == 1) {
+                likes = reactionType == TipPostReaction.Type.like ? 1 : -1;
+                dislikes = -likes;
+            }
+        }
+        if (likes != 0 || dislikes != 0) {
+            tipCounters.addReactionAfterCommit(postId, likes, dislikes);
+        }
+        return toReactionResponse(post, reactionType.name(), likes, dislikes);
+    }
+
+    @Transactional
+    public ReactionResponse removeReaction(Long postId, Long userId) {
+        TipPost post = tipPostRepository.findById(postId).orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다"));
+        Optional<TipPostReaction> existing = tipPostReactionRepository.findByPostAndUser(postId, userId);
+        long likes = 0;
+        long dislikes = 0;
+        if (existing.isPresent()) {
+            TipPostReaction.Type type = existing.get().getType();
+            if (tipPostReactionRepository.deleteIfType(existing.get().getReactionId(), type) == 1) {
+                likes = type == TipPostReaction.Type.like ? -1 : 0;
+                dislikes = type == TipPostReaction.Type.dislike ? -1 : 0;
+                tipCounters.addReactionAfterCommit(postId, likes, dislikes);
+            }
+        }
+        return toReactionResponse(post, null, likes, dislikes);
+    }
+
+    private TipPostReaction.Type parseReaction(String type) {
+        if (type != null) {
+            for (TipPostReaction.Type candidate : TipPostReaction.Type.values()) {
+                if (candidate.name().equalsIgnoreCase(type.trim())) {
+                    return candidate;
+                }
+            }
+        }
+        throw new RuntimeException("반응은 like 또는 dislike 만 가능합니다");
+    }
+
+    // 응답 카운트 = DB 값 + 아직 반영되지 않은 값 + 이번 요청 변경분 (커밋 후에 TipCounters 에 더해짐)
+    private ReactionResponse toReactionResponse(TipPost post, String reaction, long likes, long dislikes) {
+        Long postId = post.getPostId();
+        return new ReactionResponse(postId, reaction,
+                (int) (post.getLikes() + tipCounters.pendingLikes(postId) + likes),
+                (int) (post.getDislikes() + tipCounters.pendingDislikes(postId) + dislikes));
     }
 
     // 후기(리뷰) 게시판 CRUD
@@ -97,6 +252,7 @@ public class PostService {
         review.setContent(request.getContent());
         review.setRating(5);
         review = reviewRepository.save(review);
+        boardSearchIndex.indexAfterCommit(toSearchDocument(review));
         return toResponse(review, "review", workplace.getWorkplaceId(), request.getTitle());
     }
 
@@ -108,6 +264,7 @@ public class PostService {
         }
         review.setContent(request.getContent());
         review = reviewRepository.save(review);
+        boardSearchIndex.indexAfterCommit(toSearchDocument(review));
         return toResponse(review, "review", review.getWorkplace().getWorkplaceId(), request.getTitle());
     }
 
@@ -118,12 +275,15 @@ public class PostService {
             throw new RuntimeException("삭제 권한이 없습니다");
         }
         reviewRepository.delete(review);
+        boardSearchIndex.deleteAfterCommit(SearchDocument.REVIEW, reviewId);
     }
 
     @Transactional(readOnly = true)
     public List<PostResponse> listReviews(Long workplaceId) {
-        Workplace workplace = workplaceRepository.findById(workplaceId).orElseThrow(() -> new RuntimeException("근무지를 찾을 수 없습니다"));
-        return reviewRepository.findByWorkplaceOrderByCreatedAtDesc(workplace)
+        if (!workplaceRepository.existsById(workplaceId)) {
+            throw new RuntimeException("근무지를 찾을 수 없습니다");
+        }
+        return reviewRepository.findByWorkplaceWorkplaceIdOrderByCreatedAtDesc(workplaceId)
                 .stream()
                 .map(r -> toResponse(r, "review", workplaceId, r.getContent()))
                 .collect(Collectors.toList());
@@ -145,6 +305,8 @@ public class PostService {
         comment.setTipPost(post);
         comment.setContent(request.getContent());
         comment = commentRepository.save(comment);
+        tipFeedCache.invalidateAfterCommit();  // 목록의 댓글 수
+        boardSearchIndex.indexAfterCommit(toSearchDocument(comment));
         return toResponse(comment);
     }
 
@@ -156,6 +318,7 @@ public class PostService {
         }
         comment.setContent(request.getContent());
         comment = commentRepository.save(comment);
+        boardSearchIndex.indexAfterCommit(toSearchDocument(comment));
         return toResponse(comment);
     }
 
@@ -166,15 +329,84 @@ public class PostService {
             throw new RuntimeException("삭제 권한이 없습니다");
         }
         commentRepository.delete(comment);
+        tipFeedCache.invalidateAfterCommit();
+        boardSearchIndex.deleteAfterCommit(SearchDocument.COMMENT, commentId);
     }
 
+    // 댓글 목록 (작성순 키셋 페이지), 게시글 존재 확인은 결과가 비었을 때만
     @Transactional(readOnly = true)
-    public List<CommentResponse> listComments(Long postId) {
-        TipPost post = tipPostRepository.findById(postId).orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다"));
-        return commentRepository.findByTipPostOrderByCreatedAtAsc(post)
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<CommentResponse> listComments(Long postId, String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        // 첫 페이지는 커서 조건 없이 조회
+        LocalDateTime cursorTime = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            cursorTime = after.getDateTime();
+            cursorId = after.getId();
+        }
+        List<CommentResponse> rows = commentRepository.findResponsePage(
+                postId, cursorTime, cursorId, PageRequest.of(0, pageSize + 1));
+        if (rows.isEmpty() && !tipPostRepository.existsById(postId)) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다");
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CommentResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponse last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getCommentId());
+        }
+        return new CursorPageResponse<>(content, nextCursor, hasNext, content.size());
+    }
+
+    // 게시판 검색 (꿀팁 제목·본문, 후기, 댓글), 관련도 순
+    // 관련도 순서는 키로 이어 갈 수 없어 cursor 는 다음 결과의 위치 (최대 BoardSearchIndex.MAX_DEPTH 건까지)
+    public CursorPageResponse<SearchHitResponse> search(String q, String type, String cursor, Integer size) {
+        if (q == null || q.isBlank()) {
+            throw new RuntimeException("검색어를 입력해 주세요");
+        }
+        String target = type != null && !type.isBlank() ? type : null;
+        if (target != null && !List.of(SearchDocument.TIP, SearchDocument.REVIEW, SearchDocument.COMMENT).contains(target)) {
+            throw new RuntimeException("검색 대상은 tip, review, comment 만 가능합니다");
+        }
+        int pageSize = KeysetCursor.pageSize(size);
+        int offset = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                offset = Integer.parseInt(cursor);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("잘못된 커서입니다");
+            }
+            if (offset < 0 || offset >= BoardSearchIndex.MAX_DEPTH) {
+                throw new RuntimeException("잘못된 커서입니다");
+            }
+        }
+        int from = offset;
+        int limit = Math.min(pageSize + 1, BoardSearchIndex.MAX_DEPTH - offset);
+        List<SearchHitResponse> rows = AppMetrics.timed(AppMetrics.BOARD_SEARCH,
+                () -> boardSearchIndex.search(q, target, from, limit), "type", target != null ? target : "all");
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SearchHitResponse> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasNext ? String.valueOf(offset + pageSize) : null;
+        return new CursorPageResponse<>(content, nextCursor, hasNext, content.size());
+    }
+
+    private SearchDocument toSearchDocument(TipPost post) {
+        return new SearchDocument(SearchDocument.TIP, post.getPostId(), post.getPostId(),
+                post.getTitle(), post.getContent(), post.getCreatedAt());
+    }
+
+    private SearchDocument toSearchDocument(Review review) {
+        return new SearchDocument(SearchDocument.REVIEW, review.getReviewId(), review.getWorkplace().getWorkplaceId(),
+                review.getContent(), review.getCreatedAt());
+    }
+
+    private SearchDocument toSearchDocument(Comment comment) {
+        return new SearchDocument(SearchDocument.COMMENT, comment.getCommentId(), comment.getTipPost().getPostId(),
+                comment.getContent(), comment.getCreatedAt());
     }
 
     private PostResponse toResponse(TipPost post, String board, Long workplaceId) {
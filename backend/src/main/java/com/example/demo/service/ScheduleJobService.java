@@ -0,0 +1,166 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.ScheduleGenerateRequest;
+import com.example.demo.dto.response.ScheduleJobResponse;
+import com.example.demo.dto.response.ScheduleResponse;
+import com.example.demo.service.schedule.ScheduleJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+@Service
+public class ScheduleJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleJobService.class);
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    @Qualifier("scheduleJobExecutor")
+    private ThreadPoolTaskExecutor scheduleJobExecutor;
+
+    // 완료된 작업 보관 시간 (분)
+    @Value("${schedule.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${schedule.jobs.sse-timeout-ms:300000}")
+    private long sseTimeoutMs;
+
+    private final Map<String, ScheduleJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // 작업 등록 후 바로 반환, 실제 생성은 전용 실행기에서 수행
+    public ScheduleJob submit(ScheduleGenerateRequest request, Long requestedBy) {
+        ScheduleJob job = new ScheduleJob(UUID.randomUUID().toString(), request.getWorkplaceId(), requestedBy);
+        jobs.put(job.getJobId(), job);
+        try {
+            scheduleJobExecutor.execute(() -> run(job, request));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            throw new RuntimeException("스케줄 생성 요청이 많습니다. 잠시 후 다시 시도해주세요");
+        }
+        return job;
+    }
+
+    public ScheduleJob getJob(String jobId, Long userId) {
+        ScheduleJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("작업을 찾을 수 없습니다");
+        }
+        if (!job.getRequestedBy().equals(userId)) {
+            throw new RuntimeException("작업 조회 권한이 없습니다");
+        }
+        return job;
+    }
+
+    public List<ScheduleResponse> getResult(String jobId, Long userId) {
+        ScheduleJob job = getJob(jobId, userId);
+        if (job.getStatus() == ScheduleJob.Status.FAILED) {
+            throw new RuntimeException(job.getMessage());
+        }
+        if (job.getStatus() != ScheduleJob.Status.COMPLETED) {
+            throw new RuntimeException("스케줄 생성이 아직 완료되지 않았습니다");
+        }
+        return job.getSchedules();
+    }
+
+    // 진행 상황 스트림 (SSE), 이미 끝난 작업이면 현재 상태만 보내고 종료
+    public SseEmitter subscribe(String jobId, Long userId) {
+        ScheduleJob job = getJob(jobId, userId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        if (job.isFinished()) {
+            send(emitter, job);
+            emitter.complete();
+            return emitter;
+        }
+
+        List<SseEmitter> list = emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        emitter.onCompletion(() -> list.remove(emitter));
+        emitter.onTimeout(() -> list.remove(emitter));
+        emitter.onError(e -> list.remove(emitter));
+        send(emitter, job);
+        // 등록 직전에 작업이 끝난 경우
+        if (job.isFinished()) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    public ScheduleJobResponse toResponse(ScheduleJob job) {
+        List<ScheduleResponse> schedules = job.getSchedules();
+        return new ScheduleJobResponse(
+                job.getJobId(),
+                job.getWorkplaceId(),
+                job.getStatus().name(),
+                job.getStage(),
+                job.getProgress(),
+                job.getMessage(),
+                schedules != null ? schedules.size() : null,
+                job.getCreatedAt(),
+                job.getFinishedAt()
+        );
+    }
+
+    private void run(ScheduleJob job, ScheduleGenerateRequest request) {
+        try {
+            List<ScheduleResponse> schedules = scheduleService.generateOptimalSchedule(request, (stage, percent) -> {
+                job.running(stage, percent);
+                publish(job);
+            }).stream().map(scheduleService::toResponse).collect(Collectors.toList());
+            job.complete(schedules);
+        } catch (Exception e) {
+            log.warn("스케줄 생성 작업 실패: jobId={}, {}", job.getJobId(), e.getMessage());
+            job.fail(e.getMessage());
+        }
+        publish(job);
+
+        List<SseEmitter> list = emitters.remove(job.getJobId());
+        if (list != null) {
+            list.forEach(SseEmitter::complete);
+        }
+    }
+
+    private void publish(ScheduleJob job) {
+        List<SseEmitter> list = emitters.get(job.getJobId());
+        if (list == null) {
+            return;
+        }
+        for (SseEmitter emitter : list) {
+            send(emitter, job);
+        }
+    }
+
+    private void send(SseEmitter emitter, ScheduleJob job) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(toResponse(job)));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊긴 경우
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 오래된 완료 작업 정리
+    @Scheduled(fixedDelayString = "${schedule.jobs.cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
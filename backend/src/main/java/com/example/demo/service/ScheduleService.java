@@ -2,26 +2,49 @@ package com.example.demo.service;
 
 import com.example.demo.dto.request.ScheduleGenerateRequest;
 import com.example.demo.dto.request.SchedulePreferenceRequest;
+import com.example.demo.dto.response.CursorPageResponse;
+import com.example.demo.dto.response.ScheduleResponse;
 import com.example.demo.entity.*;
 import com.example.demo.repository.*;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.theokanning.openai.completion.CompletionRequest;
-import com.theokanning.openai.completion.CompletionResult;
-import com.theokanning.openai.service.OpenAiService;
+import com.example.demo.service.schedule.AiSchedulePlanner;
+import com.example.demo.service.schedule.AvailabilityMatrix;
+import com.example.demo.service.schedule.GenerationProgress;
+import com.example.demo.service.schedule.PlannedShift;
+import com.example.demo.service.schedule.ScheduleProblem;
+import com.example.demo.service.schedule.ScheduleSolution;
+import com.example.demo.service.schedule.ScheduleSolver;
+import com.example.demo.service.schedule.ShiftIntervalIndex;
+import com.example.demo.util.AppMetrics;
+import com.example.demo.util.KeysetCursor;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class ScheduleService {
 
+    private static final Logger log = LoggerFactory.getLogger(ScheduleService.class);
+
+    // 한 근무의 최대 길이, 겹침 조회 시 startTime 하한으로 사용
+    private static final int MAX_SHIFT_HOURS = 24;
+
     @Autowired
     private ScheduleRepository scheduleRepository;
 
@@ -40,11 +63,25 @@ public class ScheduleService {
     @Autowired
     private SchedulePreferenceSlotRepository schedulePreferenceSlotRepository;
 
-    @Autowired(required = false)
-    private OpenAiService openAiService;
+    @Autowired
+    private ScheduleSolver scheduleSolver;
+
+    @Autowired
+    private AiSchedulePlanner aiSchedulePlanner;
+
+    // AI 스케줄 생성 사용 여부 (기본은 로컬 솔버만 사용)
+    @Value("${schedule.ai.enabled:false}")
+    private boolean aiEnabled;
+
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
 
     // 알바생 월간 선호도 등록/갱신
     @Transactional
@@ -99,15 +136,68 @@ public class ScheduleService {
         return schedulePreferenceRepository.save(preference);
     }
 
-    // AI 기반 스케줄 생성
-    @Transactional
+    // AI/솔버 기반 스케줄 생성
+    // 조회 -> 계획 -> 저장을 나눠, 오래 걸리는 계획 단계 동안 DB 트랜잭션(커넥션)을 잡지 않음
     public List<Schedule> generateOptimalSchedule(ScheduleGenerateRequest request) {
+        return generateOptimalSchedule(request, GenerationProgress.NONE);
+    }
+
+    public List<Schedule> generateOptimalSchedule(ScheduleGenerateRequest request, GenerationProgress progress) {
+        Timer.Sample sample = AppMetrics.start();
+        String outcome = AppMetrics.FAILURE;
+        String[] tier = {"unknown"};
+        try {
+            List<Schedule> schedules = doGenerate(request, progress, tier);
+            outcome = AppMetrics.SUCCESS;
+            return schedules;
+        } finally {
+            AppMetrics.stop(sample, AppMetrics.SCHEDULE_GENERATION, "tier", tier[0], "outcome", outcome);
+        }
+    }
+
+    private List<Schedule> doGenerate(ScheduleGenerateRequest request, GenerationProgress progress, String[] tier) {
+        progress.stage("PREPARING", 10);
+        GenerationContext context = timedStage("prepare", tier[0],
+                () -> readOnlyTransaction.execute(status -> prepareGeneration(request)));
+        tier[0] = AppMetrics.tier(context.employees.size());
+
+        progress.stage("PLANNING", 30);
+        List<PlannedShift> plannedShifts = planSchedule(
+                request, context.employees, context.availability, context.busyShifts);
+
+        progress.stage("PERSISTING", 80);
+        return timedStage("persist", tier[0], () -> writeTransaction.execute(status -> {
+            // 기존 스케줄 덮어쓰기 옵션 (행 수와 무관하게 문장 하나)
+            if (request.isOverwriteExisting()) {
+                overwriteExisting(request);
+            }
+            return persistSchedules(plannedShifts, context.workplace, context.employeeMap);
+        }));
+    }
+
+    // 생성 단계별 소요 시간 (stage: prepare/problem/prompt/ai_call/parse/solver/persist)
+    private <T> T timedStage(String stage, String tier, Supplier<T> body) {
+        return AppMetrics.timed(AppMetrics.SCHEDULE_STAGE, body, "stage", stage, "tier", tier);
+    }
+
+    private void overwriteExisting(ScheduleGenerateRequest request) {
+        LocalDateTime rangeStart = request.getStartDate().atStartOfDay();
+        LocalDateTime rangeEnd = request.getEndDate().plusDays(1).atStartOfDay();
+        if (request.getOverwriteMode() == ScheduleGenerateRequest.OverwriteMode.CANCEL) {
+            scheduleRepository.bulkCancelByWorkplaceAndStartRange(request.getWorkplaceId(), rangeStart, rangeEnd);
+            return;
+        }
+        scheduleRepository.bulkDeleteByWorkplaceAndStartRange(request.getWorkplaceId(), rangeStart, rangeEnd);
+    }
+
+    private GenerationContext prepareGeneration(ScheduleGenerateRequest request) {
         Workplace workplace = workplaceRepository.findById(request.getWorkplaceId())
                 .orElseThrow(() -> new RuntimeException("근무지를 찾을 수 없습니다"));
 
         validateDateRange(request);
 
-        List<WorkInfo> employees = workInfoRepository.findByWorkplaceWorkplaceId(request.getWorkplaceId());
+        // 계획 단계는 트랜잭션 밖에서 돌므로 직원 정보를 미리 함께 조회
+        List<WorkInfo> employees = workInfoRepository.findWithUserByWorkplaceId(request.getWorkplaceId());
         if (employees.isEmpty()) {
             throw new RuntimeException("근무지에 등록된 직원이 없습니다");
         }
@@ -116,38 +206,39 @@ public class ScheduleService {
                 .map(WorkInfo::getUser)
                 .collect(Collectors.toMap(User::getUserId, u -> u));
 
-        List<SchedulePreferenceSlot> preferenceSlots = schedulePreferenceSlotRepository
-                .findByPreferenceWorkplaceWorkplaceIdAndWorkDateBetween(
-                        request.getWorkplaceId(),
-                        request.getStartDate(),
-                        request.getEndDate()
-                );
-
-        Map<LocalDate, Map<Long, List<SchedulePreferenceSlot>>> preferenceByDateAndUser = preferenceSlots.stream()
-                .collect(Collectors.groupingBy(
-                        SchedulePreferenceSlot::getWorkDate,
-                        Collectors.groupingBy(slot -> slot.getPreference().getUser().getUserId())
-                ));
-
-        // 기존 스케줄 덮어쓰기 옵션
-        if (request.isOverwriteExisting()) {
-            scheduleRepository.deleteByWorkplaceWorkplaceIdAndStartTimeBetween(
-                    request.getWorkplaceId(),
-                    request.getStartDate().atStartOfDay(),
-                    request.getEndDate().atTime(23, 59, 59)
-            );
-        }
-
-        List<PlannedSlot> plannedSlots = generateScheduleWithAI(request, employees, preferenceByDateAndUser);
-        return persistSchedules(plannedSlots, workplace, employeeMap);
+        // 희망 시간은 (userId, 날짜, 시작, 종료)만 읽어 직원별 타임 비트로 한 번에 변환
+        AvailabilityMatrix availability = new AvailabilityMatrix(
+                request.getStartDate(), dayCount(request), request.getOpenTime(),
+                request.getSlotHours() * 60, slotsPerDay(request))
+                .addAll(schedulePreferenceSlotRepository.findWindowsByWorkplaceAndWorkDateBetween(
+                        request.getWorkplaceId(), request.getStartDate(), request.getEndDate()));
+
+        // 다른 근무지 등 이미 잡힌 근무 (덮어쓰기로 지워지거나 취소될 이 근무지의 기간 내 근무는 제외)
+        LocalDateTime rangeStart = request.getStartDate().atStartOfDay();
+        LocalDateTime rangeEnd = request.getEndDate().plusDays(1).atStartOfDay();
+        ShiftIntervalIndex busyShifts = loadBusyShifts(employeeMap.keySet(), rangeStart, rangeEnd,
+                s -> request.isOverwriteExisting()
+                        && s.getWorkplace().getWorkplaceId().equals(request.getWorkplaceId())
+                        && !s.getStartTime().isBefore(rangeStart)
+                        && s.getStartTime().isBefore(rangeEnd));
+
+        return new GenerationContext(workplace, employees, employeeMap, availability, busyShifts);
     }
 
-    // 스케줄 수정
+    // 스케줄 수정 (저장 전에 시간/겹침 검증)
     @Transactional
     public Schedule updateSchedule(Long scheduleId, LocalDateTime startTime, LocalDateTime endTime) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new RuntimeException("스케줄을 찾을 수 없습니다"));
 
+        validateShiftTime(startTime, endTime);
+        Long userId = schedule.getUser().getUserId();
+        ShiftIntervalIndex busy = loadBusyShifts(List.of(userId), startTime, endTime,
+                s -> s.getScheduleId().equals(scheduleId));
+        if (busy.overlaps(userId, startTime, endTime)) {
+            throw new RuntimeException("해당 시간에 이미 다른 스케줄이 있습니다");
+        }
+
         schedule.setStartTime(startTime);
         schedule.setEndTime(endTime);
         schedule.setStatus(Schedule.ScheduleStatus.modified);
@@ -165,24 +256,107 @@ public class ScheduleService {
         scheduleRepository.save(schedule);
     }
 
-    // 근무지 스케줄 조회
-    public List<Schedule> getSchedulesByWorkplace(Long workplaceId) {
-        return scheduleRepository.findByWorkplaceWorkplaceId(workplaceId);
+    // 근무지 스케줄 조회 (시작 시간 순 키셋 페이지)
+    public CursorPageResponse<ScheduleResponse> getSchedulesByWorkplace(Long workplaceId, LocalDate from, LocalDate to,
+                                                                       String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        LocalDateTime[] range = timeRange(from, to);
+        KeysetCursor after = decodeCursor(cursor);
+
+        List<Schedule> rows = scheduleRepository.findPageByWorkplace(workplaceId, range[0], range[1],
+                after != null ? after.getDateTime() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
+    }
+
+    // 사용자 스케줄 조회 (시작 시간 순 키셋 페이지)
+    public CursorPageResponse<ScheduleResponse> getSchedulesByUser(Long userId, LocalDate from, LocalDate to,
+                                                                  String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        LocalDateTime[] range = timeRange(from, to);
+        KeysetCursor after = decodeCursor(cursor);
+
+        List<Schedule> rows = scheduleRepository.findPageByUser(userId, range[0], range[1],
+                after != null ? after.getDateTime() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
+    }
+
+    public ScheduleResponse toResponse(Schedule schedule) {
+        return new ScheduleResponse(
+                schedule.getScheduleId(),
+                new ScheduleResponse.UserSummary(schedule.getUser().getUserId(), schedule.getUser().getName()),
+                schedule.getWorkplace().getWorkplaceId(),
+                schedule.getWorkplace().getWorkName(),
+                schedule.getStartTime(),
+                schedule.getEndTime(),
+                schedule.getMethod().name(),
+                schedule.getStatus().name()
+        );
+    }
+
+    // [from 00:00, to 다음 날 00:00), 생략한 쪽은 null (경계 없이 조회)
+    private LocalDateTime[] timeRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new RuntimeException("조회 종료일은 시작일 이후여야 합니다");
+        }
+        return new LocalDateTime[]{
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null};
+    }
+
+    // 첫 페이지는 커서 없음 (커서 조건 없이 조회)
+    private KeysetCursor decodeCursor(String cursor) {
+        return cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor) : null;
     }
 
-    // 사용자 스케줄 조회
-    public List<Schedule> getSchedulesByUser(Long userId) {
-        return scheduleRepository.findByUserUserId(userId);
+    // pageSize + 1 건을 읽어 다음 페이지 존재 여부 판단
+    private CursorPageResponse<ScheduleResponse> toPage(List<Schedule> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Schedule> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<ScheduleResponse> content = page.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            Schedule last = page.get(page.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getStartTime(), last.getScheduleId());
+        }
+        return new CursorPageResponse<>(content, nextCursor, hasNext, content.size());
     }
 
-    // 스케줄 충돌 추가
+    // 스케줄 충돌 확인 (취소된 근무 제외, 끝과 시작이 맞닿는 근무는 충돌 아님)
     public boolean hasScheduleConflict(Long userId, LocalDateTime startTime, LocalDateTime endTime) {
-        List<Schedule> userSchedules = scheduleRepository.findByUserUserId(userId);
+        return loadBusyShifts(List.of(userId), startTime, endTime, s -> false)
+                .overlaps(userId, startTime, endTime);
+    }
+
+    // 기간 [from, to) 와 겹치는 직원들의 기존 근무를 한 번에 읽어 색인 (일괄 충돌 확인용)
+    private ShiftIntervalIndex loadBusyShifts(Collection<Long> userIds, LocalDateTime from, LocalDateTime to,
+                                              Predicate<Schedule> ignore) {
+        if (userIds.isEmpty()) {
+            return ShiftIntervalIndex.empty();
+        }
+        ShiftIntervalIndex.Builder builder = ShiftIntervalIndex.builder();
+        List<Schedule> schedules = scheduleRepository.findActiveOverlappingForUsers(
+                userIds, from.minusHours(MAX_SHIFT_HOURS), from, to);
+        for (Schedule schedule : schedules) {
+            if (!ignore.test(schedule)) {
+                builder.add(schedule.getUser().getUserId(), schedule.getStartTime(), schedule.getEndTime());
+            }
+        }
+        return builder.build();
+    }
 
-        return userSchedules.stream()
-                .anyMatch(schedule -> 
-                    !(schedule.getEndTime().isBefore(startTime) || schedule.getStartTime().isAfter(endTime))
-                );
+    private void validateShiftTime(LocalDateTime startTime, LocalDateTime endTime) {
+        if (!endTime.isAfter(startTime)) {
+            throw new RuntimeException("종료 시간은 시작 시간 이후여야 합니다");
+        }
+        if (Duration.between(startTime, endTime).toHours() >= MAX_SHIFT_HOURS) {
+            throw new RuntimeException("한 근무는 " + MAX_SHIFT_HOURS + "시간을 넘을 수 없습니다");
+        }
     }
 
     private void validateDateRange(ScheduleGenerateRequest request) {
@@ -197,200 +371,136 @@ public class ScheduleService {
         }
     }
 
-    private List<PlannedSlot> generateScheduleWithAI(
+    private List<PlannedShift> planSchedule(
             ScheduleGenerateRequest request,
             List<WorkInfo> employees,
-            Map<LocalDate, Map<Long, List<SchedulePreferenceSlot>>> preferenceByDateAndUser
+            AvailabilityMatrix availability,
+            ShiftIntervalIndex busyShifts
     ) {
-        List<User> allowedEmployees = employees.stream()
-                .map(WorkInfo::getUser)
-                .filter(u -> request.getExcludeUserIds() == null || !request.getExcludeUserIds().contains(u.getUserId()))
+        List<WorkInfo> allowedEmployees = employees.stream()
+                .filter(w -> request.getExcludeUserIds() == null || !request.getExcludeUserIds().contains(w.getUser().getUserId()))
                 .toList();
 
-        Map<Long, WorkInfo> workInfoMap = employees.stream()
-                .collect(Collectors.toMap(w -> w.getUser().getUserId(), w -> w));
-
-        Map<String, Object> promptPayload = buildPromptPayload(request, allowedEmployees, workInfoMap, preferenceByDateAndUser);
-        String aiResponse = callOpenAIForSchedule(promptPayload);
-
-        List<PlannedSlot> aiPlan = parseAiSchedule(aiResponse);
-        if (!aiPlan.isEmpty()) {
-            return aiPlan;
+        String tier = AppMetrics.tier(allowedEmployees.size());
+        ScheduleProblem problem = timedStage("problem", tier,
+                () -> buildProblem(request, allowedEmployees, availability, busyShifts));
+        List<PlannedShift> aiShifts = Collections.emptyList();
+        if (aiEnabled && aiSchedulePlanner.isAvailable()) {
+            // 기간을 주 단위로 나눠 동시에 생성하고 이어 붙임 (청크별 토큰/지연 시간은 planner 가 기록)
+            List<PlannedShift> aiPlan = aiSchedulePlanner.plan(problem, tier);
+            // AI 결과 중 기존 근무와 겹치는 근무는 버림
+            aiShifts = aiPlan.stream()
+                    .filter(shift -> !busyShifts.overlaps(shift.getUserId(),
+                            LocalDateTime.of(shift.getDate(), shift.getStart()),
+                            LocalDateTime.of(shift.getDate(), shift.getEnd())))
+                    .toList();
+            if (aiShifts.size() < aiPlan.size()) {
+                log.warn("AI 스케줄 중 기존 근무와 겹치는 {}건 제외", aiPlan.size() - aiShifts.size());
+            }
         }
 
-        return generateFallbackPlan(request, allowedEmployees, preferenceByDateAndUser);
+        // 검증을 통과한 AI 근무는 고정하고, 비어 있는 타임만 로컬 솔버로 채움 (AI 결과가 없으면 솔버만)
+        List<PlannedShift> fixedShifts = aiShifts;
+        ScheduleSolution solution = timedStage("solver", tier, () -> {
+            fixedShifts.forEach(problem::addFixedShift);
+            return scheduleSolver.solve(problem);
+        });
+        if (solution.getUnfilledSlots() > 0) {
+            log.warn("스케줄 인원 부족: workplaceId={}, unfilledSlots={}", request.getWorkplaceId(), solution.getUnfilledSlots());
+        }
+        return solution.getShifts();
     }
 
-    private Map<String, Object> buildPromptPayload(
+    // 요청 조건을 솔버 입력(날짜 x 타임 격자, 직원별 가용 비트)으로 변환
+    private ScheduleProblem buildProblem(
             ScheduleGenerateRequest request,
-            List<User> allowedEmployees,
-            Map<Long, WorkInfo> workInfoMap,
-            Map<LocalDate, Map<Long, List<SchedulePreferenceSlot>>> preferenceByDateAndUser
+            List<WorkInfo> employees,
+            AvailabilityMatrix availability,
+            ShiftIntervalIndex busyShifts
     ) {
-        Map<String, Object> payload = new LinkedHashMap<>();
-
-        payload.put("store", Map.of(
-                "workplaceId", request.getWorkplaceId(),
-                "openTime", request.getOpenTime().toString(),
-                "closeTime", request.getCloseTime().toString(),
-                "slotHours", request.getSlotHours()
-        ));
-
-        Map<String, Object> constraints = new LinkedHashMap<>();
-        constraints.put("minStaffPerSlot", request.getMinStaffPerSlot());
-        constraints.put("maxStaffPerSlot", request.getMaxStaffPerSlot());
-        constraints.put("roleRequirements", request.getRoleRequirements());
-        constraints.put("excludeUserIds", request.getExcludeUserIds());
-        constraints.put("maxConsecutiveHours", request.getMaxConsecutiveHours());
-        constraints.put("offDays", request.getOffDays());
-        constraints.put("dateRange", Map.of(
-                "startDate", request.getStartDate().toString(),
-                "endDate", request.getEndDate().toString()
-        ));
-        payload.put("constraints", constraints);
-
-        List<Map<String, Object>> employees = new ArrayList<>();
-        for (User user : allowedEmployees) {
-            WorkInfo info = workInfoMap.get(user.getUserId());
-            Map<String, Object> emp = new LinkedHashMap<>();
-            emp.put("userId", user.getUserId());
-            emp.put("name", user.getName());
-            emp.put("role", info != null ? info.getPosition() : null);
-            employees.add(emp);
-        }
-        payload.put("employees", employees);
-
-        List<Map<String, Object>> preferences = new ArrayList<>();
-        for (Map.Entry<LocalDate, Map<Long, List<SchedulePreferenceSlot>>> dateEntry : preferenceByDateAndUser.entrySet()) {
-            LocalDate date = dateEntry.getKey();
-            for (Map.Entry<Long, List<SchedulePreferenceSlot>> userEntry : dateEntry.getValue().entrySet()) {
-                Map<String, Object> pref = new LinkedHashMap<>();
-                pref.put("date", date.toString());
-                pref.put("userId", userEntry.getKey());
-                pref.put("slots", userEntry.getValue().stream()
-                        .map(slot -> Map.of(
-                                "start", slot.getStartTime().toString(),
-                                "end", slot.getEndTime().toString()
-                        ))
-                        .toList());
-                preferences.add(pref);
-            }
-        }
-        payload.put("preferences", preferences);
+        int slotMinutes = request.getSlotHours() * 60;
+        int slotsPerDay = slotsPerDay(request);
+        int dayCount = dayCount(request);
 
-        return payload;
-    }
+        ScheduleProblem problem = new ScheduleProblem(
+                request.getStartDate(), dayCount, request.getOpenTime(), slotMinutes, slotsPerDay);
 
-    private String callOpenAIForSchedule(Map<String, Object> payload) {
-        if (openAiService == null) {
-            return null;
+        int minStaff = request.getMinStaffPerSlot() != null ? request.getMinStaffPerSlot() : 1;
+        int maxStaff = request.getMaxStaffPerSlot() != null ? request.getMaxStaffPerSlot() : minStaff;
+        if (maxStaff < minStaff) {
+            throw new RuntimeException("타임별 최대 인원이 최소 인원보다 적습니다");
         }
-
-        try {
-            String prompt = """
-                    주어진 JSON을 기반으로 근무 스케줄을 생성하세요. 각 타임에 대해 다음 형식의 JSON 배열로만 응답하세요:
-                    [{"userId":1,"date":"2025-01-03","start":"10:00","end":"14:00"}]
-                    """;
-            String json = objectMapper.writeValueAsString(payload);
-
-            CompletionRequest completionRequest = CompletionRequest.builder()
-                    .model("gpt-3.5-turbo-instruct")
-                    .prompt(prompt + "\n입력:" + json)
-                    .maxTokens(1200)
-                    .temperature(0.2)
-                    .build();
-
-            CompletionResult result = openAiService.createCompletion(completionRequest);
-            return result.getChoices().isEmpty() ? null : result.getChoices().get(0).getText();
-        } catch (Exception e) {
-            System.err.println("Error calling OpenAI: " + e.getMessage());
-            return null;
+        problem.setStaffRange(minStaff, maxStaff);
+
+        // 하루 한 번의 연속 근무로 배정하므로 maxConsecutiveHours 는 최대 교대 시간과 같은 의미
+        Integer maxHours = minPositive(request.getMaxShiftHours(), request.getMaxConsecutiveHours());
+        int minShiftSlots = request.getMinShiftHours() != null && request.getMinShiftHours() > 0
+                ? (request.getMinShiftHours() * 60 + slotMinutes - 1) / slotMinutes
+                : 1;
+        int maxShiftSlots = maxHours != null ? Math.min(slotsPerDay, maxHours * 60 / slotMinutes) : slotsPerDay;
+        if (maxShiftSlots < 1 || minShiftSlots > maxShiftSlots) {
+            throw new RuntimeException("근무 시간 조건(minShiftHours/maxShiftHours/maxConsecutiveHours)을 만족하는 교대가 없습니다");
         }
-    }
+        problem.setShiftRange(minShiftSlots, maxShiftSlots);
+        problem.setRestMinutes(request.getRestHours() != null ? request.getRestHours() * 60 : 0);
 
-    private List<PlannedSlot> parseAiSchedule(String aiResponse) {
-        if (aiResponse == null || aiResponse.isBlank()) {
-            return Collections.emptyList();
-        }
-        try {
-            List<AiScheduleItem> items = objectMapper.readValue(aiResponse, new TypeReference<>() {});
-            return items.stream()
-                    .filter(item -> item.userId != null && item.date != null && item.startTime != null && item.endTime != null)
-                    .map(item -> {
-                        PlannedSlot slot = new PlannedSlot();
-                        slot.userId = item.userId;
-                        slot.date = LocalDate.parse(item.date.trim());
-                        slot.start = LocalTime.parse(item.startTime.trim());
-                        slot.end = LocalTime.parse(item.endTime.trim());
-                        return slot;
-                    })
-                    .toList();
-        } catch (Exception e) {
-            System.err.println("AI 응답 파싱 실패: " + e.getMessage());
-            return Collections.emptyList();
+        for (int day = 0; day < dayCount; day++) {
+            if (isOffDay(request.getStartDate().plusDays(day), request.getOffDays())) {
+                problem.setWorkingDay(day, false);
+            }
         }
-    }
 
-    private List<PlannedSlot> generateFallbackPlan(
-            ScheduleGenerateRequest request,
-            List<User> employees,
-            Map<LocalDate, Map<Long, List<SchedulePreferenceSlot>>> preferenceByDateAndUser
-    ) {
-        List<PlannedSlot> result = new ArrayList<>();
-        Map<LocalDate, Map<Long, Integer>> dailyHours = new HashMap<>();
+        if (request.getRoleRequirements() != null) {
+            for (ScheduleGenerateRequest.RoleRequirement requirement : request.getRoleRequirements()) {
+                if (requirement.getRole() != null && !requirement.getRole().isBlank()) {
+                    problem.addRole(requirement.getRole(), requirement.getMinCount(), requirement.getMaxCount());
+                }
+            }
+        }
 
-        for (LocalDate date = request.getStartDate(); !date.isAfter(request.getEndDate()); date = date.plusDays(1)) {
-            if (isOffDay(date, request.getOffDays())) {
+        for (WorkInfo info : employees) {
+            Long userId = info.getUser().getUserId();
+            int employee = problem.addEmployee(userId, info.getPosition());
+            if (availability.availableSlots(userId) == 0) {
                 continue;
             }
-
-            LocalTime cursor = request.getOpenTime();
-            while (cursor.plusHours(request.getSlotHours()).compareTo(request.getCloseTime()) <= 0) {
-                LocalTime slotStart = cursor;
-                LocalTime slotEnd = cursor.plusHours(request.getSlotHours());
-                final LocalDate loopDate = date;
-                final LocalTime loopSlotStart = slotStart;
-                final LocalTime loopSlotEnd = slotEnd;
-                int needed = request.getMinStaffPerSlot() != null ? request.getMinStaffPerSlot() : 1;
-                int maxStaff = request.getMaxStaffPerSlot() != null ? request.getMaxStaffPerSlot() : needed;
-
-                List<User> candidates = employees.stream()
-                        .filter(u -> isUserAvailable(u, loopDate, loopSlotStart, loopSlotEnd, preferenceByDateAndUser))
-                        .sorted(Comparator.comparingInt(u -> dailyHours
-                                .getOrDefault(loopDate, Collections.emptyMap())
-                                .getOrDefault(u.getUserId(), 0)))
-                        .toList();
-
-                if (candidates.isEmpty()) {
-                    candidates = employees; // 선호도 없으면 전체에서 선택
-                }
-
-                int assigned = 0;
-                for (User user : candidates) {
-                    if (assigned >= maxStaff) break;
-
-                    if (!canAssign(user, loopDate, loopSlotStart, loopSlotEnd, dailyHours, request.getMaxConsecutiveHours())) {
-                        continue;
-                    }
-
-                    PlannedSlot slot = new PlannedSlot();
-                    slot.userId = user.getUserId();
-                    slot.date = loopDate;
-                    slot.start = loopSlotStart;
-                    slot.end = loopSlotEnd;
-                    result.add(slot);
-
-                    dailyHours.computeIfAbsent(loopDate, d -> new HashMap<>());
-                    dailyHours.get(loopDate).merge(user.getUserId(), request.getSlotHours(), Integer::sum);
-                    assigned++;
-                    if (assigned >= needed && candidates.size() >= needed) {
-                        break;
+            boolean hasBusyShifts = busyShifts.size(userId) > 0;
+            for (int day = 0; day < dayCount; day++) {
+                long mask = availability.mask(userId, day);
+                if (mask != 0 && hasBusyShifts) {
+                    // 희망 타임 중 이미 다른 근무가 있는 타임만 뺌 (켜진 비트만 확인)
+                    LocalDateTime dayOpen = LocalDateTime.of(request.getStartDate().plusDays(day), request.getOpenTime());
+                    for (long bits = mask; bits != 0; bits &= bits - 1) {
+                        int slot = Long.numberOfTrailingZeros(bits);
+                        LocalDateTime slotStart = dayOpen.plusMinutes((long) slot * slotMinutes);
+                        if (busyShifts.overlaps(userId, slotStart, slotStart.plusMinutes(slotMinutes))) {
+                            mask &= ~(1L << slot);
+                        }
                     }
                 }
-
-                cursor = cursor.plusHours(request.getSlotHours());
+                problem.setAvailability(employee, day, mask);
             }
         }
+        return problem;
+    }
+
+    private int slotsPerDay(ScheduleGenerateRequest request) {
+        int slotsPerDay = (int) (Duration.between(request.getOpenTime(), request.getCloseTime()).toMinutes()
+                / (request.getSlotHours() * 60));
+        if (slotsPerDay == 0) {
+            throw new RuntimeException("영업 시간이 스케줄 단위(slotHours)보다 짧습니다");
+        }
+        return slotsPerDay;
+    }
+
+    private int dayCount(ScheduleGenerateRequest request) {
+        return (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+    }
+
+    private Integer minPositive(Integer a, Integer b) {
+        Integer result = null;
+        if (a != null && a > 0) result = a;
+        if (b != null && b > 0 && (result == null || b < result)) result = b;
         return result;
     }
 
@@ -402,69 +512,41 @@ public class ScheduleService {
                 .anyMatch(off -> off.equals(dayName) || off.equals(date.toString()));
     }
 
-    private boolean isUserAvailable(
-            User user,
-            LocalDate date,
-            LocalTime slotStart,
-            LocalTime slotEnd,
-            Map<LocalDate, Map<Long, List<SchedulePreferenceSlot>>> preferenceByDateAndUser
-    ) {
-        Map<Long, List<SchedulePreferenceSlot>> datePrefs = preferenceByDateAndUser.get(date);
-        if (datePrefs == null || !datePrefs.containsKey(user.getUserId())) {
-            return false;
-        }
-        return datePrefs.get(user.getUserId()).stream()
-                .anyMatch(slot -> !slot.getStartTime().isAfter(slotStart) && !slot.getEndTime().isBefore(slotEnd));
-    }
-
-    private boolean canAssign(
-            User user,
-            LocalDate date,
-            LocalTime slotStart,
-            LocalTime slotEnd,
-            Map<LocalDate, Map<Long, Integer>> dailyHours,
-            Integer maxConsecutiveHours
-    ) {
-        if (maxConsecutiveHours == null || maxConsecutiveHours <= 0) {
-            return true;
-        }
-        int already = dailyHours
-                .getOrDefault(date, Collections.emptyMap())
-                .getOrDefault(user.getUserId(), 0);
-        int adding = (int) java.time.Duration.between(slotStart, slotEnd).toHours();
-        return already + adding <= maxConsecutiveHours;
-    }
-
-    private List<Schedule> persistSchedules(List<PlannedSlot> plannedSlots, Workplace workplace, Map<Long, User> employeeMap) {
-        List<Schedule> schedules = new ArrayList<>();
-        for (PlannedSlot slot : plannedSlots) {
-            User user = employeeMap.get(slot.userId);
+    private List<Schedule> persistSchedules(List<PlannedShift> plannedShifts, Workplace workplace, Map<Long, User> employeeMap) {
+        List<Schedule> schedules = new ArrayList<>(plannedShifts.size());
+        for (PlannedShift shift : plannedShifts) {
+            User user = employeeMap.get(shift.getUserId());
             if (user == null) {
                 continue;
             }
             Schedule schedule = new Schedule();
             schedule.setUser(user);
             schedule.setWorkplace(workplace);
-            schedule.setStartTime(LocalDateTime.of(slot.date, slot.start));
-            schedule.setEndTime(LocalDateTime.of(slot.date, slot.end));
+            schedule.setStartTime(LocalDateTime.of(shift.getDate(), shift.getStart()));
+            schedule.setEndTime(LocalDateTime.of(shift.getDate(), shift.getEnd()));
             schedule.setMethod(Schedule.Method.active);
             schedule.setStatus(Schedule.ScheduleStatus.active);
-            schedules.add(scheduleRepository.save(schedule));
+            schedules.add(schedule);
         }
-        return schedules;
+        // hibernate.jdbc.batch_size 단위로 묶여 전송됨
+        return scheduleRepository.saveAll(schedules);
     }
 
-    private static class PlannedSlot {
-        Long userId;
-        LocalDate date;
-        LocalTime start;
-        LocalTime end;
-    }
-
-    private static class AiScheduleItem {
-        public Long userId;
-        public String date;
-        public String startTime;
-        public String endTime;
+    private static class GenerationContext {
+        final Workplace workplace;
+        final List<WorkInfo> employees;
+        final Map<Long, User> employeeMap;
+        final AvailabilityMatrix availability;
+        final ShiftIntervalIndex busyShifts;
+
+        GenerationContext(Workplace workplace, List<WorkInfo> employees, Map<Long, User> employeeMap,
+                          AvailabilityMatrix availability,
+                          ShiftIntervalIndex busyShifts) {
+            this.workplace = workplace;
+            this.employees = employees;
+            this.employeeMap = employeeMap;
+            this.availability = availability;
+            this.busyShifts = busyShifts;
+        }
     }
 }
@@ -0,0 +1,274 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.response.WorkHourSummaryResponse;
+import com.example.demo.entity.Attendance;
+import com.example.demo.entity.WorkHourRollup;
+import com.example.demo.repository.AttendanceRepository;
+import com.example.demo.repository.WorkHourRollupJdbcRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.WorkHourRollupRepository;
+import com.example.demo.repository.WorkplaceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 일/주 단위 근무 시간 집계 유지
+// 급여 계산과 대시보드는 출퇴근 원본 대신 이 집계를 읽어 O(주 수)로 끝남
+@Service
+public class WorkHourRollupService {
+
+    public static final int WEEKLY_OVERTIME_THRESHOLD = 40 * 60;
+
+    @Autowired
+    private WorkHourRollupRepository workHourRollupRepository;
+
+    @Autowired
+    private WorkHourRollupJdbcRepository workHourRollupJdbcRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkplaceRepository workplaceRepository;
+
+    @Value("${attendance.rollup.reconcile-days:35}")
+    private int reconcileDays;
+
+    // 출퇴근 기록 변경 전/후 기여분 차이를 반영 (호출 측 트랜잭션 안에서 실행)
+    @Transactional
+    public void apply(Contribution before, Contribution after) {
+        if (before != null) {
+            add(before, -1);
+        }
+        if (after != null) {
+            add(after, 1);
+        }
+    }
+
+    private void add(Contribution c, int sign) {
+        LocalDate weekStart = weekStart(c.workDate);
+        addTo(c, sign, WorkHourRollup.Period.DAY, c.workDate, Integer.MAX_VALUE);
+        addTo(c, sign, WorkHourRollup.Period.WEEK, weekStart, WEEKLY_OVERTIME_THRESHOLD);
+    }
+
+    private void addTo(Contribution c, int sign, WorkHourRollup.Period period, LocalDate periodStart, int threshold) {
+        if (sign > 0) {
+            // 행 생성과 증분을 한 문장으로 (같은 기간의 첫 퇴근이 동시에 들어와도 충돌로 퇴근 처리가 롤백되지 않음)
+            workHourRollupJdbcRepository.upsert(c.workplaceId, c.userId, period, periodStart,
+                    c.workMinutes, c.nightMinutes, c.holidayMinutes, threshold);
+            return;
+        }
+        // 기존 기여분 제거는 있는 행에서만 뺌 (행이 없으면 음수 행을 만들지 않고 정산 작업이 원본으로 다시 맞춤)
+        workHourRollupRepository.addDelta(c.workplaceId, c.userId, period, periodStart,
+                -c.workMinutes, -c.nightMinutes, -c.holidayMinutes, -1, threshold);
+    }
+
+    // 대시보드: 직원의 주간 근무 시간
+    @Transactional(readOnly = true)
+    public List<WorkHourSummaryResponse> getWeeklyByUser(Long userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new RuntimeException("조회 종료일은 시작일 이후여야 합니다");
+        }
+        return workHourRollupRepository.findByUserAndPeriod(userId, WorkHourRollup.Period.WEEK, weekStart(from), to)
+                .stream()
+                .map(r -> new WorkHourSummaryResponse(
+                        r.getWorkplace().getWorkplaceId(),
+                        r.getWorkplace().getWorkName(),
+                        r.getPeriodStart(),
+                        r.getWorkMinutes() / 60f,
+                        r.getNightMinutes() / 60f,
+                        r.getHolidayMinutes() / 60f,
+                        r.getOvertimeMinutes() / 60f,
+                        r.getShiftCount()))
+                .collect(Collectors.toList());
+    }
+
+    // 급여 계산용 월 합계
+    // 월 안에 완전히 들어가는 주는 WEEK 행을, 월 경계에 걸친 주는 해당 월의 DAY 행만 읽어
+    // 기존처럼 "월 안의 근무를 ISO 주로 묶은 뒤 40시간 초과분" 기준을 유지
+    @Transactional(readOnly = true)
+    public Map<Long, MonthlyHours> summarize(Long workplaceId, Long userId, LocalDate start, LocalDate end) {
+        LocalDate firstFullWeek = start.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        LocalDate lastFullWeek = end.plusDays(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusDays(7);
+
+        Map<Long, MonthlyHours> result = new LinkedHashMap<>();
+        if (!lastFullWeek.isBefore(firstFullWeek)) {
+            for (WorkHourRollup week : workHourRollupRepository.findByWorkplaceAndPeriod(
+                    workplaceId, userId, WorkHourRollup.Period.WEEK, firstFullWeek, lastFullWeek)) {
+                result.computeIfAbsent(week.getUser().getUserId(), id -> new MonthlyHours())
+                        .addWeek(week.getWorkMinutes(), week.getNightMinutes(), week.getHolidayMinutes(),
+                                week.getOvertimeMinutes(), week.getShiftCount());
+            }
+        }
+
+        // 경계 주의 일 단위 행: 주별로 모아 초과 근무 계산
+        Map<Long, Map<LocalDate, int[]>> partialWeeks = new HashMap<>();
+        for (WorkHourRollup day : workHourRollupRepository.findByWorkplaceAndPeriod(
+                workplaceId, userId, WorkHourRollup.Period.DAY, start, end)) {
+            LocalDate weekStart = weekStart(day.getPeriodStart());
+            if (!weekStart.isBefore(firstFullWeek) && !weekStart.isAfter(lastFullWeek)) {
+                continue;
+            }
+            Long dayUserId = day.getUser().getUserId();
+            result.computeIfAbsent(dayUserId, id -> new MonthlyHours())
+                    .addWeek(day.getWorkMinutes(), day.getNightMinutes(), day.getHolidayMinutes(), 0, day.getShiftCount());
+            partialWeeks.computeIfAbsent(dayUserId, id -> new HashMap<>())
+                    .computeIfAbsent(weekStart, w -> new int[1])[0] += day.getWorkMinutes();
+        }
+        partialWeeks.forEach((id, weeks) -> weeks.values().forEach(minutes ->
+                result.get(id).overtimeMinutes += Math.max(0, minutes[0] - WEEKLY_OVERTIME_THRESHOLD)));
+
+        result.values().removeIf(hours -> hours.shiftCount <= 0);
+        return result;
+    }
+
+    // 원본 출퇴근 기록으로 기간(주 단위로 확장) 내 집계를 다시 만듦
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        return rebuildRange(from, to);
+    }
+
+    // 증분 반영이 빠진 경우(집계 행이 없던 기여분 제거, 직접 수정된 데이터 등)를 최근 기간에 한해 매일 바로잡음
+    @Scheduled(cron = "${attendance.rollup.reconcile-cron:0 30 4 * * *}")
+    @Transactional
+    public void reconcileRecent() {
+        LocalDate today = LocalDate.now();
+        rebuildRange(today.minusDays(reconcileDays), today);
+    }
+
+    private int rebuildRange(LocalDate from, LocalDate to) {
+        LocalDate rangeStart = weekStart(from);
+        LocalDate rangeEnd = weekStart(to).plusDays(6);
+
+        workHourRollupRepository.deleteByPeriodStartBetween(rangeStart, rangeEnd);
+
+        Map<String, WorkHourRollup> rollups = new LinkedHashMap<>();
+        for (Attendance attendance : attendanceRepository.findForRollup(rangeStart, rangeEnd)) {
+            Contribution c = Contribution.of(attendance);
+            if (c == null) continue;
+            accumulate(rollups, c, WorkHourRollup.Period.DAY, c.workDate);
+            accumulate(rollups, c, WorkHourRollup.Period.WEEK, weekStart(c.workDate));
+        }
+        for (WorkHourRollup rollup : rollups.values()) {
+            if (rollup.getPeriod() == WorkHourRollup.Period.WEEK) {
+                rollup.setOvertimeMinutes(Math.max(0, rollup.getWorkMinutes() - WEEKLY_OVERTIME_THRESHOLD));
+            }
+        }
+        workHourRollupJdbcRepository.insertAll(rollups.values());
+        return rollups.size();
+    }
+
+    private void accumulate(Map<String, WorkHourRollup> rollups, Contribution c,
+                            WorkHourRollup.Period period, LocalDate periodStart) {
+        String key = c.workplaceId + ":" + c.userId + ":" + period + ":" + periodStart;
+        WorkHourRollup rollup = rollups.computeIfAbsent(key,
+                k -> newRollup(c.userId, c.workplaceId, period, periodStart));
+        rollup.setWorkMinutes(rollup.getWorkMinutes() + c.workMinutes);
+        rollup.setNightMinutes(rollup.getNightMinutes() + c.nightMinutes);
+        rollup.setHolidayMinutes(rollup.getHolidayMinutes() + c.holidayMinutes);
+        rollup.setShiftCount(rollup.getShiftCount() + 1);
+    }
+
+    private WorkHourRollup newRollup(Long userId, Long workplaceId, WorkHourRollup.Period period, LocalDate periodStart) {
+        WorkHourRollup rollup = new WorkHourRollup();
+        rollup.setUser(userRepository.getReferenceById(userId));
+        rollup.setWorkplace(workplaceRepository.getReferenceById(workplaceId));
+        rollup.setPeriod(period);
+        rollup.setPeriodStart(periodStart);
+        return rollup;
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    // 출퇴근 기록 한 건이 집계에 더하는 값 (퇴근 전 기록은 null)
+    public static class Contribution {
+        private final Long userId;
+        private final Long workplaceId;
+        private final LocalDate workDate;
+        private final int workMinutes;
+        private final int nightMinutes;
+        private final int holidayMinutes;
+
+        private Contribution(Long userId, Long workplaceId, LocalDate workDate,
+                             int workMinutes, int nightMinutes, int holidayMinutes) {
+            this.userId = userId;
+            this.workplaceId = workplaceId;
+            this.workDate = workDate;
+            this.workMinutes = workMinutes;
+            this.nightMinutes = nightMinutes;
+            this.holidayMinutes = holidayMinutes;
+        }
+
+        public static Contribution of(Attendance attendance) {
+            if (attendance.getCheckOut() == null || attendance.getWorkHours() == null) {
+                return null;
+            }
+            return new Contribution(
+                    attendance.getUser().getUserId(),
+                    attendance.getWorkplace().getWorkplaceId(),
+                    attendance.getWorkDate(),
+                    toMinutes(attendance.getWorkHours()),
+                    toMinutes(attendance.getNightHours()),
+                    toMinutes(attendance.getHolidayHours())
+            );
+        }
+
+        // 시간 값은 분 / 60f 로 저장되므로 반올림하면 원래 분이 복원됨
+        private static int toMinutes(Float hours) {
+            return hours == null ? 0 : Math.round(hours * 60);
+        }
+    }
+
+    // 한 직원의 월 합계 (분 단위)
+    public static class MonthlyHours {
+        private long workMinutes;
+        private long nightMinutes;
+        private long holidayMinutes;
+        private long overtimeMinutes;
+        private int shiftCount;
+
+        private void addWeek(int work, int night, int holiday, int overtime, int shifts) {
+            workMinutes += work;
+            nightMinutes += night;
+            holidayMinutes += holiday;
+            overtimeMinutes += overtime;
+            shiftCount += shifts;
+        }
+
+        public long getWorkMinutes() {
+            return workMinutes;
+        }
+
+        public long getNightMinutes() {
+            return nightMinutes;
+        }
+
+        public long getHolidayMinutes() {
+            return holidayMinutes;
+        }
+
+        public long getOvertimeMinutes() {
+            return overtimeMinutes;
+        }
+
+        public int getShiftCount() {
+            return shiftCount;
+        }
+    }
+}
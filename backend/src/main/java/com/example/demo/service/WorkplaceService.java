@@ -11,10 +11,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.demo.entity.WorkInfo;
-import java.util.stream.Collectors;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class WorkplaceService {
@@ -43,6 +41,8 @@ public class WorkplaceService {
         workplace.setAddress(request.getAddress());
         workplace.setRegNumber(request.getRegNumber());
         workplace.setStatus(Workplace.WorkplaceStatus.active);
+        workplace.setNightStartTime(request.getNightStartTime());
+        workplace.setNightEndTime(request.getNightEndTime());
 
         return workplaceRepository.save(workplace);
     }
@@ -71,20 +71,7 @@ public class WorkplaceService {
 
     // 가입 신청 목록 조회 (근무지 주인)
     public List<com.example.demo.dto.response.WorkJoinRequestResponse> getJoinRequestsByWorkplace(Long workplaceId) {
-        List<WorkJoinRequest> requests = workJoinRequestRepository.findByWorkplaceWorkplaceId(workplaceId);
-        
-        return requests.stream()
-                .map(req -> new com.example.demo.dto.response.WorkJoinRequestResponse(
-                        req.getRequestId(),
-                        req.getUser().getUserId(),
-                        req.getUser().getName(),
-                        req.getWorkplace().getWorkplaceId(),
-                        req.getWorkplace().getWorkName(),
-                        req.getStatus().name(),
-                        req.getAppliedAt(),
-                        req.getRespondedAt()
-                ))
-                .collect(Collectors.toList());
+        return workJoinRequestRepository.findResponsesByWorkplaceId(workplaceId);
     }
 
     // 가입 신청 처리 (승인/거절)
@@ -185,11 +172,7 @@ public class WorkplaceService {
 
     // 직원이 속한 근무지 목록 조회
     public List<Workplace> getWorkplacesByEmployee(Long userId) {
-        List<WorkInfo> infos = workInfoRepository.findByUserUserId(userId);
-
-        return infos.stream()
-                .map(WorkInfo::getWorkplace)
-                .collect(Collectors.toList());
+        return workplaceRepository.findByEmployeeUserId(userId);
     }
 
     public Workplace getWorkplaceDetailForEmployee(Long userId, Long workplaceId) {
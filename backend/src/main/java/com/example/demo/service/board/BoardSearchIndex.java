@@ -0,0 +1,438 @@
+package com.example.demo.service.board;
+
+import com.example.demo.dto.response.SearchHitResponse;
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.ReviewRepository;
+import com.example.demo.repository.TipPostRepository;
+import com.example.demo.repository.projection.SearchDocument;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanPOSStopFilter;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.QueryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 게시판 검색 색인 (Lucene 역색인, 꿀팁 제목·본문 / 후기 본문 / 댓글 본문)
+// 한국어는 nori 형태소 분석 (복합어는 원형과 분해된 형태를 함께 색인해 "알바꿀팁" 으로도 "꿀팁" 으로도 찾음)
+// 색인은 메모리에 두고 애플리케이션 시작 시 DB 에서 한 번 다시 만든 뒤, PostService 의 쓰기를 커밋 후 건별로 반영
+// 재생성은 새 디렉터리에 따로 만든 뒤 교체하므로, 그동안 검색은 기존 색인을 그대로 봄
+// 검색은 색인만 읽으므로 DB 의 LIKE '%...%' 전체 스캔이 없음
+// 새 글은 board.search.refresh-ms 안에 검색 결과에 보임 (근실시간 reopen)
+@Component
+public class BoardSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardSearchIndex.class);
+
+    // 관련도 순으로 볼 수 있는 최대 결과 수 (그 뒤는 검색어를 좁히도록)
+    public static final int MAX_DEPTH = 1000;
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String PARENT = "parent";
+    private static final String POST = "post";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String SNIPPET = "snippet";
+    private static final String CREATED = "created";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int SNIPPET_LENGTH = 120;
+    private static final int REBUILD_BATCH = 500;
+
+    @Autowired
+    private TipPostRepository tipPostRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private final Supplier<Directory> directories;
+    private final Analyzer analyzer;
+
+    // 건별 반영과 재생성 상태 전환을 묶는 락 (검색은 락 없이 live 를 읽음)
+    private final Object lock = new Object();
+    private final Object rebuildLock = new Object();
+
+    // 검색·건별 반영 대상 색인, 재생성이 끝나면 새 색인으로 교체
+    private volatile Generation live;
+    // 재생성 중인 새 색인 (없으면 null), lock 으로 보호
+    private Rebuild rebuilding;
+
+    public BoardSearchIndex() {
+        this(ByteBuffersDirectory::new);
+    }
+
+    BoardSearchIndex(Supplier<Directory> directories) {
+        this.directories = directories;
+        this.analyzer = new KoreanAnalyzer(null, KoreanTokenizer.DecompoundMode.MIXED,
+                KoreanPOSStopFilter.DEFAULT_STOP_TAGS, false);
+        try {
+            this.live = Generation.open(directories.get(), analyzer);
+        } catch (IOException e) {
+            throw new RuntimeException("검색 색인을 열 수 없습니다", e);
+        }
+    }
+
+    // 커밋된 쓰기만 색인 (롤백된 글이 검색되지 않도록)
+    public void indexAfterCommit(SearchDocument document) {
+        afterCommit(() -> index(document));
+    }
+
+    public void deleteAfterCommit(String type, Long id) {
+        afterCommit(() -> delete(type, id));
+    }
+
+    // 꿀팁 게시글과 그 댓글을 함께 삭제
+    public void deletePostAfterCommit(Long postId) {
+        afterCommit(() -> deletePost(postId));
+    }
+
+    // 재생성 중이면 새 색인에도 같이 반영하고, 재생성이 DB 에서 읽은 예전 값으로 덮지 않도록 기록
+    public void index(SearchDocument document) {
+        String key = key(document.getType(), document.getId());
+        Document doc = toDocument(document);
+        try {
+            synchronized (lock) {
+                live.writer.updateDocument(new Term(KEY, key), doc);
+                if (rebuilding != null) {
+                    rebuilding.touched.add(key);
+                    rebuilding.next.writer.updateDocument(new Term(KEY, key), doc);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("검색 색인 반영 실패: {} {}, {}", document.getType(), document.getId(), e.getMessage());
+        }
+    }
+
+    public void delete(String type, Long id) {
+        String key = key(type, id);
+        try {
+            synchronized (lock) {
+                live.writer.deleteDocuments(new Term(KEY, key));
+                if (rebuilding != null) {
+                    rebuilding.touched.add(key);
+                    rebuilding.next.writer.deleteDocuments(new Term(KEY, key));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("검색 색인 삭제 실패: {} {}, {}", type, id, e.getMessage());
+        }
+    }
+
+    public void deletePost(Long postId) {
+        Term post = new Term(POST, String.valueOf(postId));
+        try {
+            synchronized (lock) {
+                live.writer.deleteDocuments(post);
+                if (rebuilding != null) {
+                    rebuilding.deletedPosts.add(postId);
+                    rebuilding.next.writer.deleteDocuments(post);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("검색 색인 삭제 실패: tip {}, {}", postId, e.getMessage());
+        }
+    }
+
+    // 관련도 순 [offset, offset + limit) 결과, type 이 null 이면 전체 게시판
+    public List<SearchHitResponse> search(String text, String type, int offset, int limit) {
+        Query query = buildQuery(text, type);
+        if (query == null) {
+            // 검색어가 모두 조사·기호처럼 색인하지 않는 토큰
+            return List.of();
+        }
+        try {
+            SearcherManager searcherManager;
+            IndexSearcher searcher;
+            while (true) {
+                searcherManager = live.searcherManager;
+                try {
+                    searcher = searcherManager.acquire();
+                    break;
+                } catch (AlreadyClosedException e) {
+                    // 재생성으로 방금 교체된 색인, 새 색인으로 다시 시도
+                }
+            }
+            try {
+                TopDocs top = searcher.search(query, offset + limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHitResponse> hits = new ArrayList<>(Math.max(0, top.scoreDocs.length - offset));
+                for (int i = offset; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("검색에 실패했습니다", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.search.refresh-ms:1000}")
+    public void refresh() {
+        try {
+            live.searcherManager.maybeRefresh();
+        } catch (AlreadyClosedException e) {
+            // 재생성으로 교체된 직후, 새 색인은 교체 전에 이미 갱신됨
+        } catch (IOException e) {
+            log.warn("검색 색인 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 시작 시 DB 전체를 id 순 배치로 읽어 다시 만듦 (본문은 색인에만 쓰고 메모리에 모아 두지 않음)
+    // 새 디렉터리에 만든 뒤 한 번에 교체하므로 그동안 검색은 기존 색인 전체를 봄
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long started = System.nanoTime();
+            Rebuild rebuild;
+            try {
+                rebuild = new Rebuild(Generation.open(directories.get(), analyzer));
+            } catch (IOException e) {
+                log.warn("게시판 검색 색인 생성 실패: {}", e.getMessage());
+                return;
+            }
+            synchronized (lock) {
+                rebuilding = rebuild;
+            }
+
+            Generation retired = rebuild.next;
+            try {
+                int tips = indexAll(rebuild, afterId -> tipPostRepository.findSearchDocuments(afterId, PageRequest.of(0, REBUILD_BATCH)));
+                int reviews = indexAll(rebuild, afterId -> reviewRepository.findSearchDocuments(afterId, PageRequest.of(0, REBUILD_BATCH)));
+                int comments = indexAll(rebuild, afterId -> commentRepository.findSearchDocuments(afterId, PageRequest.of(0, REBUILD_BATCH)));
+                // 교체 전에 새 색인을 열어 두어 교체 직후 검색도 전체 결과를 봄 (락 안에서는 그 사이 반영분만)
+                rebuild.next.searcherManager.maybeRefreshBlocking();
+                synchronized (lock) {
+                    rebuild.next.searcherManager.maybeRefreshBlocking();
+                    retired = live;
+                    live = rebuild.next;
+                    rebuilding = null;
+                }
+                log.info("게시판 검색 색인 생성: 꿀팁 {}건, 후기 {}건, 댓글 {}건, {}ms",
+                        tips, reviews, comments, (System.nanoTime() - started) / 1_000_000);
+            } catch (IOException e) {
+                log.warn("게시판 검색 색인 생성 실패: {}", e.getMessage());
+            } finally {
+                synchronized (lock) {
+                    rebuilding = null;
+                }
+                retired.closeQuietly();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (lock) {
+            if (rebuilding != null) {
+                rebuilding.next.closeQuietly();
+                rebuilding = null;
+            }
+            live.closeQuietly();
+        }
+        analyzer.close();
+    }
+
+    private int indexAll(Rebuild rebuild, Function<Long, List<SearchDocument>> batch) throws IOException {
+        int count = 0;
+        long afterId = 0L;
+        List<SearchDocument> documents;
+        do {
+            documents = batch.apply(afterId);
+            for (SearchDocument document : documents) {
+                String key = key(document.getType(), document.getId());
+                Document doc = toDocument(document);
+                synchronized (lock) {
+                    // 재생성 중 건별로 반영·삭제된 글은 그쪽이 최신이므로 DB 에서 읽은 값으로 덮지 않음
+                    if (!rebuild.isStale(document, key)) {
+                        rebuild.next.writer.updateDocument(new Term(KEY, key), doc);
+                    }
+                }
+            }
+            count += documents.size();
+            if (!documents.isEmpty()) {
+                afterId = documents.get(documents.size() - 1).getId();
+            }
+        } while (documents.size() == REBUILD_BATCH);
+        return count;
+    }
+
+    // 제목 일치에 가중치, 검색어 토큰 중 하나라도 있으면 결과 (토큰이 많이 맞을수록 위로)
+    private Query buildQuery(String text, String type) {
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query title = builder.createBooleanQuery(TITLE, text, BooleanClause.Occur.SHOULD);
+        Query content = builder.createBooleanQuery(CONTENT, text, BooleanClause.Occur.SHOULD);
+        if (title == null && content == null) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (title != null) {
+            query.add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (content != null) {
+            query.add(content, BooleanClause.Occur.SHOULD);
+        }
+        if (type != null) {
+            query.add(new TermQuery(new Term(TYPE, type)), BooleanClause.Occur.FILTER);
+            query.setMinimumNumberShouldMatch(1);
+        }
+        return query.build();
+    }
+
+    private Document toDocument(SearchDocument source) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(source.getType(), source.getId()), Field.Store.NO));
+        document.add(new StringField(TYPE, source.getType(), Field.Store.YES));
+        document.add(new StoredField(ID, source.getId()));
+        if (source.getParentId() != null) {
+            document.add(new StoredField(PARENT, source.getParentId()));
+            if (!SearchDocument.REVIEW.equals(source.getType())) {
+                // 꿀팁 게시글 삭제 시 게시글과 댓글을 한 번에 지우기 위한 키
+                document.add(new StringField(POST, String.valueOf(source.getParentId()), Field.Store.NO));
+            }
+        }
+        if (source.getTitle() != null) {
+            document.add(new TextField(TITLE, source.getTitle(), Field.Store.YES));
+        }
+        String content = source.getContent() != null ? source.getContent() : "";
+        document.add(new TextField(CONTENT, content, Field.Store.NO));
+        document.add(new StoredField(SNIPPET, snippet(content)));
+        if (source.getCreatedAt() != null) {
+            document.add(new StoredField(CREATED, source.getCreatedAt().toString()));
+        }
+        return document;
+    }
+
+    private SearchHitResponse toHit(Document document, float score) {
+        IndexableField parent = document.getField(PARENT);
+        String created = document.get(CREATED);
+        return new SearchHitResponse(
+                document.get(TYPE),
+                document.getField(ID).numericValue().longValue(),
+                parent != null ? parent.numericValue().longValue() : null,
+                document.get(TITLE),
+                document.get(SNIPPET),
+                score,
+                created != null ? LocalDateTime.parse(created) : null
+        );
+    }
+
+    private static String snippet(String content) {
+        String flat = content.replaceAll("\\s+", " ").trim();
+        return flat.length() <= SNIPPET_LENGTH ? flat : flat.substring(0, SNIPPET_LENGTH) + "…";
+    }
+
+    private static String key(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    // 색인 한 벌 (디렉터리, 쓰기, 근실시간 검색)
+    private static final class Generation {
+        private final Directory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        private Generation(Directory directory, IndexWriter writer, SearcherManager searcherManager) {
+            this.directory = directory;
+            this.writer = writer;
+            this.searcherManager = searcherManager;
+        }
+
+        private static Generation open(Directory directory, Analyzer analyzer) throws IOException {
+            IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            return new Generation(directory, writer, new SearcherManager(writer, new SearcherFactory()));
+        }
+
+        // 이미 꺼낸 검색기는 release 될 때까지 계속 읽을 수 있음
+        private void closeQuietly() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                log.warn("검색 색인 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 재생성 중 건별로 반영된 키와 삭제된 꿀팁 게시글
+    private static final class Rebuild {
+        private final Generation next;
+        private final Set<String> touched = new HashSet<>();
+        private final Set<Long> deletedPosts = new HashSet<>();
+
+        private Rebuild(Generation next) {
+            this.next = next;
+        }
+
+        private boolean isStale(SearchDocument document, String key) {
+            if (touched.contains(key)) {
+                return true;
+            }
+            return !SearchDocument.REVIEW.equals(document.getType())
+                    && document.getParentId() != null
+                    && deletedPosts.contains(document.getParentId());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.demo.service.board;
+
+import com.example.demo.repository.TipPostJdbcRepository;
+import com.example.demo.util.AppMetrics;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 꿀팁 게시글 카운터 (조회수, 좋아요, 싫어요) write-behind
+// 요청 경로에서는 게시글별 LongAdder 만 올리고, 주기적으로 모아
+// "views = views + ?, likes = likes + ?, dislikes = dislikes + ?" 배치 UPDATE 한 번으로 반영
+// 인기 게시글에 몰리는 요청도 행 락 경합 없이 메모리에서 합쳐지고, 동시 요청끼리 증가분을 덮어쓰지 않음
+// 비정상 종료 시 잃을 수 있는 값은 마지막 반영 이후(board.tip-counters.flush-ms) 분량, 정상 종료 시에는 남은 값을 반영
+@Component
+public class TipCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(TipCounters.class);
+
+    private final ConcurrentHashMap<Long, Counts> pending = new ConcurrentHashMap<>();
+    private final TipPostJdbcRepository tipPostJdbcRepository;
+
+    @Autowired
+    public TipCounters(TipPostJdbcRepository tipPostJdbcRepository) {
+        this.tipPostJdbcRepository = tipPostJdbcRepository;
+        Metrics.gauge(AppMetrics.TIP_COUNTER_PENDING, pending, Map::size);
+    }
+
+    public void addView(Long postId) {
+        add(postId, 1, 0, 0);
+    }
+
+    // 반응 변경분 (취소는 음수), 반응 행을 쓴 트랜잭션이 커밋된 뒤에만 반영
+    // 롤백된 요청(중복 반응 등)은 카운터에 남지 않음
+    public void addReactionAfterCommit(Long postId, long likes, long dislikes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(postId, 0, likes, dislikes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(postId, 0, likes, dislikes);
+            }
+        });
+    }
+
+    // 아직 DB 에 반영되지 않은 값 (상세 응답에 더해 보여줌)
+    public long pendingViews(Long postId) {
+        Counts counts = pending.get(postId);
+        return counts != null ? counts.views.sum() : 0L;
+    }
+
+    public long pendingLikes(Long postId) {
+        Counts counts = pending.get(postId);
+        return counts != null ? counts.likes.sum() : 0L;
+    }
+
+    public long pendingDislikes(Long postId) {
+        Counts counts = pending.get(postId);
+        return counts != null ? counts.dislikes.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${board.tip-counters.flush-ms:1000}")
+    public void flush() {
+        Map<Long, long[]> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            tipPostJdbcRepository.addCounts(deltas);
+            long views = 0;
+            long reactions = 0;
+            for (long[] delta : deltas.values()) {
+                views += delta[0];
+                reactions += Math.abs(delta[1]) + Math.abs(delta[2]);
+            }
+            AppMetrics.count(AppMetrics.TIP_COUNTER_FLUSHED, views, "counter", "views");
+            AppMetrics.count(AppMetrics.TIP_COUNTER_FLUSHED, reactions, "counter", "reactions");
+        } catch (RuntimeException e) {
+            // 실패한 변경분은 되돌려 다음 주기에 다시 시도
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new Counts()).add(delta[0], delta[1], delta[2]));
+            log.warn("게시글 카운터 반영 실패, 다음 주기에 재시도: posts={}, {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(Long postId, long views, long likes, long dislikes) {
+        Counts counts = pending.computeIfAbsent(postId, id -> new Counts());
+        counts.add(views, likes, dislikes);
+        if (pending.get(postId) != counts) {
+            // 반영 주기가 쉬던 카운터를 막 뺀 경우: 방금 올린 값을 새 카운터로 옮김
+            moveToCurrent(postId, counts);
+        }
+    }
+
+    // sumThenReset 은 셀마다 getAndSet 이라 동시에 들어온 변경분은 이번 또는 다음 주기에 잡힘
+    // 이번 주기에 변경이 없던 게시글은 맵에서 빼서 맵이 전체 게시글 수만큼 커지지 않게 함
+    // (좋아요 +1 / -1 처럼 합이 0 이 된 경우도 빼도 됨)
+    Map<Long, long[]> drain() {
+        Map<Long, long[]> deltas = new HashMap<>();
+        for (Map.Entry<Long, Counts> entry : pending.entrySet()) {
+            long[] delta = entry.getValue().sumThenReset();
+            if (delta[0] != 0 || delta[1] != 0 || delta[2] != 0) {
+                deltas.put(entry.getKey(), delta);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // 제거 직전에 들어온 변경분은 새 카운터로 옮김 (제거 뒤에 들어온 값은 add 쪽에서 옮김)
+                moveToCurrent(entry.getKey(), entry.getValue());
+            }
+        }
+        return deltas;
+    }
+
+    private void moveToCurrent(Long postId, Counts removed) {
+        long[] late = removed.sumThenReset();
+        if (late[0] != 0 || late[1] != 0 || late[2] != 0) {
+            pending.computeIfAbsent(postId, id -> new Counts()).add(late[0], late[1], late[2]);
+        }
+    }
+
+    private static final class Counts {
+        private final LongAdder views = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder dislikes = new LongAdder();
+
+        private void add(long viewDelta, long likeDelta, long dislikeDelta) {
+            if (viewDelta != 0) {
+                views.add(viewDelta);
+            }
+            if (likeDelta != 0) {
+                likes.add(likeDelta);
+            }
+            if (dislikeDelta != 0) {
+                dislikes.add(dislikeDelta);
+            }
+        }
+
+        private long[] sumThenReset() {
+            return new long[]{views.sumThenReset(), likes.sumThenReset(), dislikes.sumThenReset()};
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.service.board;
+
+import com.example.demo.dto.response.CursorPageResponse;
+import com.example.demo.dto.response.PostSummaryResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// 꿀팁 게시판 목록 앞쪽 페이지 캐시 ((커서, 페이지 크기) -> 요약 페이지)
+// 게시판 방문은 대부분 첫 몇 페이지만 보므로 그 페이지들만 저장 (첫 페이지부터 nextCursor 로 이어지는 maxPages 페이지)
+// 글 작성/수정/삭제가 커밋되면 전부 비움, 조회수/좋아요 같은 카운터는 TTL 동안만 늦게 반영됨
+// Spring 캐시 매니저가 없어 AiPlanCache 처럼 직접 둔 LRU, 비우기와 겹친 조회가 옛 페이지를 다시 넣지 않도록 버전으로 확인
+@Component
+public class TipFeedCache {
+
+    // 페이지 크기별로 maxPages 씩, 크기 종류가 많아도 이 이상은 보관하지 않음
+    private static final int MAX_ENTRIES = 64;
+
+    private final int maxPages;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    private final Map<String, Integer> depthByCursor = new HashMap<>();
+    private long version;
+
+    @Autowired
+    public TipFeedCache(@Value("${board.tip-feed.cache.pages:3}") int maxPages,
+                        @Value("${board.tip-feed.cache.ttl-seconds:30}") long ttlSeconds) {
+        this(maxPages, ttlSeconds * 1000L, System::currentTimeMillis);
+    }
+
+    TipFeedCache(int maxPages, long ttlMillis, LongSupplier clock) {
+        this.maxPages = maxPages;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    public synchronized CursorPageResponse<PostSummaryResponse> get(String cursor, int pageSize) {
+        String key = key(cursor, pageSize);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.storedAt >= ttlMillis) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.page;
+    }
+
+    // 조회 시작 전에 받아 put 에 넘김 (조회 중에 무효화되었으면 옛 결과를 저장하지 않도록)
+    public synchronized long version() {
+        return version;
+    }
+
+    public synchronized void put(long loadedVersion, String cursor, int pageSize,
+                                 CursorPageResponse<PostSummaryResponse> page) {
+        if (loadedVersion != version) {
+            return;
+        }
+        Integer depth = cursor == null ? Integer.valueOf(0) : depthByCursor.get(key(cursor, pageSize));
+        if (depth == null || depth >= maxPages) {
+            return;
+        }
+        entries.put(key(cursor, pageSize), new Entry(page, clock.getAsLong()));
+        if (page.getNextCursor() != null) {
+            depthByCursor.put(key(page.getNextCursor(), pageSize), depth + 1);
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에 비움 (커밋 전에 비우면 다른 요청이 옛 목록을 다시 채울 수 있음)
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    public synchronized void invalidate() {
+        version++;
+        entries.clear();
+        depthByCursor.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static String key(String cursor, int pageSize) {
+        return pageSize + "|" + (cursor != null ? cursor : "");
+    }
+
+    private static final class Entry {
+        private final CursorPageResponse<PostSummaryResponse> page;
+        private final long storedAt;
+
+        private Entry(CursorPageResponse<PostSummaryResponse> page, long storedAt) {
+            this.page = page;
+            this.storedAt = storedAt;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service.schedule;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// AI 스케줄 결과 캐시 (프롬프트 전체의 SHA-256 -> 파싱된 근무 계획)
+// 입력(직원, 선호 시간, 영업 조건)이 같으면 프롬프트도 같으므로 "다시 생성"을 눌러도 OpenAI 를 다시 호출하지 않음
+// 입력이 하나라도 바뀌면 키가 달라져 자연히 새로 호출됨 (별도 무효화 없음)
+@Component
+public class AiPlanCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+
+    @Autowired
+    public AiPlanCache(@Value("${schedule.ai.cache.max-entries:200}") int maxEntries,
+                       @Value("${schedule.ai.cache.ttl-minutes:30}") long ttlMinutes) {
+        this(maxEntries, ttlMinutes * 60_000L, System::currentTimeMillis);
+    }
+
+    AiPlanCache(int maxEntries, long ttlMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        // 접근 순서 LinkedHashMap: 가득 차면 가장 오래 안 쓴 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > AiPlanCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static String key(String model, String prompt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized List<PlannedShift> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.storedAt >= ttlMillis) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.plan;
+    }
+
+    // 빈 결과는 저장하지 않음 (실패/파싱 오류를 캐시해 다음 시도까지 막지 않도록)
+    public synchronized void put(String key, List<PlannedShift> plan) {
+        if (plan == null || plan.isEmpty() || maxEntries < 1) {
+            return;
+        }
+        entries.put(key, new Entry(List.copyOf(plan), clock.getAsLong()));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final List<PlannedShift> plan;
+        private final long storedAt;
+
+        private Entry(List<PlannedShift> plan, long storedAt) {
+            this.plan = plan;
+            this.storedAt = storedAt;
+        }
+    }
+}
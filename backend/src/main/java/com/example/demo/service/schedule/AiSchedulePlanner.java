@@ -0,0 +1,214 @@
+package com.example.demo.service.schedule;
+
+import com.example.demo.util.AppMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+// AI 스케줄 생성 (기간을 주 단위 청크로 나눠 동시에 요청하고 결과를 이어 붙임)
+// 한 번에 한 달을 요청하면 응답이 max tokens 에 걸려 잘리므로, 청크마다 필요한 만큼의 토큰을 따로 잡음
+// 청크는 서로의 결과를 모른 채 생성되므로, 이어 붙인 뒤 청크 경계를 넘는 조건(휴식 시간, 최대 연속 근무)을 다시 검사
+// 실패한 청크는 빈 결과로 두고 로컬 솔버가 채움
+@Component
+public class AiSchedulePlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(AiSchedulePlanner.class);
+
+    private static final String SCHEDULE_PROMPT = """
+            주어진 JSON을 기반으로 근무 스케줄을 생성하세요.
+            employees 는 [userId, role] 목록입니다. days 의 각 날짜 배열은 employees 와 같은 순서이고,
+            문자열의 i번째 문자가 1 이면 slots[i] 부터 slotMinutes 분 동안 근무할 수 있습니다 (빈 문자열은 근무 불가).
+            rules 의 인원(staffPerSlot), 근무 길이(shiftMinutes), 휴식(restMinutes), 역할(roles: [role, min, max]) 조건을 지키고
+            한 직원은 하루에 한 번만 근무합니다. 설명 없이 다음 형식의 JSON 배열로만 응답하세요:
+            [[userId,"2025-01-03","10:00","14:00"]]
+            """;
+
+    // 응답 한 행 [12,"2025-01-06","10:00","14:00"], 의 대략적인 토큰 수
+    private static final int TOKENS_PER_ROW = 20;
+    private static final int TOKENS_OVERHEAD = 50;
+
+    @Autowired
+    private OpenAiScheduleClient openAiScheduleClient;
+
+    @Autowired
+    private AiPlanCache aiPlanCache;
+
+    @Autowired
+    private AiScheduleReader aiScheduleReader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("aiChunkExecutor")
+    private ThreadPoolTaskExecutor aiChunkExecutor;
+
+    @Value("${schedule.ai.chunk-days:7}")
+    private int chunkDays;
+
+    public boolean isAvailable() {
+        return openAiScheduleClient.isAvailable();
+    }
+
+    public List<PlannedShift> plan(ScheduleProblem problem, String tier) {
+        int chunkCount = (problem.getDayCount() + chunkDays - 1) / chunkDays;
+        List<CompletableFuture<List<PlannedShift>>> futures = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int fromDay = chunk * chunkDays;
+            int toDay = Math.min(problem.getDayCount(), fromDay + chunkDays);
+            String label = (chunk + 1) + "/" + chunkCount;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> planChunk(problem, fromDay, toDay, tier, label), aiChunkExecutor));
+        }
+
+        List<PlannedShift> merged = new ArrayList<>();
+        for (CompletableFuture<List<PlannedShift>> future : futures) {
+            merged.addAll(future.join());
+        }
+        return stitch(problem, merged);
+    }
+
+    private List<PlannedShift> planChunk(ScheduleProblem problem, int fromDay, int toDay, String tier, String label) {
+        try {
+            Map<String, Object> payload = SchedulePromptEncoder.encode(problem, fromDay, toDay);
+            int employees = ((List<?>) payload.get("employees")).size();
+            if (employees == 0) {
+                return Collections.emptyList();
+            }
+            String prompt = AppMetrics.timed(AppMetrics.SCHEDULE_STAGE, () -> buildPrompt(payload),
+                    "stage", "prompt", "tier", tier);
+
+            // 같은 입력으로 다시 생성하면 이전 결과를 그대로 사용 (OpenAI 재호출 없음, 바뀐 주만 다시 호출)
+            String cacheKey = AiPlanCache.key(openAiScheduleClient.getModel(), prompt);
+            List<PlannedShift> cached = aiPlanCache.get(cacheKey);
+            if (cached != null) {
+                AppMetrics.count(AppMetrics.AI_PLAN_CACHE, "result", "hit");
+                return cached;
+            }
+            AppMetrics.count(AppMetrics.AI_PLAN_CACHE, "result", "miss");
+
+            int maxTokens = estimateMaxTokens(problem, fromDay, toDay, employees);
+            long started = System.nanoTime();
+            OpenAiScheduleClient.Completion completion = AppMetrics.timed(AppMetrics.SCHEDULE_STAGE,
+                    () -> openAiScheduleClient.complete(prompt, maxTokens), "stage", "ai_call", "tier", tier);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            if (completion == null) {
+                return Collections.emptyList();
+            }
+
+            AiScheduleReader.Result result = AppMetrics.timed(AppMetrics.SCHEDULE_STAGE,
+                    () -> aiScheduleReader.read(completion.getText(), rules(problem, fromDay, toDay)),
+                    "stage", "parse", "tier", tier);
+            result.rejectCounts().forEach((reason, count) ->
+                    AppMetrics.count(AppMetrics.AI_PLAN_REJECTS, count, "reason", reason.name().toLowerCase()));
+            log.info("AI 청크 {} ({} ~ {}): {}ms, tokens prompt={} completion={} (max {}), accepted={}, rejected={}, truncated={}",
+                    label, problem.getStartDate().plusDays(fromDay), problem.getStartDate().plusDays(toDay - 1),
+                    elapsedMillis, completion.getPromptTokens(), completion.getCompletionTokens(), maxTokens,
+                    result.getAccepted().size(), result.rejectCounts(), completion.isTruncated() || result.isTruncated());
+
+            aiPlanCache.put(cacheKey, result.getAccepted());
+            return result.getAccepted();
+        } catch (RuntimeException e) {
+            log.warn("AI 청크 {} 생성 실패, 로컬 솔버로 채움: {}", label, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private String buildPrompt(Map<String, Object> payload) {
+        try {
+            return SCHEDULE_PROMPT + "\n입력:" + objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("AI 요청 생성에 실패했습니다", e);
+        }
+    }
+
+    // 하루 최대 근무 수(인원 상한 x 하루에 들어가는 최소 길이 교대 수, 직원 수 이하) x 영업일 수
+    private int estimateMaxTokens(ScheduleProblem problem, int fromDay, int toDay, int employees) {
+        int workingDays = 0;
+        for (int day = fromDay; day < toDay; day++) {
+            if (problem.isWorkingDay(day)) {
+                workingDays++;
+            }
+        }
+        int shiftsPerSlotRow = (problem.getSlotsPerDay() + problem.getMinShiftSlots() - 1) / problem.getMinShiftSlots();
+        int shiftsPerDay = Math.min(employees, problem.getMaxStaff() * shiftsPerSlotRow);
+        return TOKENS_OVERHEAD + workingDays * shiftsPerDay * TOKENS_PER_ROW;
+    }
+
+    private AiScheduleReader.Rules rules(ScheduleProblem problem, int fromDay, int toDay) {
+        Set<Long> employeeIds = new HashSet<>();
+        for (int e = 0; e < problem.getEmployeeCount(); e++) {
+            employeeIds.add(problem.getUserId(e));
+        }
+        LocalTime open = problem.getOpenTime();
+        LocalTime close = open.plusMinutes((long) problem.getSlotsPerDay() * problem.getSlotMinutes());
+        return new AiScheduleReader.Rules(employeeIds,
+                problem.getStartDate().plusDays(fromDay), problem.getStartDate().plusDays(toDay - 1),
+                open, close,
+                date -> problem.isWorkingDay((int) ChronoUnit.DAYS.between(problem.getStartDate(), date)));
+    }
+
+    // 청크 결과를 직원별 시간순으로 이어 보면서
+    // 최대 근무 길이(maxShiftHours/maxConsecutiveHours)를 넘는 근무와 앞 근무와의 휴식 시간이 부족한 근무를 버림
+    static List<PlannedShift> stitch(ScheduleProblem problem, List<PlannedShift> shifts) {
+        long maxShiftMinutes = (long) problem.getMaxShiftSlots() * problem.getSlotMinutes();
+        long restMinutes = problem.getRestMinutes();
+
+        List<PlannedShift> sorted = new ArrayList<>(shifts);
+        sorted.sort(Comparator.comparing(PlannedShift::getUserId)
+                .thenComparing(PlannedShift::getDate)
+                .thenComparing(PlannedShift::getStart));
+
+        List<PlannedShift> kept = new ArrayList<>(sorted.size());
+        PlannedShift previous = null;
+        int tooLong = 0;
+        int restViolations = 0;
+        for (PlannedShift shift : sorted) {
+            LocalDateTime start = LocalDateTime.of(shift.getDate(), shift.getStart());
+            LocalDateTime end = LocalDateTime.of(shift.getDate(), shift.getEnd());
+            if (ChronoUnit.MINUTES.between(start, end) > maxShiftMinutes) {
+                tooLong++;
+                continue;
+            }
+            if (previous != null && previous.getUserId().equals(shift.getUserId())) {
+                LocalDateTime previousEnd = LocalDateTime.of(previous.getDate(), previous.getEnd());
+                long gap = ChronoUnit.MINUTES.between(previousEnd, start);
+                if (gap < restMinutes || gap < 0) {
+                    restViolations++;
+                    continue;
+                }
+            }
+            kept.add(shift);
+            previous = shift;
+        }
+
+        if (tooLong > 0) {
+            AppMetrics.count(AppMetrics.AI_PLAN_REJECTS, tooLong, "reason", "too_long");
+        }
+        if (restViolations > 0) {
+            AppMetrics.count(AppMetrics.AI_PLAN_REJECTS, restViolations, "reason", "rest_violation");
+        }
+        if (tooLong > 0 || restViolations > 0) {
+            log.warn("AI 스케줄 연결 검사에서 제외: 최대 근무 시간 초과 {}건, 휴식 시간 부족 {}건", tooLong, restViolations);
+        }
+        return kept;
+    }
+}
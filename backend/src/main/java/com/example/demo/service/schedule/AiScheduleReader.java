@@ -0,0 +1,250 @@
+package com.example.demo.service.schedule;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+// AI 응답(JSON 배열)을 항목 단위로 읽으면서 바로 검증
+// 잘못된 항목은 사유와 함께 버리고 나머지는 살림 (한 건 때문에 계획 전체를 버리지 않음)
+// 응답이 max tokens 에 걸려 중간에 잘려도 그 전까지 읽은 항목은 사용
+// 항목 형식: 행 [userId, "date", "start", "end"] (프롬프트가 요청하는 형식) 또는 객체 {"userId", "date", "start", "end"}
+@Component
+public class AiScheduleReader {
+
+    public enum RejectReason {
+        MALFORMED,        // 객체가 아니거나 값 형식 오류
+        MISSING_FIELD,    // userId/date/start/end 누락
+        UNKNOWN_EMPLOYEE, // 대상 직원이 아님
+        OUT_OF_RANGE,     // 요청 기간 밖
+        CLOSED_DAY,       // 휴무일
+        OUTSIDE_HOURS,    // 영업 시간 밖이거나 시작 >= 종료
+        DUPLICATE         // 같은 직원의 같은 날 두 번째 근무
+    }
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public Result read(String response, Rules rules) {
+        Result result = new Result();
+        if (response == null || response.isBlank()) {
+            return result;
+        }
+        // 모델이 배열 앞에 설명 문장을 붙이는 경우가 있어 첫 '[' 부터 읽음
+        int arrayStart = response.indexOf('[');
+        if (arrayStart < 0) {
+            result.truncated = true;
+            return result;
+        }
+
+        Set<String> userDays = new HashSet<>();
+        char[] chars = response.toCharArray();
+        try (JsonParser parser = jsonFactory.createParser(chars, arrayStart, chars.length - arrayStart)) {
+            parser.nextToken();
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                RawItem item;
+                if (token == JsonToken.START_ARRAY) {
+                    item = readRow(parser);
+                } else if (token == JsonToken.START_OBJECT) {
+                    item = readItem(parser);
+                } else {
+                    result.reject(index++, RejectReason.MALFORMED);
+                    continue;
+                }
+                RejectReason reason = validate(item, rules, userDays);
+                if (reason != null) {
+                    result.reject(index, reason);
+                } else {
+                    result.accepted.add(item.shift);
+                }
+                index++;
+            }
+            if (token == null) {
+                result.truncated = true;
+            }
+        } catch (IOException e) {
+            // 잘린 응답 / 문법 오류: 그 전까지 읽은 항목만 사용
+            result.truncated = true;
+        }
+        return result;
+    }
+
+    // 행 하나를 열 순서대로 읽음 (userId, date, start, end)
+    private RawItem readRow(JsonParser parser) throws IOException {
+        RawItem item = new RawItem();
+        int column = 0;
+        JsonToken value;
+        while ((value = parser.nextToken()) != null && value != JsonToken.END_ARRAY) {
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                item.malformed = true;
+                column++;
+                continue;
+            }
+            String text = parser.getValueAsString(null);
+            switch (column++) {
+                case 0 -> item.userId = text;
+                case 1 -> item.date = text;
+                case 2 -> item.start = text;
+                case 3 -> item.end = text;
+                default -> {
+                }
+            }
+        }
+        return item;
+    }
+
+    // 객체 하나의 필드를 문자열로 모음 (중첩 값은 형식 오류로 표시)
+    private RawItem readItem(JsonParser parser) throws IOException {
+        RawItem item = new RawItem();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                item.malformed = true;
+                continue;
+            }
+            String text = parser.getValueAsString(null);
+            switch (field) {
+                case "userId" -> item.userId = text;
+                case "date" -> item.date = text;
+                // 프롬프트 예시는 start/end, 예전 형식 startTime/endTime 도 허용
+                case "start", "startTime" -> item.start = text;
+                case "end", "endTime" -> item.end = text;
+                default -> {
+                }
+            }
+        }
+        return item;
+    }
+
+    private RejectReason validate(RawItem item, Rules rules, Set<String> userDays) {
+        if (item.malformed) {
+            return RejectReason.MALFORMED;
+        }
+        if (item.userId == null || item.date == null || item.start == null || item.end == null) {
+            return RejectReason.MISSING_FIELD;
+        }
+        Long userId;
+        LocalDate date;
+        LocalTime start;
+        LocalTime end;
+        try {
+            userId = Long.valueOf(item.userId.trim());
+            date = LocalDate.parse(item.date.trim());
+            start = LocalTime.parse(item.start.trim());
+            end = LocalTime.parse(item.end.trim());
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return RejectReason.MALFORMED;
+        }
+        if (!rules.employeeIds.contains(userId)) {
+            return RejectReason.UNKNOWN_EMPLOYEE;
+        }
+        if (date.isBefore(rules.startDate) || date.isAfter(rules.endDate)) {
+            return RejectReason.OUT_OF_RANGE;
+        }
+        if (!rules.workingDay.test(date)) {
+            return RejectReason.CLOSED_DAY;
+        }
+        if (start.isBefore(rules.openTime) || end.isAfter(rules.closeTime) || !start.isBefore(end)) {
+            return RejectReason.OUTSIDE_HOURS;
+        }
+        if (!userDays.add(userId + "@" + date)) {
+            return RejectReason.DUPLICATE;
+        }
+        item.shift = new PlannedShift(userId, date, start, end);
+        return null;
+    }
+
+    private static final class RawItem {
+        private String userId;
+        private String date;
+        private String start;
+        private String end;
+        private boolean malformed;
+        private PlannedShift shift;
+    }
+
+    // 검증 기준 (대상 직원, 기간, 영업 시간, 영업일)
+    public static final class Rules {
+        private final Set<Long> employeeIds;
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final LocalTime openTime;
+        private final LocalTime closeTime;
+        private final Predicate<LocalDate> workingDay;
+
+        public Rules(Set<Long> employeeIds, LocalDate startDate, LocalDate endDate,
+                     LocalTime openTime, LocalTime closeTime, Predicate<LocalDate> workingDay) {
+            this.employeeIds = employeeIds;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.openTime = openTime;
+            this.closeTime = closeTime;
+            this.workingDay = workingDay;
+        }
+    }
+
+    public static final class Result {
+        private final List<PlannedShift> accepted = new ArrayList<>();
+        private final List<Reject> rejects = new ArrayList<>();
+        private boolean truncated;
+
+        private void reject(int index, RejectReason reason) {
+            rejects.add(new Reject(index, reason));
+        }
+
+        public List<PlannedShift> getAccepted() {
+            return accepted;
+        }
+
+        public List<Reject> getRejects() {
+            return rejects;
+        }
+
+        // 배열이 끝까지 닫히지 않았거나 JSON 문법 오류로 읽기를 멈춤
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        public Map<RejectReason, Integer> rejectCounts() {
+            Map<RejectReason, Integer> counts = new EnumMap<>(RejectReason.class);
+            for (Reject reject : rejects) {
+                counts.merge(reject.getReason(), 1, Integer::sum);
+            }
+            return counts;
+        }
+    }
+
+    public static final class Reject {
+        private final int index;
+        private final RejectReason reason;
+
+        private Reject(int index, RejectReason reason) {
+            this.index = index;
+            this.reason = reason;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public RejectReason getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.service.schedule;
+
+import com.example.demo.repository.projection.PreferenceWindow;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// 직원별 근무 가능 타임 비트 (userId -> [day] -> 타임 비트, 타임 i 가능이면 i번째 비트)
+// 희망 구간을 한 번 훑어 만들고, 이후 (직원, 날짜, 타임) 확인은 비트 연산 한 번
+// 타임 [slotStart, slotEnd) 를 희망 구간이 완전히 덮을 때만 가능으로 봄
+public class AvailabilityMatrix {
+
+    private final LocalDate startDate;
+    private final int dayCount;
+    private final int openMinute;
+    private final int slotMinutes;
+    private final int slotsPerDay;
+    private final Map<Long, long[]> masks = new HashMap<>();
+
+    public AvailabilityMatrix(LocalDate startDate, int dayCount, LocalTime openTime, int slotMinutes, int slotsPerDay) {
+        if (slotsPerDay <= 0 || slotsPerDay > ScheduleProblem.MAX_SLOTS_PER_DAY) {
+            throw new IllegalArgumentException("하루 타임 수가 올바르지 않습니다: " + slotsPerDay);
+        }
+        this.startDate = startDate;
+        this.dayCount = dayCount;
+        this.openMinute = openTime.toSecondOfDay() / 60;
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = slotsPerDay;
+    }
+
+    public AvailabilityMatrix addAll(Collection<PreferenceWindow> windows) {
+        for (PreferenceWindow window : windows) {
+            add(window.getUserId(), window.getDate(), window.getStart(), window.getEnd());
+        }
+        return this;
+    }
+
+    // 기간/영업 시간 밖의 구간은 무시
+    public void add(Long userId, LocalDate date, LocalTime start, LocalTime end) {
+        long day = ChronoUnit.DAYS.between(startDate, date);
+        if (day < 0 || day >= dayCount) {
+            return;
+        }
+        // 구간 안에 완전히 들어가는 첫 타임(올림)부터 마지막 타임(내림)까지
+        int from = Math.max(0, Math.floorDiv(start.toSecondOfDay() / 60 - openMinute + slotMinutes - 1, slotMinutes));
+        int to = Math.min(slotsPerDay, Math.floorDiv(end.toSecondOfDay() / 60 - openMinute, slotMinutes));
+        if (from >= to) {
+            return;
+        }
+        long bits = (-1L >>> (64 - (to - from))) << from;
+        masks.computeIfAbsent(userId, id -> new long[dayCount])[(int) day] |= bits;
+    }
+
+    public long mask(Long userId, int day) {
+        long[] days = masks.get(userId);
+        return days != null ? days[day] : 0L;
+    }
+
+    // 기간 전체에서 근무 가능한 타임 수
+    public int availableSlots(Long userId) {
+        long[] days = masks.get(userId);
+        if (days == null) {
+            return 0;
+        }
+        int count = 0;
+        for (long mask : days) {
+            count += Long.bitCount(mask);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.service.schedule;
+
+// 스케줄 생성 단계 알림 (비동기 작업 진행률 표시용)
+@FunctionalInterface
+public interface GenerationProgress {
+
+    GenerationProgress NONE = (stage, percent) -> { };
+
+    void stage(String stage, int percent);
+}
@@ -0,0 +1,295 @@
+package com.example.demo.service.schedule;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 하루 단위 탐욕 구성 + 지역 탐색 개선
+// 고정 근무(ScheduleProblem.addFixedShift)는 먼저 배치하고 건드리지 않으며, 남은 부족 인원만 채움
+// 점수 = 부족 인원 * SHORTAGE_WEIGHT + 초과 인원 * OVERSTAFF_WEIGHT (낮을수록 좋음), 동점이면 월 누적 근무가 적은 직원 우선
+@Component
+public class LocalSearchScheduleSolver implements ScheduleSolver {
+
+    private static final int SHORTAGE_WEIGHT = 100;
+    private static final int OVERSTAFF_WEIGHT = 1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Override
+    public ScheduleSolution solve(ScheduleProblem problem) {
+        return new Run(problem).solve();
+    }
+
+    private static final class Run {
+        private final ScheduleProblem p;
+        private final int employees;
+        private final int slots;
+        private final int roles;
+        private final int openMinute;
+
+        private final int[] load;          // 직원별 월 누적 타임 수
+        private final int[] prevEnd;       // 직원별 전날 근무 종료 타임 (-1: 전날 근무 없음)
+        private final int[] start;         // 오늘 근무 시작 타임 (-1: 미배정)
+        private final int[] end;           // 오늘 근무 종료 타임 (exclusive)
+        private final int[] coverage;      // 타임별 인원
+        private final int[][] roleCoverage; // 역할별, 타임별 인원
+        private final int[][] gainPrefix;  // 역할 그룹별 구간 이득 누적합 (그룹 0 = 역할 없음)
+        private final long[] blocked;      // 역할 그룹별 더 배정할 수 없는 타임 비트
+        private final ScheduleProblem.FixedShift[] fixed; // 오늘 고정 근무 (null: 없음)
+
+        private final List<PlannedShift> result = new ArrayList<>();
+        private int unfilled;
+
+        Run(ScheduleProblem problem) {
+            this.p = problem;
+            this.employees = problem.getEmployeeCount();
+            this.slots = problem.getSlotsPerDay();
+            this.roles = problem.getRoleCount();
+            this.openMinute = problem.getOpenTime().toSecondOfDay() / 60;
+            this.load = new int[employees];
+            this.prevEnd = new int[employees];
+            this.start = new int[employees];
+            this.end = new int[employees];
+            this.coverage = new int[slots];
+            this.roleCoverage = new int[roles][slots];
+            this.gainPrefix = new int[roles + 1][slots + 1];
+            this.blocked = new long[roles + 1];
+            this.fixed = new ScheduleProblem.FixedShift[employees];
+            Arrays.fill(prevEnd, -1);
+        }
+
+        ScheduleSolution solve() {
+            for (int day = 0; day < p.getDayCount(); day++) {
+                if (!p.isWorkingDay(day)) {
+                    Arrays.fill(prevEnd, -1);
+                    continue;
+                }
+                resetDay(day);
+                construct(day);
+                dropRedundantShifts();
+                trimShifts();
+                balanceLoad(day);
+                emit(day);
+            }
+            return new ScheduleSolution(result, unfilled);
+        }
+
+        private void resetDay(int day) {
+            Arrays.fill(start, -1);
+            Arrays.fill(end, -1);
+            Arrays.fill(fixed, null);
+            Arrays.fill(coverage, 0);
+            for (int[] rc : roleCoverage) {
+                Arrays.fill(rc, 0);
+            }
+            for (ScheduleProblem.FixedShift shift : p.getFixedShifts(day)) {
+                fixed[shift.getEmployee()] = shift;
+                assign(shift.getEmployee(), shift.getStartSlot(), shift.getEndSlot());
+            }
+        }
+
+        // 부족한 타임을 가장 많이 메우는 (직원, 구간)을 하나씩 추가
+        private void construct(int day) {
+            int minLen = p.getMinShiftSlots();
+            int maxLen = p.getMaxShiftSlots();
+            while (true) {
+                refreshGains();
+                int bestGain = 0;
+                int bestEmployee = -1;
+                int bestStart = 0;
+                int bestEnd = 0;
+
+                for (int e = 0; e < employees; e++) {
+                    if (start[e] >= 0) continue;
+                    int group = p.getEmployeeRole(e) + 1;
+                    long mask = p.getAvailability(e, day) & ~blocked[group] & earliestStartMask(e);
+                    if (mask == 0) continue;
+                    int[] prefix = gainPrefix[group];
+
+                    for (int a = Long.numberOfTrailingZeros(mask); a < slots; a++) {
+                        if ((mask & (1L << a)) == 0) continue;
+                        int limit = Math.min(slots, a + maxLen);
+                        for (int b = a + 1; b <= limit; b++) {
+                            if ((mask & (1L << (b - 1))) == 0) break;
+                            if (b - a < minLen) continue;
+                            int gain = prefix[b] - prefix[a];
+                            if (gain > bestGain
+                                    || (gain == bestGain && bestEmployee >= 0 && gain > 0 && load[e] < load[bestEmployee])) {
+                                bestGain = gain;
+                                bestEmployee = e;
+                                bestStart = a;
+                                bestEnd = b;
+                            }
+                        }
+                    }
+                }
+
+                if (bestEmployee < 0) {
+                    return;
+                }
+                assign(bestEmployee, bestStart, bestEnd);
+            }
+        }
+
+        private void refreshGains() {
+            int minStaff = p.getMinStaff();
+            int maxStaff = p.getMaxStaff();
+            for (int group = 0; group <= roles; group++) {
+                int role = group - 1;
+                int[] prefix = gainPrefix[group];
+                long full = 0;
+                for (int s = 0; s < slots; s++) {
+                    int gain = coverage[s] < minStaff ? SHORTAGE_WEIGHT : -OVERSTAFF_WEIGHT;
+                    if (role >= 0 && roleCoverage[role][s] < p.getRoleMin(role)) {
+                        gain += SHORTAGE_WEIGHT;
+                    }
+                    prefix[s + 1] = prefix[s] + gain;
+                    if (coverage[s] >= maxStaff || (role >= 0 && roleCoverage[role][s] >= p.getRoleMax(role))) {
+                        full |= 1L << s;
+                    }
+                }
+                blocked[group] = full;
+            }
+        }
+
+        // 전날 근무 종료 후 휴식 시간을 지킬 수 있는 타임만 허용
+        private long earliestStartMask(int e) {
+            if (prevEnd[e] < 0 || p.getRestMinutes() <= 0) {
+                return -1L;
+            }
+            int prevEndMinute = openMinute + prevEnd[e] * p.getSlotMinutes();
+            int needed = p.getRestMinutes() - (MINUTES_PER_DAY - prevEndMinute) - openMinute;
+            if (needed <= 0) {
+                return -1L;
+            }
+            int firstSlot = (needed + p.getSlotMinutes() - 1) / p.getSlotMinutes();
+            return firstSlot >= 64 ? 0L : -1L << firstSlot;
+        }
+
+        private void assign(int e, int a, int b) {
+            start[e] = a;
+            end[e] = b;
+            addCoverage(e, a, b, 1);
+        }
+
+        private void unassign(int e) {
+            addCoverage(e, start[e], end[e], -1);
+            start[e] = -1;
+            end[e] = -1;
+        }
+
+        private void addCoverage(int e, int a, int b, int delta) {
+            int role = p.getEmployeeRole(e);
+            for (int s = a; s < b; s++) {
+                coverage[s] += delta;
+                if (role >= 0) {
+                    roleCoverage[role][s] += delta;
+                }
+            }
+        }
+
+        // 빼도 부족 인원이 생기지 않는 타임인지
+        private boolean removable(int role, int s) {
+            if (coverage[s] <= p.getMinStaff()) return false;
+            return role < 0 || roleCoverage[role][s] > p.getRoleMin(role);
+        }
+
+        private void dropRedundantShifts() {
+            for (int e = 0; e < employees; e++) {
+                if (start[e] < 0 || fixed[e] != null) continue;
+                int role = p.getEmployeeRole(e);
+                boolean redundant = true;
+                for (int s = start[e]; s < end[e] && redundant; s++) {
+                    redundant = removable(role, s);
+                }
+                if (redundant) {
+                    unassign(e);
+                }
+            }
+        }
+
+        private void trimShifts() {
+            int minLen = p.getMinShiftSlots();
+            for (int e = 0; e < employees; e++) {
+                if (start[e] < 0 || fixed[e] != null) continue;
+                int role = p.getEmployeeRole(e);
+                while (end[e] - start[e] > minLen && removable(role, start[e])) {
+                    addCoverage(e, start[e], start[e] + 1, -1);
+                    start[e]++;
+                }
+                while (end[e] - start[e] > minLen && removable(role, end[e] - 1)) {
+                    addCoverage(e, end[e] - 1, end[e], -1);
+                    end[e]--;
+                }
+            }
+        }
+
+        // 같은 역할의 덜 일한 직원에게 근무를 넘겨 월 근무량 편차(제곱합)를 줄임
+        // 커버리지는 그대로이므로 점수 변화는 누적 근무량만 비교하면 됨
+        private void balanceLoad(int day) {
+            for (int e = 0; e < employees; e++) {
+                if (start[e] < 0 || fixed[e] != null) continue;
+                int a = start[e];
+                int b = end[e];
+                long block = blockMask(a, b);
+                int role = p.getEmployeeRole(e);
+
+                int best = -1;
+                for (int other = 0; other < employees; other++) {
+                    if (other == e || start[other] >= 0 || p.getEmployeeRole(other) != role) continue;
+                    if (load[other] >= load[e]) continue;
+                    if ((p.getAvailability(other, day) & earliestStartMask(other) & block) != block) continue;
+                    if (best < 0 || load[other] < load[best]) {
+                        best = other;
+                    }
+                }
+                if (best >= 0) {
+                    unassign(e);
+                    assign(best, a, b);
+                }
+            }
+        }
+
+        private long blockMask(int a, int b) {
+            long mask = b - a >= 64 ? -1L : (1L << (b - a)) - 1;
+            return mask << a;
+        }
+
+        private void emit(int day) {
+            LocalDate date = p.getStartDate().plusDays(day);
+            LocalTime open = p.getOpenTime();
+            int slotMinutes = p.getSlotMinutes();
+            for (int e = 0; e < employees; e++) {
+                if (start[e] < 0) {
+                    prevEnd[e] = -1;
+                    continue;
+                }
+                if (fixed[e] != null) {
+                    // 고정 근무는 원래 시각 그대로
+                    result.add(fixed[e].getShift());
+                    load[e] += end[e] - start[e];
+                    prevEnd[e] = fixed[e].getRestEndSlot();
+                    continue;
+                }
+                result.add(new PlannedShift(
+                        p.getUserId(e),
+                        date,
+                        open.plusMinutes((long) start[e] * slotMinutes),
+                        open.plusMinutes((long) end[e] * slotMinutes)
+                ));
+                load[e] += end[e] - start[e];
+                prevEnd[e] = end[e];
+            }
+
+            for (int s = 0; s < slots; s++) {
+                unfilled += Math.max(0, p.getMinStaff() - coverage[s]);
+                for (int r = 0; r < roles; r++) {
+                    unfilled += Math.max(0, p.getRoleMin(r) - roleCoverage[r][s]);
+                }
+            }
+        }
+    }
+}
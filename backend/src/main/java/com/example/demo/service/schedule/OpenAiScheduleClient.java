@@ -0,0 +1,162 @@
+package com.example.demo.service.schedule;
+
+import com.example.demo.util.AppMetrics;
+import com.example.demo.util.CircuitBreaker;
+import com.theokanning.openai.completion.CompletionChoice;
+import com.theokanning.openai.completion.CompletionRequest;
+import com.theokanning.openai.completion.CompletionResult;
+import com.theokanning.openai.service.OpenAiService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 스케줄 생성용 OpenAI 호출 래퍼
+// - 연속 실패 시 서킷을 열어 일정 시간 호출 자체를 건너뜀 (동시 호출 자리를 기다리기 전에 확인)
+// - 동시 호출 수 제한 (자리가 없으면 bulkheadWaitMs 까지만 기다리고 포기, 한 달 생성의 청크 수가 한도를 넘을 수 있어 0 이 아님)
+// - 타임아웃은 OpenAiService 생성 시 설정 (OpenAIConfig)
+// 어떤 이유로든 결과를 못 얻으면 null 을 돌려주고, 호출 측은 로컬 솔버로 진행
+@Component
+public class OpenAiScheduleClient {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenAiScheduleClient.class);
+
+    private final OpenAiService openAiService;
+    private final String model;
+    private final int maxTokens;
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMs;
+    private final CircuitBreaker circuitBreaker;
+
+    @Autowired
+    public OpenAiScheduleClient(ObjectProvider<OpenAiService> openAiService,
+                                @Value("${openai.model:gpt-3.5-turbo-instruct}") String model,
+                                @Value("${openai.max-tokens:2500}") int maxTokens,
+                                @Value("${openai.max-concurrent-calls:4}") int maxConcurrentCalls,
+                                @Value("${openai.bulkhead-wait-ms:3000}") long bulkheadWaitMs,
+                                @Value("${openai.circuit.failure-threshold:3}") int failureThreshold,
+                                @Value("${openai.circuit.open-seconds:60}") long openSeconds) {
+        this(openAiService.getIfAvailable(), model, maxTokens, maxConcurrentCalls, bulkheadWaitMs,
+                new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds)));
+    }
+
+    OpenAiScheduleClient(OpenAiService openAiService, String model, int maxTokens,
+                         int maxConcurrentCalls, long bulkheadWaitMs, CircuitBreaker circuitBreaker) {
+        this.openAiService = openAiService;
+        this.model = model;
+        this.maxTokens = maxTokens;
+        this.bulkhead = new Semaphore(maxConcurrentCalls, true);
+        this.bulkheadWaitMs = bulkheadWaitMs;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    // API 키가 없으면 OpenAiService 빈이 없음
+    public boolean isAvailable() {
+        return openAiService != null;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // maxTokens 는 호출별 요청값, 설정값(openai.max-tokens)을 넘지 않음
+    public Completion complete(String prompt, int maxTokens) {
+        if (openAiService == null) {
+            return null;
+        }
+        // 서킷이 열려 있으면 동시 호출 자리를 기다리지 않고 바로 포기
+        if (!circuitBreaker.tryAcquire()) {
+            AppMetrics.count(AppMetrics.OPENAI_CALLS, "result", "rejected_open");
+            log.debug("OpenAI 서킷 열림, 로컬 솔버로 진행");
+            return null;
+        }
+        if (!acquireBulkhead()) {
+            circuitBreaker.onSkipped();
+            AppMetrics.count(AppMetrics.OPENAI_CALLS, "result", "rejected_busy");
+            log.warn("OpenAI 동시 호출 한도 초과, 로컬 솔버로 진행");
+            return null;
+        }
+        try {
+            CompletionRequest completionRequest = CompletionRequest.builder()
+                    .model(model)
+                    .prompt(prompt)
+                    .maxTokens(Math.min(maxTokens, this.maxTokens))
+                    .temperature(0.2)
+                    .build();
+            CompletionResult result = openAiService.createCompletion(completionRequest);
+            circuitBreaker.onSuccess();
+            AppMetrics.count(AppMetrics.OPENAI_CALLS, "result", AppMetrics.SUCCESS);
+            long promptTokens = 0;
+            long completionTokens = 0;
+            if (result.getUsage() != null) {
+                promptTokens = result.getUsage().getPromptTokens();
+                completionTokens = result.getUsage().getCompletionTokens();
+                AppMetrics.record(AppMetrics.OPENAI_TOKENS, promptTokens, "type", "prompt");
+                AppMetrics.record(AppMetrics.OPENAI_TOKENS, completionTokens, "type", "completion");
+            }
+            if (result.getChoices() == null || result.getChoices().isEmpty()) {
+                return null;
+            }
+            CompletionChoice choice = result.getChoices().get(0);
+            return new Completion(choice.getText(), "length".equals(choice.getFinish_reason()),
+                    promptTokens, completionTokens);
+        } catch (RuntimeException e) {
+            // 타임아웃, 연결 실패, 4xx/5xx 모두 실패로 집계
+            circuitBreaker.onFailure();
+            AppMetrics.count(AppMetrics.OPENAI_CALLS, "result", AppMetrics.FAILURE);
+            log.warn("Error calling OpenAI: {}", e.getMessage());
+            return null;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public static final class Completion {
+        private final String text;
+        private final boolean truncated; // max tokens 에 걸려 잘림
+        private final long promptTokens;
+        private final long completionTokens;
+
+        public Completion(String text, boolean truncated, long promptTokens, long completionTokens) {
+            this.text = text;
+            this.truncated = truncated;
+            this.promptTokens = promptTokens;
+            this.completionTokens = completionTokens;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        public long getPromptTokens() {
+            return promptTokens;
+        }
+
+        public long getCompletionTokens() {
+            return completionTokens;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.service.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// 저장 전 계획된 근무 한 건 (직원 1명, 하루 1구간)
+public class PlannedShift {
+    private final Long userId;
+    private final LocalDate date;
+    private final LocalTime start;
+    private final LocalTime end;
+
+    public PlannedShift(Long userId, LocalDate date, LocalTime start, LocalTime end) {
+        this.userId = userId;
+        this.date = date;
+        this.start = start;
+        this.end = end;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getStart() {
+        return start;
+    }
+
+    public LocalTime getEnd() {
+        return end;
+    }
+}
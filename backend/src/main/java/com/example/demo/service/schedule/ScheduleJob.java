@@ -0,0 +1,96 @@
+package com.example.demo.service.schedule;
+
+import com.example.demo.dto.response.ScheduleResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 비동기 스케줄 생성 작업 상태 (메모리 보관)
+public class ScheduleJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String jobId;
+    private final Long workplaceId;
+    private final Long requestedBy;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String stage = "QUEUED";
+    private volatile int progress;
+    private volatile String message;
+    private volatile List<ScheduleResponse> schedules;
+    private volatile LocalDateTime finishedAt;
+
+    public ScheduleJob(String jobId, Long workplaceId, Long requestedBy) {
+        this.jobId = jobId;
+        this.workplaceId = workplaceId;
+        this.requestedBy = requestedBy;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void running(String stage, int progress) {
+        this.status = Status.RUNNING;
+        this.stage = stage;
+        this.progress = progress;
+    }
+
+    public void complete(List<ScheduleResponse> schedules) {
+        this.schedules = schedules;
+        this.stage = "DONE";
+        this.progress = 100;
+        this.message = "스케줄이 생성되었습니다";
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public Long getWorkplaceId() {
+        return workplaceId;
+    }
+
+    public Long getRequestedBy() {
+        return requestedBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public int getProgress() {
+        return progress;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public List<ScheduleResponse> getSchedules() {
+        return schedules;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
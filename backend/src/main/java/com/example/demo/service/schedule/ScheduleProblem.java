@@ -0,0 +1,251 @@
+package com.example.demo.service.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// 솔버 입력: 날짜 x 타임 격자, 직원, 역할, 가용 시간(비트마스크)
+public class ScheduleProblem {
+
+    public static final int MAX_SLOTS_PER_DAY = 63;
+
+    private final LocalDate startDate;
+    private final int dayCount;
+    private final LocalTime openTime;
+    private final int slotMinutes;
+    private final int slotsPerDay;
+    private final boolean[] workingDays;
+
+    private int minStaff = 1;
+    private int maxStaff = 1;
+    private int minShiftSlots = 1;
+    private int maxShiftSlots;
+    private int restMinutes = 0;
+
+    private final List<String> roleNames = new ArrayList<>();
+    private final List<Integer> roleMins = new ArrayList<>();
+    private final List<Integer> roleMaxes = new ArrayList<>();
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Integer> employeeRoles = new ArrayList<>();
+    private final List<long[]> availability = new ArrayList<>(); // 직원별 [day] -> 가능한 타임 비트
+    private final List<List<FixedShift>> fixedShiftsByDay;
+
+    public ScheduleProblem(LocalDate startDate, int dayCount, LocalTime openTime, int slotMinutes, int slotsPerDay) {
+        if (slotsPerDay <= 0 || slotsPerDay > MAX_SLOTS_PER_DAY) {
+            throw new IllegalArgumentException("하루 타임 수가 올바르지 않습니다: " + slotsPerDay);
+        }
+        this.startDate = startDate;
+        this.dayCount = dayCount;
+        this.openTime = openTime;
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = slotsPerDay;
+        this.workingDays = new boolean[dayCount];
+        Arrays.fill(workingDays, true);
+        this.maxShiftSlots = slotsPerDay;
+        this.fixedShiftsByDay = new ArrayList<>(dayCount);
+        for (int day = 0; day < dayCount; day++) {
+            fixedShiftsByDay.add(new ArrayList<>());
+        }
+    }
+
+    public void setStaffRange(int minStaff, int maxStaff) {
+        this.minStaff = minStaff;
+        this.maxStaff = maxStaff;
+    }
+
+    public void setShiftRange(int minShiftSlots, int maxShiftSlots) {
+        this.minShiftSlots = minShiftSlots;
+        this.maxShiftSlots = maxShiftSlots;
+    }
+
+    public void setRestMinutes(int restMinutes) {
+        this.restMinutes = restMinutes;
+    }
+
+    public void setWorkingDay(int day, boolean working) {
+        workingDays[day] = working;
+    }
+
+    // 역할 조건 추가, 역할 인덱스 반환 (max 가 null 이면 제한 없음)
+    public int addRole(String name, Integer min, Integer max) {
+        int existing = roleIndex(name);
+        if (existing >= 0) {
+            return existing;
+        }
+        roleNames.add(name);
+        roleMins.add(min != null ? min : 0);
+        roleMaxes.add(max != null ? max : Integer.MAX_VALUE);
+        return roleNames.size() - 1;
+    }
+
+    // 직원 추가, 직원 인덱스 반환 (position 이 역할 조건과 같으면 해당 역할로 집계)
+    public int addEmployee(Long userId, String position) {
+        userIds.add(userId);
+        employeeRoles.add(position == null ? -1 : roleIndex(position));
+        availability.add(new long[dayCount]);
+        return userIds.size() - 1;
+    }
+
+    public void setAvailability(int employee, int day, long slotMask) {
+        availability.get(employee)[day] = slotMask;
+    }
+
+    // 미리 정해진 근무 (AI 결과 등), 솔버는 그대로 두고 남은 인원만 채움
+    // 타임 격자에 딱 맞지 않으면 완전히 덮는 타임만 인원으로 셈
+    // 모르는 직원, 기간 밖, 같은 직원의 같은 날 두 번째 근무는 false
+    public boolean addFixedShift(PlannedShift shift) {
+        int employee = userIds.indexOf(shift.getUserId());
+        long day = ChronoUnit.DAYS.between(startDate, shift.getDate());
+        if (employee < 0 || day < 0 || day >= dayCount) {
+            return false;
+        }
+        List<FixedShift> fixed = fixedShiftsByDay.get((int) day);
+        for (FixedShift other : fixed) {
+            if (other.employee == employee) {
+                return false;
+            }
+        }
+        int openMinute = openTime.toSecondOfDay() / 60;
+        int startMinute = shift.getStart().toSecondOfDay() / 60 - openMinute;
+        int endMinute = shift.getEnd().toSecondOfDay() / 60 - openMinute;
+        int startSlot = clampSlot(Math.floorDiv(startMinute + slotMinutes - 1, slotMinutes));
+        int endSlot = Math.max(startSlot, clampSlot(Math.floorDiv(endMinute, slotMinutes)));
+        int restEndSlot = clampSlot(Math.floorDiv(endMinute + slotMinutes - 1, slotMinutes));
+        fixed.add(new FixedShift(employee, startSlot, endSlot, restEndSlot, shift));
+        return true;
+    }
+
+    private int clampSlot(int slot) {
+        return Math.max(0, Math.min(slotsPerDay, slot));
+    }
+
+    private int roleIndex(String name) {
+        for (int i = 0; i < roleNames.size(); i++) {
+            if (roleNames.get(i).equalsIgnoreCase(name.trim())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public LocalTime getOpenTime() {
+        return openTime;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public int getSlotsPerDay() {
+        return slotsPerDay;
+    }
+
+    public boolean isWorkingDay(int day) {
+        return workingDays[day];
+    }
+
+    public int getMinStaff() {
+        return minStaff;
+    }
+
+    public int getMaxStaff() {
+        return maxStaff;
+    }
+
+    public int getMinShiftSlots() {
+        return minShiftSlots;
+    }
+
+    public int getMaxShiftSlots() {
+        return maxShiftSlots;
+    }
+
+    public int getRestMinutes() {
+        return restMinutes;
+    }
+
+    public int getRoleCount() {
+        return roleNames.size();
+    }
+
+    public String getRoleName(int role) {
+        return roleNames.get(role);
+    }
+
+    public int getRoleMin(int role) {
+        return roleMins.get(role);
+    }
+
+    public int getRoleMax(int role) {
+        return roleMaxes.get(role);
+    }
+
+    public int getEmployeeCount() {
+        return userIds.size();
+    }
+
+    public Long getUserId(int employee) {
+        return userIds.get(employee);
+    }
+
+    public int getEmployeeRole(int employee) {
+        return employeeRoles.get(employee);
+    }
+
+    public long getAvailability(int employee, int day) {
+        return availability.get(employee)[day];
+    }
+
+    public List<FixedShift> getFixedShifts(int day) {
+        return Collections.unmodifiableList(fixedShiftsByDay.get(day));
+    }
+
+    public static final class FixedShift {
+        private final int employee;
+        private final int startSlot;   // 완전히 덮는 첫 타임
+        private final int endSlot;     // 완전히 덮는 마지막 타임 다음 (exclusive)
+        private final int restEndSlot; // 실제 종료 시각을 올림한 타임 (다음 날 휴식 계산용)
+        private final PlannedShift shift;
+
+        private FixedShift(int employee, int startSlot, int endSlot, int restEndSlot, PlannedShift shift) {
+            this.employee = employee;
+            this.startSlot = startSlot;
+            this.endSlot = endSlot;
+            this.restEndSlot = restEndSlot;
+            this.shift = shift;
+        }
+
+        public int getEmployee() {
+            return employee;
+        }
+
+        public int getStartSlot() {
+            return startSlot;
+        }
+
+        public int getEndSlot() {
+            return endSlot;
+        }
+
+        public int getRestEndSlot() {
+            return restEndSlot;
+        }
+
+        public PlannedShift getShift() {
+            return shift;
+        }
+    }
+}
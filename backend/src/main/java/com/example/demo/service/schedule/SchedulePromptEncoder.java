@@ -0,0 +1,88 @@
+package com.example.demo.service.schedule;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 스케줄 프롬프트 입력을 열 형식으로 인코딩 (솔버 입력 ScheduleProblem 을 그대로 사용)
+// - employees: [userId, role] 표를 한 번만
+// - days: 날짜별로 employees 순서에 맞춘 비트 문자열, i번째 문자가 '1' 이면 slots[i] 타임 근무 가능
+// (날짜, 직원)마다 객체를 만들던 방식보다 토큰이 직원 수 x 일 수에 비례해 크게 줄어듦
+public final class SchedulePromptEncoder {
+
+    private SchedulePromptEncoder() {
+    }
+
+    // [fromDay, toDay) 구간만 인코딩, 구간 안에서 가용 시간이 전혀 없는 직원은 뺌
+    public static Map<String, Object> encode(ScheduleProblem problem, int fromDay, int toDay) {
+        int slots = problem.getSlotsPerDay();
+        LocalTime open = problem.getOpenTime();
+
+        List<String> slotStarts = new ArrayList<>(slots);
+        for (int s = 0; s < slots; s++) {
+            slotStarts.add(open.plusMinutes((long) s * problem.getSlotMinutes()).toString());
+        }
+
+        List<Integer> employees = new ArrayList<>();
+        for (int e = 0; e < problem.getEmployeeCount(); e++) {
+            for (int day = fromDay; day < toDay; day++) {
+                if (problem.isWorkingDay(day) && problem.getAvailability(e, day) != 0) {
+                    employees.add(e);
+                    break;
+                }
+            }
+        }
+
+        Map<String, Object> rules = new LinkedHashMap<>();
+        rules.put("staffPerSlot", List.of(problem.getMinStaff(), problem.getMaxStaff()));
+        rules.put("shiftMinutes", List.of(
+                problem.getMinShiftSlots() * problem.getSlotMinutes(),
+                problem.getMaxShiftSlots() * problem.getSlotMinutes()));
+        rules.put("restMinutes", problem.getRestMinutes());
+        List<List<Object>> roles = new ArrayList<>();
+        for (int r = 0; r < problem.getRoleCount(); r++) {
+            int max = problem.getRoleMax(r);
+            roles.add(Arrays.asList(problem.getRoleName(r), problem.getRoleMin(r), max == Integer.MAX_VALUE ? null : max));
+        }
+        rules.put("roles", roles);
+
+        List<List<Object>> employeeRows = new ArrayList<>(employees.size());
+        for (int e : employees) {
+            int role = problem.getEmployeeRole(e);
+            employeeRows.add(Arrays.asList(problem.getUserId(e), role >= 0 ? problem.getRoleName(role) : null));
+        }
+
+        Map<String, List<String>> days = new LinkedHashMap<>();
+        char[] bits = new char[slots];
+        for (int day = fromDay; day < toDay; day++) {
+            if (!problem.isWorkingDay(day)) {
+                continue;
+            }
+            List<String> row = new ArrayList<>(employees.size());
+            for (int e : employees) {
+                long mask = problem.getAvailability(e, day);
+                if (mask == 0) {
+                    row.add("");
+                    continue;
+                }
+                for (int s = 0; s < slots; s++) {
+                    bits[s] = (mask & (1L << s)) != 0 ? '1' : '0';
+                }
+                row.add(new String(bits));
+            }
+            days.put(problem.getStartDate().plusDays(day).toString(), row);
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("slotMinutes", problem.getSlotMinutes());
+        payload.put("slots", slotStarts);
+        payload.put("close", open.plusMinutes((long) slots * problem.getSlotMinutes()).toString());
+        payload.put("rules", rules);
+        payload.put("employees", employeeRows);
+        payload.put("days", days);
+        return payload;
+    }
+}
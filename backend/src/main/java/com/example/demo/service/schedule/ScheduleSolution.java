@@ -0,0 +1,21 @@
+package com.example.demo.service.schedule;
+
+import java.util.List;
+
+public class ScheduleSolution {
+    private final List<PlannedShift> shifts;
+    private final int unfilledSlots; // 최소 인원/역할 조건을 채우지 못한 (타임 x 인원) 수
+
+    public ScheduleSolution(List<PlannedShift> shifts, int unfilledSlots) {
+        this.shifts = shifts;
+        this.unfilledSlots = unfilledSlots;
+    }
+
+    public List<PlannedShift> getShifts() {
+        return shifts;
+    }
+
+    public int getUnfilledSlots() {
+        return unfilledSlots;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.service.schedule;
+
+// 스케줄 생성 엔진 (네트워크 없이 로컬에서 동작해야 함)
+public interface ScheduleSolver {
+
+    ScheduleSolution solve(ScheduleProblem problem);
+}
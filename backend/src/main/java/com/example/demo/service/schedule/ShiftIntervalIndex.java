@@ -0,0 +1,114 @@
+package com.example.demo.service.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 직원별 근무 구간 색인 (반열린 구간 [start, end))
+// 시작 시각으로 정렬한 배열 + 종료 시각 누적 최대값으로, 겹침 여부를 이진 탐색 한 번(O(log n))에 판단
+public class ShiftIntervalIndex {
+
+    private static final ShiftIntervalIndex EMPTY = new ShiftIntervalIndex(Map.of());
+
+    private final Map<Long, Intervals> byUser;
+
+    private ShiftIntervalIndex(Map<Long, Intervals> byUser) {
+        this.byUser = byUser;
+    }
+
+    public static ShiftIntervalIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // [start, end) 와 겹치는 근무가 있는지 (끝과 시작이 맞닿는 것은 겹침 아님)
+    public boolean overlaps(Long userId, LocalDateTime start, LocalDateTime end) {
+        Intervals intervals = byUser.get(userId);
+        if (intervals == null) {
+            return false;
+        }
+        return intervals.overlaps(toSecond(start), toSecond(end));
+    }
+
+    public int size(Long userId) {
+        Intervals intervals = byUser.get(userId);
+        return intervals != null ? intervals.starts.length : 0;
+    }
+
+    private static long toSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static final class Intervals {
+        private final long[] starts;     // 오름차순
+        private final long[] maxEndUpTo; // maxEndUpTo[i] = max(ends[0..i])
+
+        private Intervals(long[] starts, long[] maxEndUpTo) {
+            this.starts = starts;
+            this.maxEndUpTo = maxEndUpTo;
+        }
+
+        // 시작 < end 인 구간들 중 가장 늦게 끝나는 구간이 start 이후에 끝나면 겹침
+        private boolean overlaps(long start, long end) {
+            int count = lowerBound(starts, end);
+            return count > 0 && maxEndUpTo[count - 1] > start;
+        }
+
+        // value 이상인 첫 위치 (= value 미만인 원소 개수)
+        private static int lowerBound(long[] sorted, long value) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] < value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    public static final class Builder {
+        private final Map<Long, List<long[]>> pending = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(Long userId, LocalDateTime start, LocalDateTime end) {
+            if (end.isAfter(start)) {
+                pending.computeIfAbsent(userId, id -> new ArrayList<>())
+                        .add(new long[]{toSecond(start), toSecond(end)});
+            }
+            return this;
+        }
+
+        public ShiftIntervalIndex build() {
+            Map<Long, Intervals> byUser = new HashMap<>();
+            for (Map.Entry<Long, List<long[]>> entry : pending.entrySet()) {
+                long[][] sorted = entry.getValue().toArray(new long[0][]);
+                Arrays.sort(sorted, Comparator.comparingLong(interval -> interval[0]));
+
+                long[] starts = new long[sorted.length];
+                long[] maxEndUpTo = new long[sorted.length];
+                long maxEnd = Long.MIN_VALUE;
+                for (int i = 0; i < sorted.length; i++) {
+                    starts[i] = sorted[i][0];
+                    maxEnd = Math.max(maxEnd, sorted[i][1]);
+                    maxEndUpTo[i] = maxEnd;
+                }
+                byUser.put(entry.getKey(), new Intervals(starts, maxEndUpTo));
+            }
+            return new ShiftIntervalIndex(byUser);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.util;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+// 서비스 계층 지표 이름과 공통 태그
+// Micrometer 전역 레지스트리에 기록 (Spring Boot 가 Prometheus 레지스트리를 전역 레지스트리에 붙임,
+// 레지스트리가 없는 단위 테스트에서는 기록하지 않음)
+// 태그 값은 고정된 몇 가지만 사용 (근무지 ID, 사용자 ID 등은 태그로 쓰지 않음)
+public final class AppMetrics {
+
+    public static final String ATTENDANCE_CHECK = "albastory.attendance.check";
+    public static final String PAYROLL_RUN = "albastory.payroll.run";
+    public static final String PAYROLL_EMPLOYEE = "albastory.payroll.employee";
+    public static final String SCHEDULE_GENERATION = "albastory.schedule.generation";
+    public static final String SCHEDULE_STAGE = "albastory.schedule.generation.stage";
+    public static final String JWT_VERIFICATION = "albastory.jwt.verification";
+    public static final String JWT_REQUESTS = "albastory.jwt.requests";
+    public static final String OPENAI_CALLS = "albastory.openai.calls";
+    public static final String OPENAI_TOKENS = "albastory.openai.tokens";
+    public static final String AI_PLAN_CACHE = "albastory.schedule.ai.cache";
+    public static final String AI_PLAN_REJECTS = "albastory.schedule.ai.rejects";
+    public static final String TIP_FEED_CACHE = "albastory.board.tip_feed.cache";
+    public static final String TIP_COUNTER_PENDING = "albastory.board.counters.pending";
+    public static final String TIP_COUNTER_FLUSHED = "albastory.board.counters.flushed";
+    public static final String BOARD_SEARCH = "albastory.board.search";
+    public static final String DATASOURCE_ACQUIRE = "albastory.datasource.acquire";
+    public static final String DATASOURCE_WAITING = "albastory.datasource.waiting";
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    private AppMetrics() {
+    }
+
+    public static Timer.Sample start() {
+        return Timer.start(Metrics.globalRegistry);
+    }
+
+    public static void stop(Timer.Sample sample, String name, String... tags) {
+        sample.stop(Metrics.timer(name, tags));
+    }
+
+    public static void count(String name, String... tags) {
+        Metrics.counter(name, tags).increment();
+    }
+
+    public static void count(String name, long amount, String... tags) {
+        Metrics.counter(name, tags).increment(amount);
+    }
+
+    // body 실행 시간을 outcome(success/failure) 태그와 함께 기록
+    public static <T> T timed(String name, Supplier<T> body, String... tags) {
+        Timer.Sample sample = start();
+        String outcome = FAILURE;
+        try {
+            T result = body.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            String[] withOutcome = Arrays.copyOf(tags, tags.length + 2);
+            withOutcome[tags.length] = "outcome";
+            withOutcome[tags.length + 1] = outcome;
+            stop(sample, name, withOutcome);
+        }
+    }
+
+    public static void record(String name, double amount, String... tags) {
+        Metrics.summary(name, tags).record(amount);
+    }
+
+    // 근무지 규모 구간 (직원 수 기준)
+    public static String tier(int employees) {
+        if (employees < 10) return "small";
+        if (employees < 50) return "medium";
+        return "large";
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// 연속 실패 횟수 기반 서킷 브레이커
+// CLOSED: 호출 허용, 연속 실패가 failureThreshold 에 닿으면 OPEN
+// OPEN: openDuration 동안 호출을 막아 호출 측이 바로 대체 경로로 가게 함
+// HALF_OPEN: 시험 호출 한 건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+// tryAcquire() 가 true 를 돌려준 호출은 반드시 onSuccess() 또는 onFailure() 로 결과를 알려야 함
+// (다른 이유로 실제 호출을 하지 않았으면 onSkipped())
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold 는 1 이상이어야 합니다");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openedAt >= openMillis) {
+                    state = State.HALF_OPEN;
+                    return true;
+                }
+                return false;
+            default:
+                // 시험 호출이 진행 중
+                return false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            consecutiveFailures = 0;
+        }
+    }
+
+    // 허가를 받고도 호출하지 않음: 시험 호출 자리를 돌려줘 다음 호출이 바로 시험할 수 있게 함
+    public synchronized void onSkipped() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.util;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+// 검증된 JWT 에서 꺼낸 현재 사용자 정보 (SecurityContext 의 principal)
+// 컨트롤러는 @AuthenticationPrincipal 로 받아서 토큰을 다시 파싱하지 않음
+public class JwtPrincipal implements AuthenticatedPrincipal {
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+
+    public JwtPrincipal(Long userId, String email, String role) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    // Authentication.getName() 은 기존처럼 이메일을 반환
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -3,52 +3,133 @@ package com.example.demo.util;
 import com.example.demo.config.JwtConfig;
 import com.example.demo.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    // 검증된 토큰 캐시 최대 개수
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
     @Autowired
     private JwtConfig jwtConfig;
 
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // 토큰 SHA-256 해시 -> 검증된 클레임 (토큰의 exp 까지만 유효)
+    // 접근 순서 LRU: 가득 차면 가장 오래 안 쓴 토큰을 버림, verifiedTokens 자신을 락으로 사용
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > MAX_CACHED_TOKENS;
+        }
+    };
+
+    // 서명 키와 파서는 한 번만 만듦 (불변, 스레드 안전)
+    @PostConstruct
+    void init() {
+        this.signingKey = jwtConfig.getSigningKey();
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    // 토큰 검증 후 현재 사용자 정보 반환
+    // 같은 토큰은 만료 전까지 서명을 다시 검증하지 않음, 유효하지 않으면 JwtException
+    public JwtPrincipal authenticate(String token) {
+        return verify(token).principal;
+    }
+
     // 토큰에서 사용자 ID 추출
     public Long extractUserId(String token) {
-        return extractClaim(token, claims -> Long.valueOf(claims.get("userId").toString()));
+        return authenticate(token).getUserId();
     }
 
     // 토큰에서 이메일 추출
     public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return authenticate(token).getEmail();
     }
 
     // 토큰에서 역할 추출
     public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role").toString());
+        return authenticate(token).getRole();
     }
 
     // 토큰에서 특정 클레임 추출
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verify(token).claims;
         return claimsResolver.apply(claims);
     }
 
-    // 모든 클레임 추출
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(jwtConfig.getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private VerifiedToken verify(String token) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached;
+        synchronized (verifiedTokens) {
+            cached = verifiedTokens.get(key);
+            if (cached != null && cached.expiresAt <= now) {
+                verifiedTokens.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            AppMetrics.count(AppMetrics.JWT_VERIFICATION + ".cache", "result", "hit");
+            return cached;
+        }
+        AppMetrics.count(AppMetrics.JWT_VERIFICATION + ".cache", "result", "miss");
+
+        Timer.Sample sample = AppMetrics.start();
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+            AppMetrics.stop(sample, AppMetrics.JWT_VERIFICATION, "outcome", AppMetrics.SUCCESS);
+        } catch (RuntimeException e) {
+            AppMetrics.stop(sample, AppMetrics.JWT_VERIFICATION, "outcome", AppMetrics.FAILURE);
+            throw e;
+        }
+        Object userId = claims.get("userId");
+        Object role = claims.get("role");
+        JwtPrincipal principal = new JwtPrincipal(
+                userId != null ? Long.valueOf(userId.toString()) : null,
+                claims.getSubject(),
+                role != null ? role.toString() : null
+        );
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : now;
+        VerifiedToken verified = new VerifiedToken(claims, principal, expiresAt);
+
+        // 서명 검증은 락 밖에서, 캐시 갱신만 락 안에서
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(key, verified);
+        }
+        return verified;
+    }
+
+    // 원문 토큰 대신 해시를 키로 사용
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     // 토큰 만료 확인
@@ -79,7 +160,7 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiration)
-                .signWith(jwtConfig.getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -88,4 +169,16 @@ public class JwtUtil {
         final String tokenEmail = extractEmail(token);
         return (tokenEmail.equals(email) && !isTokenExpired(token));
     }
+
+    private static final class VerifiedToken {
+        private final Claims claims;
+        private final JwtPrincipal principal;
+        private final long expiresAt;
+
+        private VerifiedToken(Claims claims, JwtPrincipal principal, long expiresAt) {
+            this.claims = claims;
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
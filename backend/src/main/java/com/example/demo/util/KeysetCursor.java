@@ -0,0 +1,72 @@
+package com.example.demo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 키셋 페이지네이션 커서: (정렬 키, id) 를 base64url 문자열로 인코딩
+// 정렬 키가 같은 행은 id 로 순서를 정해 페이지 경계에서 누락/중복이 없도록 함
+public class KeysetCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final String key;
+    private final long id;
+
+    private KeysetCursor(String key, long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static String encode(LocalDate key, Long id) {
+        return encode(key.toString(), id);
+    }
+
+    public static String encode(LocalDateTime key, Long id) {
+        return encode(key.toString(), id);
+    }
+
+    private static String encode(String key, Long id) {
+        String raw = key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new KeysetCursor(raw.substring(0, sep), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("잘못된 커서입니다");
+        }
+    }
+
+    public LocalDate getDate() {
+        try {
+            return LocalDate.parse(key);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("잘못된 커서입니다");
+        }
+    }
+
+    public LocalDateTime getDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("잘못된 커서입니다");
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.util;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 급여 금액 계산 (정수 분 + 1/100원 단위 long)
+// 모든 항목을 공통 분모(60분 * 가산 배율 분모 2 = 120) 위의 정수 분자로 더한 뒤 마지막에 한 번만 반올림
+// float 시간 * BigDecimal 곱셈과 달리 오차가 없고, 계산 중 객체를 만들지 않음
+@Component
+public class PayCalculator {
+
+    public static final int MINOR_SCALE = 2;
+
+    // 연장/야간/휴일 가산 배율 1.5 = 3/2
+    private static final long PREMIUM_NUMERATOR = 3;
+    private static final long PREMIUM_DENOMINATOR = 2;
+    private static final long DENOMINATOR = 60 * PREMIUM_DENOMINATOR;
+
+    // 월급 -> 시급 환산: 주 40시간 * 4.345주 = 173.8시간
+    private static final long MONTHLY_HOURS_X10 = 1738;
+
+    // hourlyMinor: 1/100원 단위 시급, fixedBaseMinor: 주급/월급 고정 기본급 (없으면 음수)
+    public void calculate(long hourlyMinor, long fixedBaseMinor,
+                          long regularMinutes, long overtimeMinutes, long nightMinutes, long holidayMinutes,
+                          PayAmounts out) {
+        if (hourlyMinor < 0 || regularMinutes < 0 || overtimeMinutes < 0 || nightMinutes < 0 || holidayMinutes < 0) {
+            throw new RuntimeException("급여 계산 값이 올바르지 않습니다");
+        }
+        long base = fixedBaseMinor >= 0
+                ? Math.multiplyExact(fixedBaseMinor, DENOMINATOR)
+                : Math.multiplyExact(hourlyMinor, regularMinutes * PREMIUM_DENOMINATOR);
+        long overtime = Math.multiplyExact(hourlyMinor, overtimeMinutes * PREMIUM_NUMERATOR);
+        long night = Math.multiplyExact(hourlyMinor, nightMinutes * PREMIUM_NUMERATOR);
+        long holiday = Math.multiplyExact(hourlyMinor, holidayMinutes * PREMIUM_NUMERATOR);
+
+        out.basePay = roundHalfUp(base, DENOMINATOR);
+        out.overtimePay = roundHalfUp(overtime, DENOMINATOR);
+        out.nightPay = roundHalfUp(night, DENOMINATOR);
+        out.holidayPay = roundHalfUp(holiday, DENOMINATOR);
+        // 합계는 항목별 반올림 값이 아니라 정확한 분자 합을 한 번 반올림
+        out.totalPay = roundHalfUp(Math.addExact(Math.addExact(base, overtime), Math.addExact(night, holiday)), DENOMINATOR);
+    }
+
+    // 주급 -> 시급 (주 40시간, 1/100원 단위 반올림)
+    public long hourlyFromWeekly(long weeklyMinor) {
+        return roundHalfUp(weeklyMinor, 40);
+    }
+
+    public long hourlyFromMonthly(long monthlyMinor) {
+        return roundHalfUp(Math.multiplyExact(monthlyMinor, 10), MONTHLY_HOURS_X10);
+    }
+
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(MINOR_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minor) {
+        return BigDecimal.valueOf(minor, MINOR_SCALE);
+    }
+
+    // 0 이상 정수 나눗셈의 HALF_UP 반올림
+    private static long roundHalfUp(long numerator, long denominator) {
+        return (numerator + denominator / 2) / denominator;
+    }
+
+    // 직원마다 새로 만들지 않고 재사용하는 결과 버퍼 (1/100원 단위)
+    public static class PayAmounts {
+        private long basePay;
+        private long overtimePay;
+        private long nightPay;
+        private long holidayPay;
+        private long totalPay;
+
+        public long getBasePay() {
+            return basePay;
+        }
+
+        public long getOvertimePay() {
+            return overtimePay;
+        }
+
+        public long getNightPay() {
+            return nightPay;
+        }
+
+        public long getHolidayPay() {
+            return holidayPay;
+        }
+
+        public long getTotalPay() {
+            return totalPay;
+        }
+    }
+}
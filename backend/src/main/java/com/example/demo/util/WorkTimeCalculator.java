@@ -0,0 +1,99 @@
+package com.example.demo.util;
+
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+public class WorkTimeCalculator {
+
+    public static final LocalTime DEFAULT_NIGHT_START = LocalTime.of(22, 0);
+    public static final LocalTime DEFAULT_NIGHT_END = LocalTime.of(6, 0);
+    public static final Set<DayOfWeek> DEFAULT_HOLIDAYS = EnumSet.of(DayOfWeek.SUNDAY);
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    // 기본 야간 구간(22:00~06:00), 일요일 휴일 기준으로 분할
+    public WorkSegments split(LocalDateTime in, LocalDateTime out) {
+        return split(in, out, DEFAULT_NIGHT_START, DEFAULT_NIGHT_END, DEFAULT_HOLIDAYS);
+    }
+
+    // 근무 구간을 야간/주간/휴일 구간과 교차시켜 분 단위로 계산
+    // 반복 횟수는 근무 분 수가 아니라 걸쳐 있는 날짜 수에 비례
+    public WorkSegments split(LocalDateTime in, LocalDateTime out,
+                              LocalTime nightStart, LocalTime nightEnd, Set<DayOfWeek> holidays) {
+        long start = toEpochMinute(in.truncatedTo(ChronoUnit.MINUTES));
+        long end = toEpochMinute(out.truncatedTo(ChronoUnit.MINUTES));
+        if (end <= start) {
+            return new WorkSegments(0, 0, 0);
+        }
+
+        long nightFrom = nightStart.toSecondOfDay() / 60;
+        long nightTo = nightEnd.toSecondOfDay() / 60;
+
+        // 자정을 넘는 야간 구간은 전날에서 시작하므로 하루 앞부터 확인
+        long firstDay = Math.floorDiv(start, MINUTES_PER_DAY) - 1;
+        long lastDay = Math.floorDiv(end - 1, MINUTES_PER_DAY);
+
+        long nightMinutes = 0;
+        long holidayMinutes = 0;
+        for (long day = firstDay; day <= lastDay; day++) {
+            long dayStart = day * MINUTES_PER_DAY;
+            if (nightFrom > nightTo) {
+                nightMinutes += overlap(start, end, dayStart + nightFrom, dayStart + MINUTES_PER_DAY + nightTo);
+            } else if (nightFrom < nightTo) {
+                nightMinutes += overlap(start, end, dayStart + nightFrom, dayStart + nightTo);
+            }
+            if (holidays.contains(dayOfWeek(day))) {
+                holidayMinutes += overlap(start, end, dayStart, dayStart + MINUTES_PER_DAY);
+            }
+        }
+        return new WorkSegments(end - start, nightMinutes, holidayMinutes);
+    }
+
+    private static long overlap(long start, long end, long windowStart, long windowEnd) {
+        return Math.max(0, Math.min(end, windowEnd) - Math.max(start, windowStart));
+    }
+
+    private static long toEpochMinute(LocalDateTime time) {
+        return time.toLocalDate().toEpochDay() * MINUTES_PER_DAY + time.toLocalTime().toSecondOfDay() / 60;
+    }
+
+    // 1970-01-01(epoch day 0)은 목요일
+    private static DayOfWeek dayOfWeek(long epochDay) {
+        return DayOfWeek.of((int) Math.floorMod(epochDay + 3, 7) + 1);
+    }
+
+    public static class WorkSegments {
+        private final long totalMinutes;
+        private final long nightMinutes;
+        private final long holidayMinutes;
+
+        public WorkSegments(long totalMinutes, long nightMinutes, long holidayMinutes) {
+            this.totalMinutes = totalMinutes;
+            this.nightMinutes = nightMinutes;
+            this.holidayMinutes = holidayMinutes;
+        }
+
+        public long getTotalMinutes() {
+            return totalMinutes;
+        }
+
+        public long getNightMinutes() {
+            return nightMinutes;
+        }
+
+        public long getDayMinutes() {
+            return totalMinutes - nightMinutes;
+        }
+
+        public long getHolidayMinutes() {
+            return holidayMinutes;
+        }
+    }
+}
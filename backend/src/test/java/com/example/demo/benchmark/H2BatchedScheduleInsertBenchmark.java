@@ -0,0 +1,12 @@
+package com.example.demo.benchmark;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bench_h2_batched",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.show-sql=false"
+})
+class H2BatchedScheduleInsertBenchmark extends ScheduleInsertBenchmark {
+}
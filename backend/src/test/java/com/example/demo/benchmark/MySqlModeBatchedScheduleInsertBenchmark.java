@@ -0,0 +1,12 @@
+package com.example.demo.benchmark;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bench_mysql_batched;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.show-sql=false"
+})
+class MySqlModeBatchedScheduleInsertBenchmark extends ScheduleInsertBenchmark {
+}
@@ -0,0 +1,13 @@
+package com.example.demo.benchmark;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+// 배치만 끈 비교 기준 (id 는 여전히 pooled 시퀀스, 예전 IDENTITY 매핑이 아님)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bench_mysql_unbatched;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=1",
+        "spring.jpa.show-sql=false"
+})
+class MySqlModeUnbatchedScheduleInsertBenchmark extends ScheduleInsertBenchmark {
+}
@@ -0,0 +1,83 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.entity.Schedule;
+import com.example.demo.entity.User;
+import com.example.demo.entity.Workplace;
+import com.example.demo.repository.ScheduleRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 스케줄 저장 속도 비교: batch_size=1 (행마다 INSERT) vs batch_size=50
+// 두 쪽 모두 현재 매핑 (pooled 시퀀스 id) 을 쓰므로 배치 크기 차이만 비교함
+// IDENTITY -> SEQUENCE 전환 자체는 측정하지 않음 (IDENTITY 는 행마다 생성 키를 받아야 해서 배치가 꺼지고,
+// batch_size=1 쪽이 그 행별 왕복에 가깝지만 시퀀스 조회 횟수와 생성 키 반환 비용은 다름)
+// 기본 test 태스크에서는 제외, ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class ScheduleInsertBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int CHUNK = 1_000;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Test
+    void insertSchedules() {
+        User user = new User();
+        user.setName("bench");
+        user.setEmail("bench@example.com");
+        user.setPassword("bench");
+        user.setRole(User.UserRole.owner);
+        em.persist(user);
+
+        Workplace workplace = new Workplace();
+        workplace.setUser(user);
+        workplace.setWorkName("bench");
+        workplace.setStatus(Workplace.WorkplaceStatus.active);
+        em.persist(workplace);
+        em.flush();
+
+        // 워밍업 후 측정
+        insert(user, workplace, CHUNK, LocalDateTime.of(2020, 1, 1, 9, 0));
+
+        long started = System.nanoTime();
+        for (int i = 0; i < ROWS / CHUNK; i++) {
+            insert(user, workplace, CHUNK, LocalDateTime.of(2021, 1, 1, 9, 0).plusDays((long) i * CHUNK));
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+
+        System.out.printf("[benchmark] %s: %d rows in %d ms (%d rows/s)%n",
+                getClass().getSimpleName(), ROWS, elapsedMillis, ROWS * 1000L / elapsedMillis);
+        assertEquals(ROWS + CHUNK, scheduleRepository.count());
+    }
+
+    private void insert(User user, Workplace workplace, int count, LocalDateTime from) {
+        List<Schedule> schedules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Schedule schedule = new Schedule();
+            schedule.setUser(user);
+            schedule.setWorkplace(workplace);
+            schedule.setStartTime(from.plusDays(i));
+            schedule.setEndTime(from.plusDays(i).plusHours(8));
+            schedule.setMethod(Schedule.Method.active);
+            schedule.setStatus(Schedule.ScheduleStatus.active);
+            schedules.add(schedule);
+        }
+        scheduleRepository.saveAll(schedules);
+        em.flush();
+        em.clear();
+    }
+}
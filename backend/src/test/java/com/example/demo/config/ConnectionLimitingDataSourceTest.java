@@ -0,0 +1,93 @@
+package com.example.demo.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConnectionLimitingDataSourceTest {
+
+    @Test
+    void closingTwiceReleasesOnePermit() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(new FakeDataSource(), 2, 50);
+
+        Connection first = dataSource.getConnection();
+        assertEquals(1, dataSource.availablePermits());
+
+        first.close();
+        first.close();
+        assertEquals(2, dataSource.availablePermits());
+    }
+
+    @Test
+    void failsFastWhenAllPermitsAreInUse() throws Exception {
+        FakeDataSource target = new FakeDataSource();
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 20);
+
+        Connection held = dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1, target.opened.get());
+
+        held.close();
+        dataSource.getConnection().close();
+        assertEquals(2, target.opened.get());
+        assertEquals(1, dataSource.availablePermits());
+    }
+
+    private static class FakeDataSource implements DataSource {
+        private final AtomicInteger opened = new AtomicInteger();
+
+        @Override
+        public Connection getConnection() {
+            opened.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> null);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return null;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) {
+            return null;
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.response.AttendanceResponse;
+import com.example.demo.dto.response.CommentResponse;
+import com.example.demo.dto.response.CursorPageResponse;
+import com.example.demo.dto.response.PostResponse;
+import com.example.demo.dto.response.PostSummaryResponse;
+import com.example.demo.entity.*;
+import com.example.demo.service.AttendanceService;
+import com.example.demo.service.PostService;
+import com.example.demo.service.WorkHourRollupService;
+import com.example.demo.service.WorkplaceService;
+import com.example.demo.service.board.BoardSearchIndex;
+import com.example.demo.service.board.TipFeedCache;
+import com.example.demo.service.board.TipCounters;
+import com.example.demo.util.WorkTimeCalculator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 목록 조회가 행 수와 무관하게 고정된 쿼리 수로 끝나는지 확인 (N+1 회귀 방지)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AttendanceService.class, PostService.class, TipFeedCache.class, TipCounters.class, TipPostJdbcRepository.class,
+        BoardSearchIndex.class, WorkplaceService.class, WorkHourRollupService.class, WorkTimeCalculator.class})
+class ReadPathQueryCountTest {
+
+    private static final int ROWS = 5;
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private WorkplaceService workplaceService;
+
+    @Autowired
+    private TipCounters tipCounters;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private PayrollRepository payrollRepository;
+
+    private Statistics statistics;
+    private Workplace workplace;
+    private TipPost post;
+    private List<User> employees;
+
+    @BeforeEach
+    void setUp() {
+        User owner = user("owner", User.UserRole.owner);
+        workplace = new Workplace();
+        workplace.setUser(owner);
+        workplace.setWorkName("카페");
+        workplace.setStatus(Workplace.WorkplaceStatus.active);
+        em.persist(workplace);
+
+        post = new TipPost();
+        post.setUser(owner);
+        post.setTitle("팁");
+        em.persist(post);
+
+        // 직원마다 다른 User 를 참조해야 N+1 이 드러남
+        employees = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            User employee = user("employee" + i, User.UserRole.employee);
+            employees.add(employee);
+
+            WorkInfo info = new WorkInfo();
+            info.setUser(employee);
+            info.setWorkplace(workplace);
+            em.persist(info);
+
+            Attendance attendance = new Attendance();
+            attendance.setUser(employee);
+            attendance.setWorkplace(workplace);
+            attendance.setWorkDate(DAY.plusDays(i));
+            attendance.setApproved(true);
+            em.persist(attendance);
+
+            Schedule schedule = new Schedule();
+            schedule.setUser(employee);
+            schedule.setWorkplace(workplace);
+            schedule.setStartTime(DAY.plusDays(i).atTime(9, 0));
+            schedule.setEndTime(DAY.plusDays(i).atTime(18, 0));
+            schedule.setMethod(Schedule.Method.manual);
+            schedule.setStatus(Schedule.ScheduleStatus.active);
+            em.persist(schedule);
+
+            Comment comment = new Comment();
+            comment.setUser(employee);
+            comment.setTipPost(post);
+            comment.setContent("댓글" + i);
+            em.persist(comment);
+
+            TipPost tip = new TipPost();
+            tip.setUser(employee);
+            tip.setTitle("팁" + i);
+            em.persist(tip);
+
+            Review review = new Review();
+            review.setUser(employee);
+            review.setWorkplace(workplace);
+            review.setRating(5);
+            em.persist(review);
+
+            WorkJoinRequest request = new WorkJoinRequest();
+            request.setUser(employee);
+            request.setWorkplace(workplace);
+            request.setStatus(WorkJoinRequest.RequestStatus.Pending);
+            em.persist(request);
+
+            Payroll payroll = new Payroll();
+            payroll.setUser(employee);
+            payroll.setWorkplace(workplace);
+            payroll.setStartDate(DAY.withDayOfMonth(1));
+            payroll.setEndDate(DAY.withDayOfMonth(31));
+            payroll.setPayType(Payroll.PayType.HOURLY);
+            payroll.setTotalHours(8f);
+            payroll.setTotalPay(BigDecimal.valueOf(80000));
+            em.persist(payroll);
+        }
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void attendancePageRunsOneQuery() {
+        CursorPageResponse<AttendanceResponse> page =
+                attendanceService.getAttendancesByWorkplace(workplace.getWorkplaceId(), null, null, null, null);
+
+        assertEquals(ROWS, page.getContent().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void schedulePageRunsOneQuery() {
+        List<Schedule> rows = scheduleRepository.findPageByWorkplace(
+                workplace.getWorkplaceId(), DAY.atStartOfDay(), DAY.plusDays(30).atStartOfDay(),
+                null, null, PageRequest.of(0, 50));
+        rows.forEach(s -> s.getUser().getName());
+        rows.forEach(s -> s.getWorkplace().getWorkName());
+
+        assertEquals(ROWS, rows.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void overwriteDeleteRunsOneStatement() {
+        int deleted = scheduleRepository.bulkDeleteByWorkplaceAndStartRange(
+                workplace.getWorkplaceId(), DAY.atStartOfDay(), DAY.plusDays(ROWS).atStartOfDay());
+
+        assertEquals(ROWS, deleted);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, scheduleRepository.count());
+    }
+
+    @Test
+    void overwriteCancelRunsOneStatement() {
+        int cancelled = scheduleRepository.bulkCancelByWorkplaceAndStartRange(
+                workplace.getWorkplaceId(), DAY.atStartOfDay(), DAY.plusDays(ROWS).atStartOfDay());
+
+        assertEquals(ROWS, cancelled);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(ROWS, scheduleRepository.findByWorkplaceWorkplaceId(workplace.getWorkplaceId()).stream()
+                .filter(s -> s.getStatus() == Schedule.ScheduleStatus.cancelled)
+                .count());
+    }
+
+    @Test
+    void tipFeedRunsTwoQueriesPerPageThenComesFromCache() {
+        CursorPageResponse<PostSummaryResponse> first = postService.getTipFeed(null, 4);
+        CursorPageResponse<PostSummaryResponse> second = postService.getTipFeed(first.getNextCursor(), 4);
+
+        assertEquals(4, first.getContent().size());
+        assertEquals(ROWS + 1 - 4, second.getContent().size());
+        assertEquals(4, statistics.getPrepareStatementCount()); // 페이지마다 목록 + 댓글 수
+
+        List<PostSummaryResponse> all = new ArrayList<>(first.getContent());
+        all.addAll(second.getContent());
+        for (PostSummaryResponse summary : all) {
+            assertEquals(summary.getPostId().equals(post.getPostId()) ? ROWS : 0, summary.getComments());
+        }
+
+        postService.getTipFeed(null, 4);
+        postService.getTipFeed(first.getNextCursor(), 4);
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void tipDetailCountsViewWithoutWritingRow() {
+        PostResponse tip = postService.getTip(post.getPostId());
+        em.flush();
+
+        assertEquals(1, tip.getViews());
+        assertEquals(1, statistics.getPrepareStatementCount()); // 조회만, UPDATE 없음
+
+        tipCounters.flush();
+        em.clear();
+        assertEquals(1, em.find(TipPost.class, post.getPostId()).getViews());
+    }
+
+    @Test
+    void reviewListRunsTwoQueries() {
+        assertEquals(ROWS, postService.listReviews(workplace.getWorkplaceId()).size());
+        assertEquals(2, statistics.getPrepareStatementCount()); // 존재 확인 + 목록
+    }
+
+    @Test
+    void commentPagesRunOneQueryEach() {
+        CursorPageResponse<CommentResponse> first = postService.listComments(post.getPostId(), null, 3);
+        CursorPageResponse<CommentResponse> second = postService.listComments(post.getPostId(), first.getNextCursor(), 3);
+
+        assertEquals(3, first.getContent().size());
+        assertEquals(ROWS - 3, second.getContent().size());
+        assertEquals("댓글3", second.getContent().get(0).getContent());
+        assertEquals(2, statistics.getPrepareStatementCount()); // 게시글 조회 없이 페이지당 한 번
+    }
+
+    @Test
+    void joinRequestListRunsOneQuery() {
+        assertEquals(ROWS, workplaceService.getJoinRequestsByWorkplace(workplace.getWorkplaceId()).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void payrollListRunsOneQuery() {
+        assertEquals(ROWS, payrollRepository.findResponsesByWorkplace(
+                workplace.getWorkplaceId(), DAY.withDayOfMonth(1), DAY.withDayOfMonth(31)).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void employeeListLoadsUsersAndOwnerInOneQuery() {
+        List<WorkInfo> infos = workplaceService.getWorkplaceEmployees(workplace.getWorkplaceId());
+        infos.forEach(w -> w.getUser().getName());
+        infos.forEach(w -> w.getWorkplace().getUser().getName());
+
+        assertEquals(ROWS, infos.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void employeeWorkplacesLoadOwnerInOneQuery() {
+        List<Workplace> workplaces = workplaceService.getWorkplacesByEmployee(employees.get(0).getUserId());
+        workplaces.forEach(w -> w.getUser().getName());
+
+        assertEquals(1, workplaces.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private User user(String name, User.UserRole role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@example.com");
+        user.setRole(role);
+        em.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.PostUpdateRequest;
+import com.example.demo.dto.response.ReactionResponse;
+import com.example.demo.entity.TipPost;
+import com.example.demo.entity.TipPostReaction;
+import com.example.demo.entity.User;
+import com.example.demo.repository.TipPostJdbcRepository;
+import com.example.demo.repository.TipPostReactionRepository;
+import com.example.demo.repository.TipPostRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.service.board.BoardSearchIndex;
+import com.example.demo.service.board.TipCounters;
+import com.example.demo.service.board.TipFeedCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 꿀팁 글 쓰기 경로와 TipCounters 반영이 실제 커밋 순서대로 섞일 때 카운트가 맞는지 확인
+// 커밋 후 콜백과 다른 커넥션의 갱신이 보여야 하므로 테스트 트랜잭션 없이 실행하고 끝나면 지움
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PostService.class, TipFeedCache.class, TipCounters.class, TipPostJdbcRepository.class, BoardSearchIndex.class})
+class TipPostWriteTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TipCounters tipCounters;
+
+    @Autowired
+    private TipPostRepository tipPostRepository;
+
+    @Autowired
+    private TipPostReactionRepository tipPostReactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User owner;
+    private TipPost post;
+
+    @BeforeEach
+    void setUp() {
+        owner = user("owner");
+        post = new TipPost();
+        post.setUser(owner);
+        post.setTitle("팁");
+        post.setContent("본문");
+        post = tipPostRepository.save(post);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tipCounters.flush();
+        tipPostReactionRepository.deleteAll();
+        tipPostRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void updateTipKeepsCountersFlushedBeforeItCommits() {
+        Long postId = post.getPostId();
+        PostUpdateRequest request = new PostUpdateRequest();
+        request.setTitle("수정한 팁");
+        request.setContent("수정한 본문");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postService.updateTip(postId, owner.getUserId(), request);
+            // updateTip 이 글을 읽은 뒤, 커밋 전에 스케줄러 스레드가 카운터를 반영
+            CompletableFuture.runAsync(() -> {
+                tipCounters.addView(postId);
+                tipCounters.addReactionAfterCommit(postId, 1, 1);
+                tipCounters.flush();
+            }).join();
+        });
+
+        TipPost saved = tipPostRepository.findById(postId).orElseThrow();
+        assertEquals("수정한 팁", saved.getTitle());
+        assertEquals(1, saved.getViews());
+        assertEquals(1, saved.getLikes());
+        assertEquals(1, saved.getDislikes());
+    }
+
+    @Test
+    void sameReactionAgainChangesNothing() {
+        Long postId = post.getPostId();
+        postService.react(postId, owner.getUserId(), "like");
+        ReactionResponse again = postService.react(postId, owner.getUserId(), "like");
+
+        assertEquals(1, again.getLikes());
+        assertCounts(1, 0);
+        assertEquals(1, tipPostReactionRepository.count());
+    }
+
+    @Test
+    void switchingReactionMovesTheCount() {
+        Long postId = post.getPostId();
+        postService.react(postId, owner.getUserId(), "like");
+        assertCounts(1, 0);
+
+        ReactionResponse switched = postService.react(postId, owner.getUserId(), "dislike");
+
+        assertEquals(0, switched.getLikes());
+        assertEquals(1, switched.getDislikes());
+        assertCounts(0, 1);
+        assertEquals(TipPostReaction.Type.dislike,
+                tipPostReactionRepository.findByPostAndUser(postId, owner.getUserId()).orElseThrow().getType());
+    }
+
+    @Test
+    void removeReactionTakesTheCountBackOnce() {
+        Long postId = post.getPostId();
+        postService.react(postId, owner.getUserId(), "dislike");
+
+        ReactionResponse removed = postService.removeReaction(postId, owner.getUserId());
+        ReactionResponse removedAgain = postService.removeReaction(postId, owner.getUserId());
+
+        assertNull(removed.getReaction());
+        assertEquals(0, removed.getDislikes());
+        assertEquals(0, removedAgain.getDislikes());
+        assertCounts(0, 0);
+        assertEquals(0, tipPostReactionRepository.count());
+    }
+
+    @Test
+    void secondReactionRowForSameUserViolatesUniqueConstraint() {
+        postService.react(post.getPostId(), owner.getUserId(), "like");
+
+        TipPostReaction duplicate = new TipPostReaction();
+        duplicate.setTipPost(post);
+        duplicate.setUser(owner);
+        duplicate.setType(TipPostReaction.Type.dislike);
+        assertThrows(DataIntegrityViolationException.class, () -> tipPostReactionRepository.saveAndFlush(duplicate));
+
+        assertCounts(1, 0);
+    }
+
+    @Test
+    void sameUserReactingTwiceAtOnceIsCountedOnce() throws Exception {
+        Long postId = post.getPostId();
+        Long userId = owner.getUserId();
+
+        // 둘 다 반응 행이 없다고 읽으면 한쪽은 유니크 제약에 걸려 롤백, 아니면 뒤쪽이 "같은 반응"으로 끝남
+        int succeeded = 0;
+        for (Future<ReactionResponse> result : concurrently(List.of(
+                () -> postService.react(postId, userId, "like"),
+                () -> postService.react(postId, userId, "like")))) {
+            try {
+                result.get();
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof RuntimeException);
+            }
+        }
+
+        assertTrue(succeeded >= 1);
+        assertCounts(1, 0);
+        assertEquals(1, tipPostReactionRepository.count());
+    }
+
+    @Test
+    void twoUsersReactingAtOnceAreBothCounted() throws Exception {
+        Long postId = post.getPostId();
+        Long first = user("first").getUserId();
+        Long second = user("second").getUserId();
+
+        for (Future<ReactionResponse> result : concurrently(List.of(
+                () -> postService.react(postId, first, "like"),
+                () -> postService.react(postId, second, "like")))) {
+            result.get();
+        }
+
+        assertCounts(2, 0);
+        assertEquals(2, tipPostReactionRepository.count());
+    }
+
+    // 카운터를 DB 에 반영한 뒤 저장된 값 확인
+    private void assertCounts(int likes, int dislikes) {
+        tipCounters.flush();
+        TipPost saved = tipPostRepository.findById(post.getPostId()).orElseThrow();
+        assertEquals(likes, saved.getLikes());
+        assertEquals(dislikes, saved.getDislikes());
+    }
+
+    // 작업들을 각자 스레드에서 동시에 시작
+    private List<Future<ReactionResponse>> concurrently(List<Callable<ReactionResponse>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ReactionResponse>> results = new ArrayList<>();
+            for (Callable<ReactionResponse> task : tasks) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private User user(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@example.com");
+        user.setRole(User.UserRole.employee);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.AttendanceCreateRequest;
+import com.example.demo.entity.Attendance;
+import com.example.demo.entity.User;
+import com.example.demo.entity.WorkHourRollup;
+import com.example.demo.entity.Workplace;
+import com.example.demo.repository.WorkHourRollupRepository;
+import com.example.demo.util.WorkTimeCalculator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({AttendanceService.class, WorkHourRollupService.class, WorkTimeCalculator.class})
+class WorkHourRollupServiceTest {
+
+    // 2025-03-01 은 토요일: 3/1~3/2, 3/31 은 월 경계 주, 3/3~3/30 은 완전한 주
+    private static final LocalDate MONTH_START = LocalDate.of(2025, 3, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2025, 3, 31);
+    private static final LocalDate WEEK = LocalDate.of(2025, 3, 3);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private WorkHourRollupService workHourRollupService;
+
+    @Autowired
+    private WorkHourRollupRepository workHourRollupRepository;
+
+    private User employee;
+    private Workplace workplace;
+
+    @BeforeEach
+    void setUp() {
+        User owner = user("owner", User.UserRole.owner);
+        employee = user("employee", User.UserRole.employee);
+        workplace = new Workplace();
+        workplace.setUser(owner);
+        workplace.setWorkName("카페");
+        workplace.setStatus(Workplace.WorkplaceStatus.active);
+        em.persist(workplace);
+        em.flush();
+    }
+
+    @Test
+    void weeklyOvertimeFollowsCreateAndUpdate() {
+        Attendance last = null;
+        for (int i = 0; i < 5; i++) {
+            last = create(WEEK.plusDays(i), 9, 19); // 9시간 (휴게 1시간 제외)
+        }
+        assertEquals(45 * 60, week(WEEK).getWorkMinutes());
+        assertEquals(5 * 60, week(WEEK).getOvertimeMinutes());
+
+        attendanceService.updateAttendance(last.getAttendanceId(),
+                last.getWorkDate().atTime(9, 0), last.getWorkDate().atTime(13, 0)); // 3.5시간
+
+        assertEquals(4 * 9 * 60 + 210, week(WEEK).getWorkMinutes());
+        assertEquals(0, week(WEEK).getOvertimeMinutes());
+        assertEquals(5, week(WEEK).getShiftCount());
+    }
+
+    @Test
+    void removingContributionWithoutRowDoesNotCreateNegativeRow() {
+        Attendance attendance = create(WEEK, 9, 19);
+        workHourRollupRepository.deleteByPeriodStartBetween(WEEK, WEEK.plusDays(6));
+
+        attendanceService.updateAttendance(attendance.getAttendanceId(), WEEK.atTime(9, 0), WEEK.atTime(13, 0));
+
+        assertEquals(210, week(WEEK).getWorkMinutes());
+        assertEquals(1, week(WEEK).getShiftCount());
+    }
+
+    @Test
+    void incrementalRollupsMatchRebuild() {
+        create(MONTH_START, 18, 23);
+        create(MONTH_START.plusDays(1), 20, 30); // 일요일, 자정 넘김
+        for (int i = 0; i < 6; i++) {
+            create(WEEK.plusDays(i), 8, 18);
+        }
+        Attendance edited = create(MONTH_END, 9, 18);
+        attendanceService.updateAttendance(edited.getAttendanceId(),
+                MONTH_END.atTime(10, 0), MONTH_END.atTime(22, 30));
+
+        Map<String, String> incremental = snapshot();
+        workHourRollupService.rebuild(MONTH_START, MONTH_END);
+
+        assertEquals(incremental, snapshot());
+    }
+
+    @Test
+    void monthlySummaryUsesOnlyInMonthDaysOfBoundaryWeeks() {
+        // 2/24 주: 2월 근무는 3월 급여에 들어가지 않아야 함
+        for (int i = 0; i < 5; i++) {
+            create(LocalDate.of(2025, 2, 24).plusDays(i), 9, 19);
+        }
+        create(MONTH_START, 9, 19);
+        for (int i = 0; i < 5; i++) {
+            create(WEEK.plusDays(i), 9, 19);
+        }
+
+        WorkHourRollupService.MonthlyHours hours = workHourRollupService
+                .summarize(workplace.getWorkplaceId(), null, MONTH_START, MONTH_END)
+                .get(employee.getUserId());
+
+        assertEquals(6, hours.getShiftCount());
+        assertEquals(6 * 9 * 60, hours.getWorkMinutes());
+        assertEquals(5 * 60, hours.getOvertimeMinutes());
+    }
+
+    private Attendance create(LocalDate date, int fromHour, int toHour) {
+        AttendanceCreateRequest request = new AttendanceCreateRequest();
+        request.setUserId(employee.getUserId());
+        request.setWorkplaceId(workplace.getWorkplaceId());
+        request.setWorkDate(date);
+        request.setCheckIn(date.atTime(fromHour, 0));
+        request.setCheckOut(date.atStartOfDay().plusHours(toHour));
+        return attendanceService.createAttendance(request);
+    }
+
+    // 증분 반영은 벌크 UPDATE 라 영속성 컨텍스트를 비우고 다시 읽음
+    private WorkHourRollup week(LocalDate monday) {
+        em.flush();
+        em.clear();
+        return workHourRollupRepository.findByWorkplaceAndPeriod(workplace.getWorkplaceId(), employee.getUserId(),
+                WorkHourRollup.Period.WEEK, monday, monday).get(0);
+    }
+
+    private Map<String, String> snapshot() {
+        em.flush();
+        em.clear();
+        List<WorkHourRollup> rows = workHourRollupRepository.findAll();
+        return rows.stream().collect(Collectors.toMap(
+                r -> r.getPeriod() + " " + r.getPeriodStart(),
+                r -> r.getWorkMinutes() + "/" + r.getNightMinutes() + "/" + r.getHolidayMinutes()
+                        + "/" + r.getOvertimeMinutes() + "/" + r.getShiftCount()));
+    }
+
+    private User user(String name, User.UserRole role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("pw");
+        user.setRole(role);
+        em.persist(user);
+        return user;
+    }
+}
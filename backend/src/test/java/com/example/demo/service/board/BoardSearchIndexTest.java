@@ -0,0 +1,114 @@
+package com.example.demo.service.board;
+
+import com.example.demo.dto.response.SearchHitResponse;
+import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.ReviewRepository;
+import com.example.demo.repository.TipPostRepository;
+import com.example.demo.repository.projection.SearchDocument;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoardSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 3, 12, 0);
+
+    private BoardSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 밖이라 indexAfterCommit 도 바로 반영
+        index = new BoardSearchIndex(ByteBuffersDirectory::new);
+        index.indexAfterCommit(new SearchDocument(SearchDocument.TIP, 1L, 1L, "편의점 야간 알바 꿀팁", "재고 정리는 새벽에 몰아서", NOW));
+        index.indexAfterCommit(new SearchDocument(SearchDocument.COMMENT, 10L, 1L, "편의점 재고 정리 팁 감사합니다", NOW));
+        index.indexAfterCommit(new SearchDocument(SearchDocument.REVIEW, 20L, 5L, "카페 사장님이 친절해요", NOW));
+        index.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void ranksTitleMatchFirstAndFiltersByType() {
+        List<SearchHitResponse> hits = index.search("편의점", null, 0, 10);
+
+        assertEquals(2, hits.size());
+        assertEquals(SearchDocument.TIP, hits.get(0).getType());
+        assertEquals(1L, hits.get(0).getId());
+        assertEquals(SearchDocument.COMMENT, hits.get(1).getType());
+        assertEquals(1L, hits.get(1).getParentId());
+
+        List<SearchHitResponse> reviews = index.search("사장님", SearchDocument.REVIEW, 0, 10);
+        assertEquals(1, reviews.size());
+        assertEquals(5L, reviews.get(0).getParentId());
+        assertTrue(index.search("사장님", SearchDocument.TIP, 0, 10).isEmpty());
+    }
+
+    @Test
+    void matchesInflectedKoreanAndPagesByOffset() {
+        // 형태소 분석: "편의점에서" -> 편의점 + 조사
+        assertEquals(2, index.search("편의점에서", null, 0, 10).size());
+        assertEquals(1, index.search("편의점", null, 1, 10).size());
+    }
+
+    @Test
+    void updatesAndDeletesAreIncremental() {
+        index.index(new SearchDocument(SearchDocument.REVIEW, 20L, 5L, "편의점보다 시급이 높아요", NOW));
+        index.deletePost(1L);
+        index.refresh();
+
+        List<SearchHitResponse> hits = index.search("편의점", null, 0, 10);
+        assertEquals(1, hits.size());
+        assertEquals(SearchDocument.REVIEW, hits.get(0).getType());
+        assertTrue(index.search("재고", null, 0, 10).isEmpty());
+    }
+
+    @Test
+    void rebuildKeepsServingOldIndexAndSkipsPostsDeletedMeanwhile() {
+        ReflectionTestUtils.setField(index, "tipPostRepository", repository(TipPostRepository.class, () -> {
+            // DB 에서 읽은 직후 (색인에 쓰기 전) 게시글 1 삭제가 커밋됨
+            List<SearchDocument> read = List.of(
+                    new SearchDocument(SearchDocument.TIP, 1L, 1L, "편의점 야간 알바 꿀팁", "재고 정리는 새벽에 몰아서", NOW),
+                    new SearchDocument(SearchDocument.TIP, 2L, 2L, "주말 알바 구하는 법", "동네 가게부터", NOW));
+            index.deletePost(1L);
+            index.refresh();
+            // 재생성 중에도 기존 색인으로 검색됨
+            assertEquals(1, index.search("사장님", null, 0, 10).size());
+            return read;
+        }));
+        ReflectionTestUtils.setField(index, "reviewRepository", repository(ReviewRepository.class, List::of));
+        ReflectionTestUtils.setField(index, "commentRepository", repository(CommentRepository.class, List::of));
+
+        index.rebuild();
+
+        assertTrue(index.search("편의점", null, 0, 10).isEmpty());
+        assertEquals(1, index.search("주말", null, 0, 10).size());
+        // 재생성 결과로 교체됨 (DB 에 없는 후기는 사라짐)
+        assertTrue(index.search("사장님", null, 0, 10).isEmpty());
+    }
+
+    // findSearchDocuments 만 쓰는 저장소 대역 (첫 배치만 돌려주고 다음 배치는 빈 목록)
+    private static <T> T repository(Class<T> type, Supplier<List<SearchDocument>> firstBatch) {
+        boolean[] called = {false};
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (called[0]) {
+                return List.of();
+            }
+            called[0] = true;
+            return firstBatch.get();
+        }));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.service.board;
+
+import com.example.demo.repository.TipPostJdbcRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TipCountersTest {
+
+    // DB 대신 반영된 변경분을 모아 두는 저장소 {views, likes, dislikes}
+    private static class RecordingRepository extends TipPostJdbcRepository {
+        private final Map<Long, long[]> counts = new ConcurrentHashMap<>();
+        private volatile boolean failing;
+
+        @Override
+        public void addCounts(Map<Long, long[]> deltas) {
+            if (failing) {
+                throw new IllegalStateException("db down");
+            }
+            deltas.forEach((postId, delta) -> counts.merge(postId, delta.clone(), (a, b) -> {
+                for (int i = 0; i < a.length; i++) {
+                    a[i] += b[i];
+                }
+                return a;
+            }));
+        }
+
+        private long total(int column) {
+            return counts.values().stream().mapToLong(c -> c[column]).sum();
+        }
+    }
+
+    @Test
+    void concurrentViewsAreNotLostWhileFlushing() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        TipCounters counters = new TipCounters(repository);
+        int threads = 8;
+        int viewsPerThread = 20_000;
+
+        runWhileFlushing(counters, threads, () -> {
+            for (int i = 0; i < viewsPerThread; i++) {
+                counters.addView((long) (i % 500));
+            }
+        });
+
+        assertEquals((long) threads * viewsPerThread, repository.total(0));
+        assertEquals(0L, counters.pendingViews(0L));
+    }
+
+    @Test
+    void hotPostReactionsAreCountedExactlyOnce() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        TipCounters counters = new TipCounters(repository);
+        int threads = 8;
+        int reactionsPerThread = 20_000;
+
+        // 한 게시글에 좋아요 / 싫어요로 바꾸기 / 취소가 섞여 몰리는 경우 (트랜잭션 밖이라 바로 반영)
+        runWhileFlushing(counters, threads, () -> {
+            for (int i = 0; i < reactionsPerThread; i++) {
+                switch (i % 4) {
+                    case 0, 1 -> counters.addReactionAfterCommit(1L, 1, 0);
+                    case 2 -> counters.addReactionAfterCommit(1L, -1, 1);
+                    default -> counters.addReactionAfterCommit(1L, 0, -1);
+                }
+            }
+        });
+
+        assertEquals((long) threads * reactionsPerThread / 4, repository.counts.get(1L)[1]);
+        assertEquals(0L, repository.counts.get(1L)[2]);
+        assertEquals(0L, counters.pendingLikes(1L));
+    }
+
+    @Test
+    void failedFlushKeepsIncrementsForNextRound() {
+        RecordingRepository repository = new RecordingRepository();
+        TipCounters counters = new TipCounters(repository);
+        counters.addView(7L);
+        counters.addView(7L);
+        counters.addReactionAfterCommit(7L, 1, 0);
+
+        repository.failing = true;
+        counters.flush();
+        assertEquals(2L, counters.pendingViews(7L));
+        assertEquals(1L, counters.pendingLikes(7L));
+
+        repository.failing = false;
+        counters.flush();
+        assertEquals(2L, repository.counts.get(7L)[0]);
+        assertEquals(1L, repository.counts.get(7L)[1]);
+        assertEquals(0L, counters.pendingViews(7L));
+    }
+
+    private void runWhileFlushing(TipCounters counters, int threads, Runnable work) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                work.run();
+                done.countDown();
+            });
+        }
+        // 요청이 계속 들어오는 동안 반영
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                counters.flush();
+            }
+        });
+        flusher.start();
+        done.await(30, TimeUnit.SECONDS);
+        running.set(false);
+        flusher.join();
+        pool.shutdown();
+        counters.flush();
+    }
+}
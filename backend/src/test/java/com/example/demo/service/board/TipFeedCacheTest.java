@@ -0,0 +1,57 @@
+package com.example.demo.service.board;
+
+import com.example.demo.dto.response.CursorPageResponse;
+import com.example.demo.dto.response.PostSummaryResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TipFeedCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TipFeedCache cache = new TipFeedCache(2, 30_000, now::get);
+
+    @Test
+    void keepsOnlyPagesReachableFromFirstPage() {
+        CursorPageResponse<PostSummaryResponse> first = page("c1");
+        CursorPageResponse<PostSummaryResponse> second = page("c2");
+        CursorPageResponse<PostSummaryResponse> third = page("c3");
+
+        cache.put(cache.version(), null, 20, first);
+        cache.put(cache.version(), "c1", 20, second);
+        cache.put(cache.version(), "c2", 20, third);  // maxPages(2) 이후
+        cache.put(cache.version(), "other", 20, page(null));  // 첫 페이지에서 이어지지 않는 커서
+
+        assertSame(first, cache.get(null, 20));
+        assertSame(second, cache.get("c1", 20));
+        assertNull(cache.get("c2", 20));
+        assertNull(cache.get("other", 20));
+        assertNull(cache.get(null, 50));
+    }
+
+    @Test
+    void dropsPagesLoadedBeforeInvalidation() {
+        long version = cache.version();
+        cache.invalidate();  // 조회 중에 글이 작성됨
+        cache.put(version, null, 20, page(null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expiresAfterTtl() {
+        cache.put(cache.version(), null, 20, page(null));
+        now.set(30_000);
+
+        assertNull(cache.get(null, 20));
+    }
+
+    private CursorPageResponse<PostSummaryResponse> page(String nextCursor) {
+        return new CursorPageResponse<>(List.of(), nextCursor, nextCursor != null, 0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AiPlanCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 6);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AiPlanCache cache = new AiPlanCache(2, 60_000, now::get);
+
+    @Test
+    void expiresAfterTtl() {
+        String key = AiPlanCache.key("model", "prompt");
+        cache.put(key, plan(1L));
+
+        now.set(59_999);
+        assertEquals(1L, cache.get(key).get(0).getUserId());
+
+        now.set(60_000);
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAtMaxEntries() {
+        String a = AiPlanCache.key("model", "a");
+        String b = AiPlanCache.key("model", "b");
+        String c = AiPlanCache.key("model", "c");
+        cache.put(a, plan(1L));
+        cache.put(b, plan(2L));
+        cache.get(a);  // a 를 최근에 씀 -> b 가 가장 오래 안 쓴 항목
+        cache.put(c, plan(3L));
+
+        assertEquals(2, cache.size());
+        assertEquals(1L, cache.get(a).get(0).getUserId());
+        assertNull(cache.get(b));
+        assertEquals(3L, cache.get(c).get(0).getUserId());
+    }
+
+    @Test
+    void doesNotCacheEmptyPlans() {
+        String key = AiPlanCache.key("model", "prompt");
+        cache.put(key, List.of());
+        cache.put(key, null);
+
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void keySeparatesModelAndPrompt() {
+        assertEquals(AiPlanCache.key("model", "prompt"), AiPlanCache.key("model", "prompt"));
+        assertNotEquals(AiPlanCache.key("model", "prompt"), AiPlanCache.key("other-model", "prompt"));
+        assertNotEquals(AiPlanCache.key("model", "prompt"), AiPlanCache.key("model", "prompt "));
+        // 모델과 프롬프트 경계가 섞이지 않음
+        assertNotEquals(AiPlanCache.key("ab", "c"), AiPlanCache.key("a", "bc"));
+
+        cache.put(AiPlanCache.key("model", "prompt"), plan(1L));
+        assertNull(cache.get(AiPlanCache.key("other-model", "prompt")));
+    }
+
+    private static List<PlannedShift> plan(Long userId) {
+        return List.of(new PlannedShift(userId, DAY, LocalTime.of(9, 0), LocalTime.of(13, 0)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AiSchedulePlannerStitchTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 6); // 월요일
+    private static final LocalDate SUNDAY = START.plusDays(6);       // 첫 번째 청크의 마지막 날
+    private static final LocalDate MONDAY = START.plusDays(7);       // 두 번째 청크의 첫 날
+
+    @Test
+    void dropsShiftsWithoutRestAcrossChunkBoundary() {
+        List<PlannedShift> firstChunk = List.of(
+                shift(1L, SUNDAY, 15, 23),
+                shift(2L, SUNDAY, 9, 13),
+                shift(3L, SUNDAY, 15, 19));
+        List<PlannedShift> secondChunk = List.of(
+                shift(1L, MONDAY, 6, 10),   // 일요일 23시 종료 후 7시간 -> 제외
+                shift(2L, MONDAY, 6, 10),   // 17시간 휴식
+                shift(3L, MONDAY, 6, 10));  // 정확히 11시간 휴식 -> 허용
+
+        List<PlannedShift> kept = AiSchedulePlanner.stitch(problem(), merge(secondChunk, firstChunk));
+
+        assertEquals(List.of(
+                "1 2025-01-12 15:00-23:00",
+                "2 2025-01-12 09:00-13:00",
+                "2 2025-01-13 06:00-10:00",
+                "3 2025-01-12 15:00-19:00",
+                "3 2025-01-13 06:00-10:00"), describe(kept));
+    }
+
+    @Test
+    void dropsShiftsLongerThanMaxShiftSlots() {
+        List<PlannedShift> firstChunk = List.of(shift(1L, SUNDAY, 13, 23));   // 10시간 -> 제외
+        List<PlannedShift> secondChunk = List.of(shift(1L, MONDAY, 6, 14));   // 8시간 (최대)
+
+        List<PlannedShift> kept = AiSchedulePlanner.stitch(problem(), merge(firstChunk, secondChunk));
+
+        // 제외된 일요일 근무는 휴식 시간 계산에 쓰이지 않음
+        assertEquals(List.of("1 2025-01-13 06:00-14:00"), describe(kept));
+    }
+
+    @Test
+    void dropsOverlappingShiftsFromDifferentChunks() {
+        List<PlannedShift> firstChunk = List.of(shift(1L, SUNDAY, 9, 13));
+        List<PlannedShift> secondChunk = List.of(shift(1L, SUNDAY, 11, 15));
+
+        List<PlannedShift> kept = AiSchedulePlanner.stitch(problem(), merge(firstChunk, secondChunk));
+
+        assertEquals(List.of("1 2025-01-12 09:00-13:00"), describe(kept));
+    }
+
+    // 06:00 ~ 23:00, 1시간 단위, 근무 4~8시간, 근무 사이 11시간 휴식
+    private static ScheduleProblem problem() {
+        ScheduleProblem problem = new ScheduleProblem(START, 14, LocalTime.of(6, 0), 60, 17);
+        problem.setShiftRange(4, 8);
+        problem.setRestMinutes(11 * 60);
+        return problem;
+    }
+
+    private static PlannedShift shift(Long userId, LocalDate date, int startHour, int endHour) {
+        return new PlannedShift(userId, date, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0));
+    }
+
+    private static List<PlannedShift> merge(List<PlannedShift> a, List<PlannedShift> b) {
+        List<PlannedShift> merged = new ArrayList<>(a);
+        merged.addAll(b);
+        return merged;
+    }
+
+    private static List<String> describe(List<PlannedShift> shifts) {
+        List<String> result = new ArrayList<>();
+        for (PlannedShift shift : shifts) {
+            result.add(shift.getUserId() + " " + shift.getDate() + " " + shift.getStart() + "-" + shift.getEnd());
+        }
+        return result;
+    }
+}
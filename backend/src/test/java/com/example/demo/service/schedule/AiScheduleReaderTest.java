@@ -0,0 +1,92 @@
+package com.example.demo.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AiScheduleReaderTest {
+
+    private final AiScheduleReader reader = new AiScheduleReader();
+
+    // 2025-01-01 ~ 01-07, 10:00 ~ 22:00, 일요일 휴무
+    private final AiScheduleReader.Rules rules = new AiScheduleReader.Rules(
+            Set.of(1L, 2L), LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 7),
+            LocalTime.of(10, 0), LocalTime.of(22, 0), date -> date.getDayOfWeek() != DayOfWeek.SUNDAY);
+
+    @Test
+    void keepsValidItemsAndReportsEachReject() {
+        String response = """
+                다음은 생성된 스케줄입니다:
+                [
+                  {"userId": 1, "date": "2025-01-02", "start": "10:00", "end": "14:00"},
+                  {"userId": 9, "date": "2025-01-02", "start": "10:00", "end": "14:00"},
+                  {"userId": 2, "date": "2025-01-08", "start": "10:00", "end": "14:00"},
+                  {"userId": 2, "date": "2025-01-05", "start": "10:00", "end": "14:00"},
+                  {"userId": 2, "date": "2025-01-02", "start": "09:00", "end": "14:00"},
+                  {"userId": 2, "date": "2025-01-02", "start": "25:00", "end": "14:00"},
+                  {"userId": 2, "date": "2025-01-02", "start": "14:00"},
+                  {"userId": 1, "date": "2025-01-02", "start": "15:00", "end": "18:00"},
+                  "oops",
+                  {"userId": "2", "date": "2025-01-03", "startTime": "18:00", "endTime": "22:00"},
+                  [2, "2025-01-04", "12:00", "16:00"],
+                  [2, "2025-01-06", "12:00"]
+                ]
+                """;
+
+        AiScheduleReader.Result result = reader.read(response, rules);
+
+        List<PlannedShift> accepted = result.getAccepted();
+        assertEquals(3, accepted.size());
+        assertEquals(1L, accepted.get(0).getUserId());
+        assertEquals(LocalTime.of(14, 0), accepted.get(0).getEnd());
+        // 예전 필드 이름(startTime/endTime)과 문자열 userId 도 허용
+        assertEquals(2L, accepted.get(1).getUserId());
+        assertEquals(LocalTime.of(18, 0), accepted.get(1).getStart());
+        // 프롬프트가 요청하는 행 형식
+        assertEquals(LocalDate.of(2025, 1, 4), accepted.get(2).getDate());
+
+        List<AiScheduleReader.RejectReason> reasons = result.getRejects().stream()
+                .map(AiScheduleReader.Reject::getReason)
+                .toList();
+        assertEquals(List.of(
+                AiScheduleReader.RejectReason.UNKNOWN_EMPLOYEE,
+                AiScheduleReader.RejectReason.OUT_OF_RANGE,
+                AiScheduleReader.RejectReason.CLOSED_DAY,
+                AiScheduleReader.RejectReason.OUTSIDE_HOURS,
+                AiScheduleReader.RejectReason.MALFORMED,
+                AiScheduleReader.RejectReason.MISSING_FIELD,
+                AiScheduleReader.RejectReason.DUPLICATE,
+                AiScheduleReader.RejectReason.MALFORMED,
+                AiScheduleReader.RejectReason.MISSING_FIELD), reasons);
+        assertEquals(8, result.getRejects().get(6).getIndex() + 1);
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    void keepsItemsReadBeforeTruncation() {
+        String response = "[{\"userId\":1,\"date\":\"2025-01-02\",\"start\":\"10:00\",\"end\":\"14:00\"},"
+                + "{\"userId\":2,\"date\":\"2025-01-02\",\"start\":\"10:00\",\"end\":\"14:00\"},"
+                + "{\"userId\":1,\"date\":\"2025-01-03\",\"sta";
+
+        AiScheduleReader.Result result = reader.read(response, rules);
+
+        assertEquals(2, result.getAccepted().size());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void returnsNothingWithoutArray() {
+        AiScheduleReader.Result result = reader.read("죄송합니다, 생성할 수 없습니다.", rules);
+
+        assertTrue(result.getAccepted().isEmpty());
+        assertTrue(result.isTruncated());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.service.schedule;
+
+import com.example.demo.repository.projection.PreferenceWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AvailabilityMatrixTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    // 10:00 부터 1시간 단위 12타임 (10:00 ~ 22:00), 7일
+    private AvailabilityMatrix matrix() {
+        return new AvailabilityMatrix(START, 7, LocalTime.of(10, 0), 60, 12);
+    }
+
+    @Test
+    void marksOnlySlotsFullyCoveredByWindow() {
+        AvailabilityMatrix matrix = matrix();
+        matrix.add(1L, START, LocalTime.of(10, 0), LocalTime.of(13, 0));
+        // 11:30 ~ 15:30 은 12:00, 13:00, 14:00 타임만 완전히 덮음
+        matrix.add(1L, START.plusDays(1), LocalTime.of(11, 30), LocalTime.of(15, 30));
+        // 영업 시간 밖으로 걸친 구간은 영업 시간 안쪽만
+        matrix.add(2L, START, LocalTime.of(8, 0), LocalTime.of(11, 0));
+        matrix.add(2L, START, LocalTime.of(20, 0), LocalTime.of(23, 59));
+
+        assertEquals(0b111L, matrix.mask(1L, 0));
+        assertEquals(0b11100L, matrix.mask(1L, 1));
+        assertEquals(0b1100_0000_0001L, matrix.mask(2L, 0));
+        assertEquals(0L, matrix.mask(3L, 0));
+        assertEquals(6, matrix.availableSlots(1L));
+    }
+
+    @Test
+    void ignoresWindowsOutsidePeriodOrShorterThanSlot() {
+        AvailabilityMatrix matrix = matrix();
+        matrix.add(1L, START.minusDays(1), LocalTime.of(10, 0), LocalTime.of(22, 0));
+        matrix.add(1L, START.plusDays(7), LocalTime.of(10, 0), LocalTime.of(22, 0));
+        matrix.add(1L, START, LocalTime.of(10, 10), LocalTime.of(10, 50));
+        matrix.add(1L, START, LocalTime.of(23, 0), LocalTime.of(23, 30));
+
+        assertEquals(0, matrix.availableSlots(1L));
+    }
+
+    @Test
+    void mergesOverlappingWindows() {
+        AvailabilityMatrix matrix = matrix().addAll(List.of(
+                new PreferenceWindow(1L, START, LocalTime.of(10, 0), LocalTime.of(14, 0)),
+                new PreferenceWindow(1L, START, LocalTime.of(12, 0), LocalTime.of(22, 0))));
+
+        assertEquals((1L << 12) - 1, matrix.mask(1L, 0));
+    }
+
+    @Test
+    void buildsMonthForLargeStore() {
+        // 직원 200명 x 31일, 하루 두 구간
+        List<PreferenceWindow> windows = new ArrayList<>();
+        for (long user = 1; user <= 200; user++) {
+            for (int day = 0; day < 31; day++) {
+                LocalDate date = START.plusDays(day);
+                windows.add(new PreferenceWindow(user, date, LocalTime.of(10, 0), LocalTime.of(14, 0)));
+                windows.add(new PreferenceWindow(user, date, LocalTime.of(18, 0), LocalTime.of(22, 0)));
+            }
+        }
+
+        AvailabilityMatrix matrix = new AvailabilityMatrix(START, 31, LocalTime.of(10, 0), 60, 12).addAll(windows);
+
+        assertEquals(0b1111_0000_1111L, matrix.mask(200L, 30));
+        assertEquals(31 * 8, matrix.availableSlots(1L));
+    }
+}
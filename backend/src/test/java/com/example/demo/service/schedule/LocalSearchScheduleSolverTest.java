@@ -0,0 +1,171 @@
+package com.example.demo.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalSearchScheduleSolverTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalTime OPEN = LocalTime.of(7, 0);
+
+    private final LocalSearchScheduleSolver solver = new LocalSearchScheduleSolver();
+
+    @Test
+    void honorsHardConstraintsOnFullMonth() {
+        ScheduleProblem problem = randomProblem(50, 31, 16, new Random(7L));
+
+        ScheduleSolution solution = solver.solve(problem);
+
+        assertTrue(!solution.getShifts().isEmpty());
+        assertConstraints(problem, solution);
+    }
+
+    // 시간은 ScheduleBenchmark.solveMonth 로 재고, 여기서는 결과 품질만 확인
+    @Test
+    void coversAlmostAllDemandOnFiftyEmployeeMonth() {
+        ScheduleProblem problem = randomProblem(50, 31, 16, new Random(2L));
+
+        ScheduleSolution solution = solver.solve(problem);
+
+        assertConstraints(problem, solution);
+        int demand = 0;
+        for (int d = 0; d < problem.getDayCount(); d++) {
+            if (!problem.isWorkingDay(d)) continue;
+            int perSlot = problem.getMinStaff();
+            for (int r = 0; r < problem.getRoleCount(); r++) {
+                perSlot += problem.getRoleMin(r);
+            }
+            demand += perSlot * problem.getSlotsPerDay();
+        }
+        // 가능 시간이 무작위라 모든 칸을 채울 수는 없음, 부족분은 최소 인원·역할 수요의 5% 이하
+        int unfilled = solution.getUnfilledSlots();
+        int limit = demand / 20;
+        assertTrue(unfilled <= limit, () -> "unfilled " + unfilled + ", limit " + limit);
+    }
+
+    @Test
+    void leavesSlotUnfilledInsteadOfAssigningUnavailableEmployee() {
+        ScheduleProblem problem = new ScheduleProblem(START, 1, OPEN, 60, 4);
+        problem.setStaffRange(1, 1);
+        int e = problem.addEmployee(1L, null);
+        problem.setAvailability(e, 0, 0b0011);
+
+        ScheduleSolution solution = solver.solve(problem);
+
+        assertEquals(1, solution.getShifts().size());
+        assertEquals(LocalTime.of(9, 0), solution.getShifts().get(0).getEnd());
+        assertEquals(2, solution.getUnfilledSlots());
+    }
+
+    @Test
+    void keepsFixedShiftsAndFillsOnlyTheGaps() {
+        ScheduleProblem problem = new ScheduleProblem(START, 1, OPEN, 60, 8);
+        problem.setStaffRange(1, 1);
+        int fixed = problem.addEmployee(1L, null);
+        int other = problem.addEmployee(2L, null);
+        problem.setAvailability(fixed, 0, 0b1111_1111);
+        problem.setAvailability(other, 0, 0b1111_1111);
+        // 격자에 맞지 않는 고정 근무 (07:30 ~ 15:00): 원래 시각 그대로 남고, 08:00 ~ 15:00 만 인원으로 셈
+        PlannedShift aiShift = new PlannedShift(1L, START, LocalTime.of(7, 30), LocalTime.of(15, 0));
+        assertTrue(problem.addFixedShift(aiShift));
+        assertTrue(!problem.addFixedShift(new PlannedShift(1L, START, LocalTime.of(12, 0), LocalTime.of(13, 0))));
+
+        ScheduleSolution solution = solver.solve(problem);
+
+        assertEquals(2, solution.getShifts().size());
+        assertTrue(solution.getShifts().contains(aiShift));
+        PlannedShift filled = solution.getShifts().stream()
+                .filter(shift -> shift.getUserId().equals(2L))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(LocalTime.of(7, 0), filled.getStart());
+        assertEquals(LocalTime.of(8, 0), filled.getEnd());
+        assertEquals(0, solution.getUnfilledSlots());
+    }
+
+    private ScheduleProblem randomProblem(int employees, int days, int slots, Random random) {
+        ScheduleProblem problem = new ScheduleProblem(START, days, OPEN, 60, slots);
+        problem.setStaffRange(2, 4);
+        problem.setShiftRange(3, 8);
+        problem.setRestMinutes(11 * 60);
+        problem.addRole("manager", 1, 2);
+        problem.addRole("kitchen", 1, null);
+        for (int d = 0; d < days; d++) {
+            if (START.plusDays(d).getDayOfWeek().getValue() == 1) {
+                problem.setWorkingDay(d, false);
+            }
+        }
+
+        String[] positions = {"manager", "kitchen", "hall", null};
+        for (int i = 0; i < employees; i++) {
+            int e = problem.addEmployee((long) (i + 1), positions[i % positions.length]);
+            for (int d = 0; d < days; d++) {
+                if (random.nextInt(10) < 3) continue;
+                int from = random.nextInt(slots / 2);
+                int to = Math.min(slots, from + 4 + random.nextInt(slots));
+                problem.setAvailability(e, d, ((1L << (to - from)) - 1) << from);
+            }
+        }
+        return problem;
+    }
+
+    private void assertConstraints(ScheduleProblem problem, ScheduleSolution solution) {
+        Map<Long, Integer> employeeIndex = new HashMap<>();
+        for (int e = 0; e < problem.getEmployeeCount(); e++) {
+            employeeIndex.put(problem.getUserId(e), e);
+        }
+
+        int slotMinutes = problem.getSlotMinutes();
+        int[][] coverage = new int[problem.getDayCount()][problem.getSlotsPerDay()];
+        int[][][] roleCoverage = new int[problem.getRoleCount()][problem.getDayCount()][problem.getSlotsPerDay()];
+        Set<String> workedDays = new HashSet<>();
+        Map<Long, LocalDateTime> lastEnd = new HashMap<>();
+
+        for (PlannedShift shift : solution.getShifts()) {
+            int e = employeeIndex.get(shift.getUserId());
+            int day = (int) (shift.getDate().toEpochDay() - START.toEpochDay());
+            int from = (int) Duration.between(OPEN, shift.getStart()).toMinutes() / slotMinutes;
+            int to = (int) Duration.between(OPEN, shift.getEnd()).toMinutes() / slotMinutes;
+
+            assertTrue(problem.isWorkingDay(day), "shift on off day");
+            assertTrue(workedDays.add(shift.getUserId() + "@" + day), "two shifts on one day");
+            assertTrue(to - from >= problem.getMinShiftSlots() && to - from <= problem.getMaxShiftSlots(), "shift length");
+
+            LocalDateTime startAt = LocalDateTime.of(shift.getDate(), shift.getStart());
+            LocalDateTime previous = lastEnd.put(shift.getUserId(), LocalDateTime.of(shift.getDate(), shift.getEnd()));
+            if (previous != null) {
+                assertTrue(Duration.between(previous, startAt).toMinutes() >= problem.getRestMinutes(), "rest hours");
+            }
+
+            for (int s = from; s < to; s++) {
+                assertTrue((problem.getAvailability(e, day) & (1L << s)) != 0, "assigned outside availability");
+                coverage[day][s]++;
+                int role = problem.getEmployeeRole(e);
+                if (role >= 0) {
+                    roleCoverage[role][day][s]++;
+                }
+            }
+        }
+
+        for (int d = 0; d < problem.getDayCount(); d++) {
+            for (int s = 0; s < problem.getSlotsPerDay(); s++) {
+                assertTrue(coverage[d][s] <= problem.getMaxStaff(), "max staff");
+                for (int r = 0; r < problem.getRoleCount(); r++) {
+                    assertTrue(roleCoverage[r][d][s] <= problem.getRoleMax(r), "role max");
+                }
+            }
+        }
+    }
+}
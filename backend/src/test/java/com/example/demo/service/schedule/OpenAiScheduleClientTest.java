@@ -0,0 +1,84 @@
+package com.example.demo.service.schedule;
+
+import com.example.demo.config.OpenAIConfig;
+import com.example.demo.util.CircuitBreaker;
+import com.theokanning.openai.service.OpenAiService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 로컬 스텁 서버로 OpenAI 호출 경로를 오프라인에서 확인
+class OpenAiScheduleClientTest {
+
+    private OpenAiStubServer stub;
+    private OpenAiService openAiService;
+    private final AtomicLong now = new AtomicLong();
+
+    private OpenAiScheduleClient client(int failureThreshold, Duration readTimeout) throws Exception {
+        stub = new OpenAiStubServer();
+        openAiService = OpenAIConfig.create("test-key", stub.baseUrl(), Duration.ofSeconds(1), readTimeout);
+        return new OpenAiScheduleClient(openAiService, "stub-model", 100, 2, 0,
+                new CircuitBreaker(failureThreshold, Duration.ofSeconds(60), now::get));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (openAiService != null) {
+            openAiService.shutdownExecutor();
+        }
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @Test
+    void returnsCompletionText() throws Exception {
+        OpenAiScheduleClient client = client(3, Duration.ofSeconds(2));
+        stub.respondWith("[{\"userId\":1,\"date\":\"2025-01-03\",\"start\":\"10:00\",\"end\":\"14:00\"}]");
+
+        OpenAiScheduleClient.Completion completion = client.complete("prompt", 100);
+        assertEquals("[{\"userId\":1,\"date\":\"2025-01-03\",\"start\":\"10:00\",\"end\":\"14:00\"}]",
+                completion.getText());
+        assertEquals(12, completion.getPromptTokens());
+        assertEquals(20, completion.getCompletionTokens());
+        assertFalse(completion.isTruncated());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    void slowUpstreamTimesOutAndOpensCircuit() throws Exception {
+        OpenAiScheduleClient client = client(2, Duration.ofMillis(200));
+        stub.delay(2_000);
+
+        assertNull(client.complete("prompt", 100));
+        assertNull(client.complete("prompt", 100));
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+
+        // 서킷이 열리면 업스트림을 부르지 않고 바로 null (호출 측은 로컬 솔버로 진행)
+        int requests = stub.requestCount();
+        assertNull(client.complete("prompt", 100));
+        assertEquals(requests, stub.requestCount());
+
+        // 열림 시간이 지나면 시험 호출 한 건으로 복구
+        stub.delay(0);
+        stub.respondWith("[]");
+        now.set(60_000);
+        assertEquals("[]", client.complete("prompt", 100).getText());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitState());
+    }
+
+    @Test
+    void serverErrorsCountAsFailures() throws Exception {
+        OpenAiScheduleClient client = client(1, Duration.ofSeconds(2));
+        stub.status(503);
+
+        assertNull(client.complete("prompt", 100));
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitState());
+    }
+}
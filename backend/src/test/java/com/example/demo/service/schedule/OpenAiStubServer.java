@@ -0,0 +1,94 @@
+package com.example.demo.service.schedule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 오프라인 테스트용 OpenAI 스텁 (POST /v1/completions 만 처리)
+// 응답 텍스트, 지연 시간, 상태 코드를 테스트에서 바꿔 가며 사용
+class OpenAiStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private volatile String completionText = "[]";
+    private volatile long delayMillis;
+    private volatile int status = 200;
+
+    OpenAiStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/completions", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    void respondWith(String text) {
+        this.completionText = text;
+    }
+
+    void delay(long millis) {
+        this.delayMillis = millis;
+    }
+
+    void status(int status) {
+        this.status = status;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            byte[] body;
+            if (status == 200) {
+                body = objectMapper.writeValueAsBytes(Map.of(
+                        "id", "cmpl-stub",
+                        "object", "text_completion",
+                        "created", 0,
+                        "model", "stub",
+                        "choices", List.of(Map.of("text", completionText, "index", 0, "finish_reason", "stop")),
+                        "usage", Map.of("prompt_tokens", 12, "completion_tokens", 20, "total_tokens", 32)));
+            } else {
+                body = objectMapper.writeValueAsBytes(Map.of(
+                        "error", Map.of("message", "stub error", "type", "server_error")));
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+}
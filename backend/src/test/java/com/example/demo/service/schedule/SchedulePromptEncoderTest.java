@@ -0,0 +1,48 @@
+package com.example.demo.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SchedulePromptEncoderTest {
+
+    @Test
+    void encodesOnlyTheChunkColumnWise() {
+        // 역할 조건에 없는 position 은 null (역할 집계 대상 아님)
+        // 2025-01-06(월) ~ 01-19, 10:00 부터 2시간 단위 4타임, 01-12 휴무
+        ScheduleProblem problem = new ScheduleProblem(LocalDate.of(2025, 1, 6), 14, LocalTime.of(10, 0), 120, 4);
+        problem.setStaffRange(1, 2);
+        problem.setShiftRange(1, 2);
+        problem.setWorkingDay(6, false);
+        int manager = problem.addRole("매니저", 1, null);
+        int a = problem.addEmployee(1L, "매니저");
+        int b = problem.addEmployee(2L, "직원");
+        int c = problem.addEmployee(3L, "직원");
+        problem.setAvailability(a, 0, 0b0011L);
+        problem.setAvailability(b, 1, 0b1100L);
+        problem.setAvailability(c, 6, 0b1111L);  // 휴무일에만 가능 -> 첫 주 청크에서 제외
+        problem.setAvailability(c, 7, 0b1111L);
+
+        Map<String, Object> payload = SchedulePromptEncoder.encode(problem, 0, 7);
+
+        assertEquals(List.of("10:00", "12:00", "14:00", "16:00"), payload.get("slots"));
+        assertEquals("18:00", payload.get("close"));
+        assertEquals(List.of(List.of(1L, "매니저"), Arrays.asList(2L, null)), payload.get("employees"));
+        assertEquals("매니저", problem.getRoleName(manager));
+
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> days = (Map<String, List<String>>) payload.get("days");
+        assertEquals(6, days.size());
+        assertEquals(List.of("1100", ""), days.get("2025-01-06"));
+        assertEquals(List.of("", "0011"), days.get("2025-01-07"));
+
+        Map<String, Object> secondWeek = SchedulePromptEncoder.encode(problem, 7, 14);
+        assertEquals(List.of(Arrays.asList(3L, null)), secondWeek.get("employees"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShiftIntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void touchingShiftsDoNotOverlap() {
+        ShiftIntervalIndex index = ShiftIntervalIndex.builder()
+                .add(1L, BASE.withHour(9), BASE.withHour(14))
+                .build();
+
+        assertFalse(index.overlaps(1L, BASE.withHour(14), BASE.withHour(18)));
+        assertFalse(index.overlaps(1L, BASE.withHour(6), BASE.withHour(9)));
+        assertTrue(index.overlaps(1L, BASE.withHour(13), BASE.withHour(15)));
+        assertTrue(index.overlaps(1L, BASE.withHour(10), BASE.withHour(11)));
+        assertFalse(index.overlaps(2L, BASE.withHour(10), BASE.withHour(11)));
+    }
+
+    @Test
+    void longEarlierShiftIsFoundBehindShorterOnes() {
+        // 정렬상 뒤에 있는 짧은 근무보다 앞선 긴 근무가 겹치는 경우 (누적 최대 종료 시각 필요)
+        ShiftIntervalIndex index = ShiftIntervalIndex.builder()
+                .add(1L, BASE.withHour(0), BASE.withHour(23))
+                .add(1L, BASE.withHour(2), BASE.withHour(3))
+                .add(1L, BASE.withHour(4), BASE.withHour(5))
+                .build();
+
+        assertTrue(index.overlaps(1L, BASE.withHour(20), BASE.withHour(22)));
+    }
+
+    @Test
+    void matchesLinearScanOnRandomShifts() {
+        Random random = new Random(11L);
+        List<LocalDateTime[]> shifts = new ArrayList<>();
+        ShiftIntervalIndex.Builder builder = ShiftIntervalIndex.builder();
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(60 * 24 * 90));
+            LocalDateTime end = start.plusMinutes(30 + random.nextInt(60 * 12));
+            shifts.add(new LocalDateTime[]{start, end});
+            builder.add(7L, start, end);
+        }
+        ShiftIntervalIndex index = builder.build();
+
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(60 * 24 * 90));
+            LocalDateTime end = start.plusMinutes(1 + random.nextInt(60 * 10));
+            boolean expected = shifts.stream()
+                    .anyMatch(s -> s[0].isBefore(end) && s[1].isAfter(start));
+            assertEquals(expected, index.overlaps(7L, start, end), () -> start + " ~ " + end);
+        }
+    }
+
+    // 조회 속도는 ScheduleBenchmark.checkTenThousandCandidates 로 재고, 여기서는 결과만 확인
+    @Test
+    void findsConflictsAmongTenThousandCandidates() {
+        Random random = new Random(3L);
+        ShiftIntervalIndex.Builder builder = ShiftIntervalIndex.builder();
+        for (long user = 0; user < 50; user++) {
+            for (int i = 0; i < 400; i++) {
+                LocalDateTime start = BASE.plusDays(i).withHour(random.nextInt(16));
+                builder.add(user, start, start.plusHours(4 + random.nextInt(5)));
+            }
+        }
+        ShiftIntervalIndex index = builder.build();
+
+        LocalDateTime[] candidates = new LocalDateTime[10_000];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = BASE.plusDays(random.nextInt(400)).withHour(random.nextInt(20));
+        }
+        int conflicts = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            if (index.overlaps((long) (i % 50), candidates[i], candidates[i].plusHours(4))) {
+                conflicts++;
+            }
+        }
+
+        assertTrue(conflicts > 0);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PayCalculatorTest {
+
+    private static final BigDecimal PREMIUM = new BigDecimal("1.5");
+    private static final BigDecimal SIXTY = BigDecimal.valueOf(60);
+
+    private final PayCalculator calculator = new PayCalculator();
+
+    @Test
+    void matchesBigDecimalReferenceOnRandomMonths() {
+        Random random = new Random(20250301L);
+        PayCalculator.PayAmounts amounts = new PayCalculator.PayAmounts();
+        for (int i = 0; i < 20000; i++) {
+            BigDecimal hourly = BigDecimal.valueOf(900_000 + random.nextInt(3_000_000), 2);
+            long regular = random.nextInt(300 * 60);
+            long overtime = random.nextInt(80 * 60);
+            long night = random.nextInt(120 * 60);
+            long holiday = random.nextInt(60 * 60);
+
+            calculator.calculate(PayCalculator.toMinor(hourly), -1, regular, overtime, night, holiday, amounts);
+
+            BigDecimal base = exact(hourly, regular, BigDecimal.ONE);
+            BigDecimal total = base
+                    .add(exact(hourly, overtime, PREMIUM))
+                    .add(exact(hourly, night, PREMIUM))
+                    .add(exact(hourly, holiday, PREMIUM));
+            long expectedTotal = PayCalculator.toMinor(total);
+            long expectedBase = PayCalculator.toMinor(base);
+            assertEquals(expectedTotal, amounts.getTotalPay(), () -> "total " + hourly + " " + regular);
+            assertEquals(expectedBase, amounts.getBasePay());
+            assertEquals(PayCalculator.toMinor(exact(hourly, night, PREMIUM)), amounts.getNightPay());
+        }
+    }
+
+    @Test
+    void fixedBaseIsUsedAsIs() {
+        PayCalculator.PayAmounts amounts = new PayCalculator.PayAmounts();
+        calculator.calculate(1_000_000, 250_000_000, 170 * 60, 60, 0, 0, amounts);
+
+        assertEquals(250_000_000, amounts.getBasePay());
+        assertEquals(250_000_000 + 1_500_000, amounts.getTotalPay());
+    }
+
+    @Test
+    void wageConversionMatchesBigDecimalDivision() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 5000; i++) {
+            BigDecimal wage = BigDecimal.valueOf(random.nextInt(Integer.MAX_VALUE), 2);
+            long minor = PayCalculator.toMinor(wage);
+            assertEquals(PayCalculator.toMinor(wage.divide(BigDecimal.valueOf(40), 2, RoundingMode.HALF_UP)),
+                    calculator.hourlyFromWeekly(minor));
+            assertEquals(PayCalculator.toMinor(wage.divide(new BigDecimal("173.8"), 2, RoundingMode.HALF_UP)),
+                    calculator.hourlyFromMonthly(minor));
+        }
+    }
+
+    // 기준 구현: 시급 * (분 / 60) * 배율을 충분한 자릿수로 계산
+    private BigDecimal exact(BigDecimal hourly, long minutes, BigDecimal multiplier) {
+        return hourly.multiply(BigDecimal.valueOf(minutes)).multiply(multiplier)
+                .divide(SIXTY, 30, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WorkTimeCalculatorTest {
+
+    private final WorkTimeCalculator calculator = new WorkTimeCalculator();
+
+    @Test
+    void defaultWindowMatchesMinuteLoopOnRandomShifts() {
+        Random random = new Random(20250101L);
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime in = randomStart(random);
+            LocalDateTime out = in.plusMinutes(1 + random.nextInt(3 * 24 * 60));
+
+            WorkTimeCalculator.WorkSegments segments = calculator.split(in, out);
+
+            assertEquals(minuteLoopNight(in, out, LocalTime.of(22, 0), LocalTime.of(6, 0)),
+                    segments.getNightMinutes(), () -> "night " + in + " ~ " + out);
+            assertEquals(minuteLoopHoliday(in, out, EnumSet.of(DayOfWeek.SUNDAY)),
+                    segments.getHolidayMinutes(), () -> "holiday " + in + " ~ " + out);
+            assertEquals(java.time.Duration.between(in, out).toMinutes(), segments.getTotalMinutes());
+        }
+    }
+
+    @Test
+    void customWindowMatchesMinuteLoopOnRandomShifts() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 2000; i++) {
+            LocalTime nightStart = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+            LocalTime nightEnd = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+            Set<DayOfWeek> holidays = EnumSet.of(DayOfWeek.of(1 + random.nextInt(7)), DayOfWeek.SUNDAY);
+            LocalDateTime in = randomStart(random);
+            LocalDateTime out = in.plusMinutes(1 + random.nextInt(2 * 24 * 60));
+
+            WorkTimeCalculator.WorkSegments segments = calculator.split(in, out, nightStart, nightEnd, holidays);
+
+            assertEquals(minuteLoopNight(in, out, nightStart, nightEnd), segments.getNightMinutes(),
+                    () -> "night " + nightStart + "-" + nightEnd + " " + in + " ~ " + out);
+            assertEquals(minuteLoopHoliday(in, out, holidays), segments.getHolidayMinutes());
+        }
+    }
+
+    @Test
+    void nonPositiveShiftHasNoSegments() {
+        LocalDateTime in = LocalDateTime.of(2025, 1, 5, 23, 0);
+        WorkTimeCalculator.WorkSegments segments = calculator.split(in, in);
+        assertEquals(0, segments.getTotalMinutes());
+        assertEquals(0, segments.getNightMinutes());
+        assertEquals(0, segments.getHolidayMinutes());
+    }
+
+    private LocalDateTime randomStart(Random random) {
+        return LocalDateTime.of(2024, 1, 1, 0, 0)
+                .plusDays(random.nextInt(730))
+                .plusMinutes(random.nextInt(24 * 60));
+    }
+
+    // 기존 AttendanceService 의 분 단위 루프 (비교 기준)
+    private long minuteLoopNight(LocalDateTime in, LocalDateTime out, LocalTime nightStart, LocalTime nightEnd) {
+        LocalDateTime cursor = in;
+        long nightMinutes = 0;
+        while (cursor.isBefore(out)) {
+            LocalTime t = cursor.toLocalTime();
+            boolean isNight;
+            if (nightStart.isAfter(nightEnd)) {
+                isNight = !t.isBefore(nightStart) || t.isBefore(nightEnd);
+            } else {
+                isNight = !t.isBefore(nightStart) && t.isBefore(nightEnd);
+            }
+            if (isNight) nightMinutes++;
+            cursor = cursor.plusMinutes(1);
+        }
+        return nightMinutes;
+    }
+
+    private long minuteLoopHoliday(LocalDateTime in, LocalDateTime out, Set<DayOfWeek> holidays) {
+        LocalDateTime cursor = in;
+        long holidayMinutes = 0;
+        while (cursor.isBefore(out)) {
+            if (holidays.contains(cursor.getDayOfWeek())) holidayMinutes++;
+            cursor = cursor.plusMinutes(1);
+        }
+        return holidayMinutes;
+    }
+}
@@ -400,7 +400,7 @@ export default function WorkplaceManageDetail({ workplaceId }: WorkplaceManageDe
     }
   };
 
-  // 스케줄 데이터 조회
+  // 스케줄 데이터 조회 (선택한 달만)
   const fetchSchedules = async () => {
     if (!workplaceId) {
       console.error('⚠️ fetchSchedules: workplaceId 없음, 호출 중단');
@@ -412,21 +412,38 @@ export default function WorkplaceManageDetail({ workplaceId }: WorkplaceManageDe
       const token =
         typeof window !== 'undefined' ? localStorage.getItem('accessToken') : null;
 
-      const res = await fetch(
-        `http://localhost:8080/api/schedule/workplace/${encodeURIComponent(workplaceId)}`,
-        {
-          headers: token ? { Authorization: `Bearer ${token}` } : {}
-        }
-      );
+      // 선택한 달 [1일, 말일] 범위 안에서만 커서 페이지를 따라감
+      const pad = (n: number) => String(n).padStart(2, '0');
+      const lastDate = new Date(scheduleSelectedYear, scheduleSelectedMonth + 1, 0).getDate();
+      const monthPrefix = `${scheduleSelectedYear}-${pad(scheduleSelectedMonth + 1)}`;
+
+      const list: any[] = [];
+      let cursor: string | null = null;
+      do {
+        const query = new URLSearchParams({
+          from: `${monthPrefix}-01`,
+          to: `${monthPrefix}-${pad(lastDate)}`,
+          size: '200',
+        });
+        if (cursor) query.set('cursor', cursor);
 
-      if (!res.ok) {
-        console.error('스케줄 조회 실패 status:', res.status);
-        setSchedules([]);
-        return;
-      }
+        const res = await fetch(
+          `http://localhost:8080/api/schedule/workplace/${encodeURIComponent(workplaceId)}?${query}`,
+          {
+            headers: token ? { Authorization: `Bearer ${token}` } : {}
+          }
+        );
 
-      const raw = await res.json();
-      const list: any[] = Array.isArray(raw) ? raw : raw.content ?? raw.data ?? [];
+        if (!res.ok) {
+          console.error('스케줄 조회 실패 status:', res.status);
+          setSchedules([]);
+          return;
+        }
+
+        const raw = await res.json();
+        list.push(...(Array.isArray(raw) ? raw : raw.content ?? raw.data ?? []));
+        cursor = raw.hasNext ? raw.nextCursor : null;
+      } while (cursor);
 
       setSchedules(list);
     } catch (e) {
@@ -448,9 +465,14 @@ export default function WorkplaceManageDetail({ workplaceId }: WorkplaceManageDe
     fetchWorkplace();
     fetchEmployees();
     fetchJoinRequests(); // 🔥 가입요청도 함께 로드
-    fetchSchedules(); // 🔥 스케줄 데이터도 함께 로드
   }, [isClient, workplaceId]);
 
+  // 스케줄은 선택한 달이 바뀔 때마다 해당 달만 다시 로드
+  useEffect(() => {
+    if (!isClient || !workplaceId) return;
+    fetchSchedules();
+  }, [isClient, workplaceId, scheduleSelectedYear, scheduleSelectedMonth]);
+
   // 출퇴근 기록 Mock 데이터 (이 부분은 아직 더미 유지)
   const getAttendanceRecords = (employeeId: number): AttendanceRecord[] => {
     return [
@@ -242,14 +242,33 @@ export default function EmployeeDashboard() {
 
     (async () => {
       try {
-        const res = await fetch('http://localhost:8080/api/schedule/my', {
-          headers: { Authorization: `Bearer ${token}` },
-        });
-        if (!res.ok) {
-          console.warn('스케줄 조회 실패 상태코드:', res.status);
-          return;
-        }
-        const data: MySchedule[] = await res.json();
+        // 대시보드는 이번 달 통계/오늘 일정만 쓰므로 이번 달 [1일, 말일] 범위만 조회
+        const today = new Date();
+        const pad = (n: number) => String(n).padStart(2, '0');
+        const lastDate = new Date(today.getFullYear(), today.getMonth() + 1, 0).getDate();
+        const monthPrefix = `${today.getFullYear()}-${pad(today.getMonth() + 1)}`;
+
+        const data: MySchedule[] = [];
+        let cursor: string | null = null;
+        do {
+          const query = new URLSearchParams({
+            from: `${monthPrefix}-01`,
+            to: `${monthPrefix}-${pad(lastDate)}`,
+            size: '200',
+          });
+          if (cursor) query.set('cursor', cursor);
+
+          const res = await fetch(`http://localhost:8080/api/schedule/my?${query}`, {
+            headers: { Authorization: `Bearer ${token}` },
+          });
+          if (!res.ok) {
+            console.warn('스케줄 조회 실패 상태코드:', res.status);
+            return;
+          }
+          const page = await res.json();
+          data.push(...(Array.isArray(page) ? page : page.content ?? []));
+          cursor = page.hasNext ? page.nextCursor : null;
+        } while (cursor);
         setMySchedules(data);
       } catch (e) {
         console.error('스케줄 조회 실패:', e);